@@ -0,0 +1,49 @@
+package com.rolling.pokerly.core.cache;
+
+import java.util.List;
+
+/**
+ * 캐시 이름 모음
+ *
+ * 유저 단위 캐시는 키의 첫 번째 값이 userId 인 리스트여야 한다.
+ * 예) key = "{#userId, #year, #month}"
+ * 새 캐시를 추가하면 application.yaml 의 spring.cache.cache-names 에도 같이 등록할 것
+ * (시작 시점에 만들어진 캐시만 actuator 메트릭에 잡힌다).
+ */
+public final class CacheNames {
+
+    public static final String STATISTICS_MONTHLY = "statisticsMonthly";
+    public static final String STATISTICS_SESSIONS = "statisticsSessions";
+    public static final String STATISTICS_VENUES = "statisticsVenues";
+    public static final String DASHBOARD_MONTHLY = "dashboardMonthly";
+    public static final String VENUE_DIRECTORY = "venueDirectory";
+    public static final String HAND_LOG_STATS = "handLogStats";
+
+    /** 게임 세션이 바뀌면 전부 */
+    public static final List<String> SESSION_DEPENDENT = List.of(
+            STATISTICS_MONTHLY,
+            STATISTICS_SESSIONS,
+            STATISTICS_VENUES,
+            DASHBOARD_MONTHLY
+    );
+
+    /** 매장 이름 / 포인트가 바뀌면 */
+    public static final List<String> VENUE_DEPENDENT = List.of(
+            VENUE_DIRECTORY,
+            STATISTICS_VENUES,
+            DASHBOARD_MONTHLY
+    );
+
+    /** 일지(컨디션 점수)가 바뀌면 */
+    public static final List<String> JOURNAL_DEPENDENT = List.of(
+            STATISTICS_SESSIONS
+    );
+
+    /** 핸드 기록(핸드 / 구간 BB)이 바뀌면 */
+    public static final List<String> HAND_LOG_DEPENDENT = List.of(
+            HAND_LOG_STATS
+    );
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,58 @@
+package com.rolling.pokerly.core.cache;
+
+import java.util.Collection;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유저 단위 캐시 무효화
+ *
+ * 키가 {userId, ...} 형태인 항목 중 해당 유저 것만 지운다.
+ * 캐시마다 유지하는 userId 키 인덱스(UserKeyedCaffeineCache)로 찾아서, 비용은 그 유저 항목 수만큼이다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 지워서,
+ * 커밋 전 값이 다시 캐시에 올라가는 것을 막는다 (롤백 시에는 지우지 않음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evict(Long userId, Collection<String> cacheNames) {
+        if (userId == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId, cacheNames);
+                }
+            });
+            return;
+        }
+        evictNow(userId, cacheNames);
+    }
+
+    private void evictNow(Long userId, Collection<String> cacheNames) {
+        for (String name : cacheNames) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null) continue;
+
+            if (cache instanceof UserKeyedCaffeineCache userKeyed) {
+                userKeyed.evictUser(userId);
+            } else {
+                // 인덱스가 없는 캐시(테스트 등)는 유저 구분 없이 비운다
+                cache.clear();
+            }
+        }
+        log.debug("[CACHE] 유저 캐시 무효화 userId={}, caches={}", userId, cacheNames);
+    }
+}
@@ -0,0 +1,58 @@
+package com.rolling.pokerly.core.cache;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 캐시 하나의 userId → 키 목록 인덱스
+ *
+ * 키가 {userId, ...} 리스트인 항목만 담는다.
+ * 유저별 키 집합은 ConcurrentHashMap 의 compute / remove 안에서만 바꿔서,
+ * 추가와 비우기(drain)가 엇갈려도 키가 떨어져 나간 집합에 들어가지 않는다.
+ * 캐시에서 이미 빠진 키가 잠깐 남아 있는 것은 괜찮다 (무효화해도 아무 일 없음).
+ */
+final class UserKeyIndex {
+
+    private final ConcurrentMap<Long, Set<Object>> keysByUser = new ConcurrentHashMap<>();
+
+    void add(Object key) {
+        Long userId = userIdOf(key);
+        if (userId == null) return;
+
+        keysByUser.compute(userId, (id, keys) -> {
+            Set<Object> result = keys != null ? keys : new HashSet<>();
+            result.add(key);
+            return result;
+        });
+    }
+
+    void remove(Object key) {
+        Long userId = userIdOf(key);
+        if (userId == null) return;
+
+        keysByUser.computeIfPresent(userId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /** 해당 유저 키를 인덱스에서 떼어내서 돌려준다. */
+    Set<Object> drain(Long userId) {
+        Set<Object> keys = keysByUser.remove(userId);
+        return keys != null ? keys : Set.of();
+    }
+
+    void clear() {
+        keysByUser.clear();
+    }
+
+    static Long userIdOf(Object key) {
+        if (key instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
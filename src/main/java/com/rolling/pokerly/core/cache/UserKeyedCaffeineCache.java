@@ -0,0 +1,77 @@
+package com.rolling.pokerly.core.cache;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * userId 키 인덱스를 같이 유지하는 Caffeine 캐시
+ *
+ * - 넣을 때는 캐시에 먼저 넣고 인덱스에 추가
+ * - 지울 때는 인덱스에서 먼저 빼고 캐시에서 삭제
+ * 이 순서라서 동시에 같은 키를 넣고 지워도 "캐시에는 있는데 인덱스에는 없는" 상태가 생기지 않는다.
+ * 크기 / 만료로 빠지는 항목은 UserKeyedCaffeineCacheManager 의 evictionListener 가 인덱스에서 뺀다.
+ */
+public class UserKeyedCaffeineCache extends CaffeineCache {
+
+    private final UserKeyIndex index;
+
+    UserKeyedCaffeineCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+            UserKeyIndex index,
+            boolean allowNullValues
+    ) {
+        super(name, cache, allowNullValues);
+        this.index = index;
+    }
+
+    /** 해당 유저 항목만 지운다 - 캐시 전체 크기와 무관하게 그 유저 항목 수만큼 */
+    public void evictUser(Long userId) {
+        getNativeCache().invalidateAll(index.drain(userId));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        index.add(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        index.add(key);
+        return existing;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        T value = super.get(key, valueLoader);
+        index.add(key);
+        return value;
+    }
+
+    @Override
+    public void evict(Object key) {
+        index.remove(key);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        index.remove(key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        index.clear();
+        return super.invalidate();
+    }
+}
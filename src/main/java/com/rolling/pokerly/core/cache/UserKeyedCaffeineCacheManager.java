@@ -0,0 +1,46 @@
+package com.rolling.pokerly.core.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+
+/**
+ * 캐시마다 userId 키 인덱스를 붙인 CaffeineCacheManager
+ *
+ * 스펙(크기 / 만료 / recordStats)은 spring.cache.caffeine.spec 그대로 쓰고,
+ * 크기·만료로 빠지는 항목은 evictionListener(제거와 같은 시점에 동기 실행)로 인덱스에서도 뺀다.
+ * 캐시 이름은 고정 (등록되지 않은 이름은 null).
+ */
+public class UserKeyedCaffeineCacheManager extends CaffeineCacheManager {
+
+    private final CaffeineSpec spec;
+    private final Map<String, UserKeyIndex> indexes = new ConcurrentHashMap<>();
+
+    public UserKeyedCaffeineCacheManager(String spec, String... cacheNames) {
+        this.spec = CaffeineSpec.parse(spec);
+        setCacheNames(Arrays.asList(cacheNames));
+    }
+
+    @Override
+    protected com.github.benmanes.caffeine.cache.Cache<Object, Object> createNativeCaffeineCache(String name) {
+        UserKeyIndex index = indexOf(name);
+        return Caffeine.from(spec)
+                .evictionListener((key, value, cause) -> index.remove(key))
+                .build();
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new UserKeyedCaffeineCache(name, cache, indexOf(name), isAllowNullValues());
+    }
+
+    private UserKeyIndex indexOf(String name) {
+        return indexes.computeIfAbsent(name, n -> new UserKeyIndex());
+    }
+}
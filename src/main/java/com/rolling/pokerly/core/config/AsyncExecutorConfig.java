@@ -0,0 +1,37 @@
+package com.rolling.pokerly.core.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 조회 병렬화용 스레드 풀
+ *
+ * 작업마다 DB 커넥션을 하나씩 쓰므로 max-size 는 커넥션 풀(기본 10)보다 작게 둔다.
+ * 큐가 가득 차면 호출한 요청 스레드에서 그냥 실행한다.
+ */
+@Configuration
+public class AsyncExecutorConfig {
+
+    public static final String DASHBOARD_EXECUTOR = "dashboardExecutor";
+
+    @Bean(name = DASHBOARD_EXECUTOR)
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${pokerly.dashboard.executor.core-size:4}") int coreSize,
+            @Value("${pokerly.dashboard.executor.max-size:6}") int maxSize,
+            @Value("${pokerly.dashboard.executor.queue-capacity:100}") int queueCapacity
+    ) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
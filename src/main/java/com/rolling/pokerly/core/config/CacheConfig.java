@@ -0,0 +1,27 @@
+package com.rolling.pokerly.core.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.rolling.pokerly.core.cache.UserKeyedCaffeineCacheManager;
+
+/**
+ * 캐시 매니저
+ *
+ * 유저 단위 무효화(UserCacheEvictor)가 캐시 전체 키를 훑지 않도록
+ * 캐시마다 userId 키 인덱스를 유지하는 매니저를 직접 등록한다.
+ * 캐시 이름 / 스펙은 application.yaml 의 spring.cache 값을 그대로 사용.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${spring.cache.caffeine.spec}") String spec,
+            @Value("${spring.cache.cache-names}") String[] cacheNames
+    ) {
+        return new UserKeyedCaffeineCacheManager(spec, cacheNames);
+    }
+}
@@ -0,0 +1,110 @@
+package com.rolling.pokerly.core.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도메인 변경 아웃박스 행 (domain_outbox)
+ */
+@Entity
+@Table(name = "domain_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DomainOutboxEvent {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_DEAD = "DEAD";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final long MAX_BACKOFF_SECONDS = 300;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "aggregate_type", nullable = false)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    public static DomainOutboxEvent pending(Long userId, String aggregateType, Long aggregateId, String eventType) {
+        var now = LocalDateTime.now();
+        return DomainOutboxEvent.builder()
+                .userId(userId)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .status(STATUS_PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public void markDone(LocalDateTime now) {
+        this.attempts++;
+        this.status = STATUS_DONE;
+        this.processedAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패 기록. 한도를 넘기면 DEAD, 아니면 지수 백오프(최대 5분) 후 재시도
+     */
+    public void markFailed(LocalDateTime now, int maxAttempts, String error) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+
+        if (attempts >= maxAttempts) {
+            this.status = STATUS_DEAD;
+            this.processedAt = now;
+            return;
+        }
+        long backoff = Math.min(1L << Math.min(attempts, 20), MAX_BACKOFF_SECONDS);
+        this.nextAttemptAt = now.plusSeconds(backoff);
+    }
+
+    public boolean isDead() {
+        return STATUS_DEAD.equals(status);
+    }
+}
@@ -0,0 +1,47 @@
+package com.rolling.pokerly.core.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DomainOutboxRepository extends JpaRepository<DomainOutboxEvent, Long> {
+
+    /**
+     * 처리할 이벤트 잠금 (id 순)
+     *
+     * - SKIP LOCKED: 다른 디스패처가 잡고 있는 행은 건너뛴다 (중복 처리 없음)
+     * - 같은 유저의 앞선 이벤트가 재시도 대기 중이면 뒤 이벤트도 잡지 않는다 (유저 단위 순서 유지)
+     */
+    @Query(value = """
+        SELECT o.*
+        FROM domain_outbox o
+        WHERE o.status = 'PENDING'
+          AND o.next_attempt_at <= :now
+          AND NOT EXISTS (
+              SELECT 1
+              FROM domain_outbox p
+              WHERE p.user_id = o.user_id
+                AND p.status = 'PENDING'
+                AND p.id < o.id
+                AND p.next_attempt_at > :now
+          )
+        ORDER BY o.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<DomainOutboxEvent> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(String status);
+
+    @Query("select min(o.createdAt) from DomainOutboxEvent o where o.status = 'PENDING'")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query("delete from DomainOutboxEvent o where o.status = 'DONE' and o.processedAt < :before")
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+}
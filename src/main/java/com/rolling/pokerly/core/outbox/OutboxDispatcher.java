@@ -0,0 +1,149 @@
+package com.rolling.pokerly.core.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 디스패처
+ *
+ * - poll-delay-ms 마다 PENDING 이벤트를 batch-size 개씩 잠그고(FOR UPDATE SKIP LOCKED) 핸들러 호출
+ * - 배치가 가득 차 있으면 최대 MAX_BATCHES_PER_POLL 번까지 이어서 비운다
+ * - 같은 유저 이벤트는 id 순서대로 처리하고, 하나가 실패하면 그 유저의 뒤 이벤트는 다음으로 미룬다
+ *   (이 순서는 디스패처 인스턴스 하나 안에서만 보장된다. 인스턴스가 여러 개면 SKIP LOCKED 때문에
+ *    다른 인스턴스가 같은 유저의 뒤 이벤트를 먼저 잡을 수 있으므로, 핸들러는 순서와 무관한 재계산형으로 만든다)
+ * - 메트릭: pokerly.outbox.pending / pokerly.outbox.lag.seconds (가장 오래된 PENDING 나이),
+ *           pokerly.outbox.processed / failed / dead, pokerly.outbox.handle (핸들러 실행 시간)
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final int MAX_BATCHES_PER_POLL = 10;
+
+    private final DomainOutboxRepository outboxRepository;
+    private final Map<String, List<OutboxEventHandler>> handlersByType = new HashMap<>();
+    private final TransactionTemplate batchTx;
+    private final TransactionTemplate handlerTx;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter processed;
+    private final Counter failed;
+    private final Counter dead;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OutboxDispatcher(
+            DomainOutboxRepository outboxRepository,
+            List<OutboxEventHandler> handlers,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${pokerly.outbox.batch-size:100}") int batchSize,
+            @Value("${pokerly.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${pokerly.outbox.retention-days:7}") int retentionDays
+    ) {
+        this.outboxRepository = outboxRepository;
+        for (OutboxEventHandler h : handlers) {
+            for (String type : h.eventTypes()) {
+                handlersByType.computeIfAbsent(type, k -> new ArrayList<>()).add(h);
+            }
+        }
+
+        this.batchTx = new TransactionTemplate(transactionManager);
+        // 핸들러 실패가 배치 트랜잭션(잠금/상태 기록)을 롤백시키지 않도록 분리
+        this.handlerTx = new TransactionTemplate(transactionManager);
+        this.handlerTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+
+        this.meterRegistry = meterRegistry;
+        this.processed = meterRegistry.counter("pokerly.outbox.processed");
+        this.failed = meterRegistry.counter("pokerly.outbox.failed");
+        this.dead = meterRegistry.counter("pokerly.outbox.dead");
+        Gauge.builder("pokerly.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("pokerly.outbox.lag.seconds", lagSeconds, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${pokerly.outbox.poll-delay-ms:1000}")
+    public void poll() {
+        for (int i = 0; i < MAX_BATCHES_PER_POLL; i++) {
+            Integer claimed = batchTx.execute(status -> dispatchBatch());
+            if (claimed == null || claimed < batchSize) break;
+        }
+        refreshLag();
+    }
+
+    @Scheduled(cron = "${pokerly.outbox.purge-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = batchTx.execute(status -> outboxRepository.deleteDoneBefore(before));
+        log.info("[OUTBOX] 처리 완료 이벤트 정리 before={}, deleted={}", before, deleted);
+    }
+
+    private int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DomainOutboxEvent> batch = outboxRepository.lockDueBatch(now, batchSize);
+
+        Set<Long> blockedUsers = new HashSet<>();
+        for (DomainOutboxEvent event : batch) {
+            // 같은 유저의 앞 이벤트가 실패했으면 순서를 지키기 위해 다음 poll 로
+            if (blockedUsers.contains(event.getUserId())) continue;
+
+            try {
+                for (OutboxEventHandler handler : handlersByType.getOrDefault(event.getEventType(), List.of())) {
+                    Timer.builder("pokerly.outbox.handle")
+                            .tag("eventType", event.getEventType())
+                            .register(meterRegistry)
+                            .record(() -> handlerTx.executeWithoutResult(s -> handler.handle(event)));
+                }
+                event.markDone(LocalDateTime.now());
+                processed.increment();
+            } catch (RuntimeException e) {
+                event.markFailed(LocalDateTime.now(), maxAttempts, e.getClass().getSimpleName() + ": " + e.getMessage());
+                blockedUsers.add(event.getUserId());
+                failed.increment();
+
+                if (event.isDead()) {
+                    dead.increment();
+                    log.error("[OUTBOX] 재시도 한도 초과 id={}, type={}, userId={}",
+                            event.getId(), event.getEventType(), event.getUserId(), e);
+                } else {
+                    log.warn("[OUTBOX] 처리 실패 id={}, type={}, userId={}, attempts={} - {}",
+                            event.getId(), event.getEventType(), event.getUserId(), event.getAttempts(), e.getMessage());
+                }
+            }
+        }
+        return batch.size();
+    }
+
+    private void refreshLag() {
+        pending.set(outboxRepository.countByStatus(DomainOutboxEvent.STATUS_PENDING));
+        lagSeconds.set(outboxRepository.findOldestPendingCreatedAt()
+                .map(oldest -> Math.max(0L, Duration.between(oldest, LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+}
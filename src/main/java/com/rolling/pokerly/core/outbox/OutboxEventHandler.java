@@ -0,0 +1,17 @@
+package com.rolling.pokerly.core.outbox;
+
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트 프로젝션 핸들러
+ *
+ * 빈으로 등록하면 디스패처가 eventTypes() 에 해당하는 이벤트를 넘겨준다.
+ * 핸들러마다 새 트랜잭션에서 실행되며, 예외를 던지면 이벤트가 재시도된다.
+ * 같은 이벤트가 두 번 들어올 수 있으므로 재계산형(멱등)으로 만든다.
+ */
+public interface OutboxEventHandler {
+
+    Set<String> eventTypes();
+
+    void handle(DomainOutboxEvent event);
+}
@@ -0,0 +1,34 @@
+package com.rolling.pokerly.core.outbox;
+
+/**
+ * 아웃박스 aggregate / event 타입 이름 모음
+ *
+ * 처리할 핸들러(OutboxEventHandler)가 있는 이벤트만 둔다.
+ * 핸들러 없는 이벤트를 기록하면 쓰기마다 INSERT + 이후 UPDATE 비용만 든다.
+ */
+public final class OutboxEvents {
+
+    // aggregate
+    public static final String GAME_SESSION = "GAME_SESSION";
+    public static final String VENUE = "VENUE";
+    public static final String JOURNAL = "JOURNAL";
+
+    // 게임 세션 → 연속 기록 / 매장 통계 / 컨디션 분석
+    public static final String SESSION_CREATED = "SESSION_CREATED";
+    public static final String SESSION_UPDATED = "SESSION_UPDATED";
+    public static final String SESSION_DELETED = "SESSION_DELETED";
+    public static final String SESSIONS_IMPORTED = "SESSIONS_IMPORTED";   // aggregateId 없음
+
+    // 매장 → 매장 통계 (매장 이름)
+    public static final String VENUE_CREATED = "VENUE_CREATED";
+    public static final String VENUE_UPDATED = "VENUE_UPDATED";
+    public static final String VENUE_DELETED = "VENUE_DELETED";
+
+    // 일지 → 컨디션 분석
+    public static final String JOURNAL_CREATED = "JOURNAL_CREATED";
+    public static final String JOURNAL_UPDATED = "JOURNAL_UPDATED";
+    public static final String JOURNAL_DELETED = "JOURNAL_DELETED";
+
+    private OutboxEvents() {
+    }
+}
@@ -0,0 +1,25 @@
+package com.rolling.pokerly.core.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 기록
+ *
+ * 반드시 도메인 변경과 같은 트랜잭션 안에서 호출한다 (MANDATORY).
+ * 롤백되면 이벤트도 같이 사라진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final DomainOutboxRepository outboxRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Long userId, String aggregateType, Long aggregateId, String eventType) {
+        outboxRepository.save(DomainOutboxEvent.pending(userId, aggregateType, aggregateId, eventType));
+    }
+}
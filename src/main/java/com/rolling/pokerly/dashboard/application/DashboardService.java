@@ -3,17 +3,23 @@ package com.rolling.pokerly.dashboard.application;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.config.AsyncExecutorConfig;
 import com.rolling.pokerly.dashboard.dto.DashboardMonthlyResponse;
 import com.rolling.pokerly.dashboard.dto.DashboardMonthlyResponse.KpiSection;
 import com.rolling.pokerly.dashboard.dto.DashboardMonthlyResponse.RecentSession;
@@ -23,48 +29,98 @@ import com.rolling.pokerly.dashboard.dto.DashboardMonthlyResponse.TrendPoint;
 import com.rolling.pokerly.dashboard.dto.DashboardMonthlyResponse.VenueStat;
 import com.rolling.pokerly.gamesession.domain.GameSession;
 import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
-import com.rolling.pokerly.venue.domain.Venue;
-import com.rolling.pokerly.venue.repo.VenueRepository;
-
-import lombok.RequiredArgsConstructor;
+import com.rolling.pokerly.statistics.application.MonthlyTrendService;
+import com.rolling.pokerly.statistics.application.SessionStatsAccumulator;
+import com.rolling.pokerly.statistics.dto.MonthlyTrendResponse.MonthlyTrendItem;
+import com.rolling.pokerly.venue.application.VenueDirectoryService;
+import com.rolling.pokerly.venue.dto.VenueSummary;
 
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DashboardService {
 
+    // 최근 세션 순서 (play_date desc, id desc) - 날짜 없는 세션은 맨 뒤
+    private static final Comparator<GameSession> RECENT_FIRST = Comparator
+            .comparing(GameSession::getPlayDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(GameSession::getId)
+            .reversed();
+
     private final GameSessionRepository sessionRepo;
-    private final VenueRepository venueRepo;
+    private final VenueDirectoryService venueDirectory;
+    private final MonthlyTrendService monthlyTrendService;
+    private final Executor dashboardExecutor;
+
+    public DashboardService(
+            GameSessionRepository sessionRepo,
+            VenueDirectoryService venueDirectory,
+            MonthlyTrendService monthlyTrendService,
+            @Qualifier(AsyncExecutorConfig.DASHBOARD_EXECUTOR) Executor dashboardExecutor
+    ) {
+        this.sessionRepo = sessionRepo;
+        this.venueDirectory = venueDirectory;
+        this.monthlyTrendService = monthlyTrendService;
+        this.dashboardExecutor = dashboardExecutor;
+    }
 
     // ======================================================
     // 메인 진입점: 월간 대시보드 조회
     // ======================================================
+    // 병렬 조회 스레드가 커넥션을 따로 잡으므로, 요청 스레드는 트랜잭션(커넥션)을 붙잡고 기다리지 않는다.
+    // 각 조회는 리포지토리 단위 읽기로 충분 (값만 읽고 DTO 로 변환)
+    @Cacheable(cacheNames = CacheNames.DASHBOARD_MONTHLY, key = "{#userId, #year, #month}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardMonthlyResponse getMonthly(Long userId, int year, int month) {
 
         YearMonth ym = YearMonth.of(year, month);
+        YearMonth startYm = ym.minusMonths(5);
+
+        // 1) 서로 독립적인 조회는 별도 스레드에서 먼저 시작
+        //    - 유저 매장 디렉터리 (이름 + 잔여 포인트, 캐시)
+        //    - 최근 6개월 추세 (월별 롤업 6행)
+        CompletableFuture<Map<Long, VenueSummary>> venuesFuture = CompletableFuture.supplyAsync(
+                () -> venueDirectory.getDirectory(userId),
+                dashboardExecutor
+        );
+        CompletableFuture<List<MonthlyTrendItem>> trendFuture = CompletableFuture.supplyAsync(
+                () -> monthlyTrendService.getMonths(userId, startYm, ym),
+                dashboardExecutor
+        );
 
-        LocalDate start = ym.atDay(1);
-        LocalDate end   = ym.atEndOfMonth();
+        // 2) 이번 달 세션 + 최근 3개 세션(이번 달 밖일 수 있음)을 한 쿼리로 읽고 나눈다
+        //    세션 쿼리 1개 + 롤업 1개 (+ 디렉터리 캐시가 비었을 때만 1개)
+        LocalDate monthStart = ym.atDay(1);
+        LocalDate monthEnd = ym.atEndOfMonth();
+        List<GameSession> sessions = sessionRepo.findRecent3AndPlayDateBetween(userId, monthStart, monthEnd);
+
+        SessionStatsAccumulator monthAcc = SessionStatsAccumulator.create().groupByVenue();
+        sessions.stream()
+                .filter(s -> s.getPlayDate() != null
+                        && !s.getPlayDate().isBefore(monthStart)
+                        && !s.getPlayDate().isAfter(monthEnd))
+                .sorted(Comparator.comparing(GameSession::getPlayDate).thenComparing(GameSession::getId))
+                .forEach(monthAcc);
+
+        List<GameSession> recent = sessions.stream()
+                .sorted(RECENT_FIRST)
+                .limit(3)
+                .toList();
 
-        // 1) 이번 달 세션 조회
-        List<GameSession> monthSessions =
-                sessionRepo.findByUserIdAndPlayDateBetween(userId, start, end);
+        // 3) 최근 6개월 추세 (세션이 없어도 0으로 채워진 6개가 내려감)
+        List<TrendPoint> trend = buildLast6MonthsTrend(trendFuture.join());
 
-        // 2) 최근 3개 세션 (있든 없든 안정적으로 동작)
-        List<RecentSession> recentSessions =
-                buildRecentSessions(
-                        sessionRepo.findTop3ByUserIdOrderByPlayDateDesc(userId)
-                );
+        Map<Long, VenueSummary> userVenues = venuesFuture.join();
 
-        // 3) 최근 6개월 추세 (세션이 없어도 0으로 채워진 6개가 내려감)
-        List<TrendPoint> trend = buildLast6MonthsTrend(userId, ym);
+        // venueId → venueName (유저 매장 디렉터리 기준, 혹시 빠진 게 있으면 그것만 추가 조회)
+        Map<Long, String> venueNames = venueDirectory.resolveNames(userVenues, venueIdsOf(monthAcc, recent));
 
-        // 4) 잔여 포인트 매장 (없으면 빈 리스트)
-        List<RemainingPointVenue> remainingPointVenues =
-                buildRemainingPointVenues(userId);
+        // 4) 최근 3개 세션
+        List<RecentSession> recentSessions = buildRecentSessions(recent, venueNames);
+
+        // 5) 잔여 포인트 매장 (없으면 빈 리스트)
+        List<RemainingPointVenue> remainingPointVenues = buildRemainingPointVenues(userVenues.values());
 
         // ✅ 이번 달 세션이 아예 없을 때: KPI / summary / venue 랭킹도 전부 0 / 빈 리스트로 명시
-        if (monthSessions.isEmpty()) {
+        if (monthAcc.isEmpty()) {
             KpiSection emptyKpi = new KpiSection(0L, 0L, 0L, 0.0);
             SummarySection emptySummary = new SummarySection(0, 0L, 0L, 0L);
             List<VenueStat> emptyVenueStats = List.of();
@@ -84,11 +140,8 @@ public class DashboardService {
 
         // ===== 여기부터는 "이번 달에 세션이 하나 이상 있는 경우" =====
 
-        // 5) venueId → venueName 매핑 (이번 달 세션 기준)
-        Map<Long, String> venueNames = loadVenueNames(monthSessions);
-
-        // 6) KPI / Summary 계산
-        Totals totals = calcTotals(monthSessions);
+        // 6) KPI / Summary
+        Totals totals = Totals.of(monthAcc.totals());
 
         KpiSection kpi = new KpiSection(
                 totals.totalProfit(),
@@ -100,14 +153,14 @@ public class DashboardService {
         );
 
         SummarySection summary = new SummarySection(
-                monthSessions.size(),
+                (int) monthAcc.totals().getSessions(),
                 totals.totalBuyIn(),
                 totals.totalPrize(),
                 totals.totalProfit()
         );
 
         // 7) 매장별 집계
-        List<VenueStat> venueStats = aggregateByVenue(monthSessions, venueNames);
+        List<VenueStat> venueStats = aggregateByVenue(monthAcc.byVenue(), venueNames);
 
         List<VenueStat> topProfitVenues = venueStats.stream()
                 .sorted(Comparator.comparingLong(VenueStat::totalProfit).reversed())
@@ -145,47 +198,32 @@ public class DashboardService {
     // 로직 구성 요소들
     // ======================================================
 
-    // 총 buyIn / prize / profit 계산
-    private Totals calcTotals(List<GameSession> sessions) {
-        long buyIn = 0;
-        long prize = 0;
-
-        for (GameSession s : sessions) {
-            buyIn += s.getTotalBuyIn();
-            prize += s.getPrize();
-        }
-        return new Totals(buyIn, prize);
-    }
-
+    // 총 buyIn / prize / profit (profit = prize - buyIn)
     private record Totals(long totalBuyIn, long totalPrize) {
         long totalProfit() { return totalPrize - totalBuyIn; }
-    }
 
-    // venueId → venueName 맵 생성
-    private Map<Long, String> loadVenueNames(List<GameSession> sessions) {
-
-        Set<Long> venueIds = sessions.stream()
-                .map(GameSession::getVenueId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        if (venueIds.isEmpty()) return Map.of();
+        static Totals of(SessionStatsAccumulator.Bucket b) {
+            return new Totals(b.getTotalBuyIn(), b.getTotalPrize());
+        }
+    }
 
-        List<Venue> venues = venueRepo.findByIdIn(venueIds);
+    // 이름이 필요한 venueId (이번 달 매장 + 최근 세션 매장)
+    private Set<Long> venueIdsOf(SessionStatsAccumulator monthAcc, List<GameSession> recent) {
 
-        return venues.stream()
-                .collect(Collectors.toMap(Venue::getId, Venue::getName));
+        Set<Long> ids = new HashSet<>(monthAcc.byVenue().keySet());
+        for (GameSession s : recent) {
+            if (s.getVenueId() != null) ids.add(s.getVenueId());
+        }
+        return ids;
     }
 
     // 최근 3개 세션 + venueName 포함 (세션이 없어도 빈 리스트)
-    private List<RecentSession> buildRecentSessions(List<GameSession> sessions) {
+    private List<RecentSession> buildRecentSessions(List<GameSession> sessions, Map<Long, String> venueNames) {
 
         if (sessions == null || sessions.isEmpty()) {
             return List.of();
         }
 
-        Map<Long, String> venueNames = loadVenueNames(sessions);
-
         return sessions.stream()
                 .limit(3)
                 .map(s -> new RecentSession(
@@ -200,56 +238,18 @@ public class DashboardService {
                 .toList();
     }
 
-    // 최근 6개월 추세 (세션 없어도 6개 모두 0으로 채워서 반환)
-    private List<TrendPoint> buildLast6MonthsTrend(Long userId, YearMonth baseYm) {
-
-        YearMonth startYm = baseYm.minusMonths(5);
+    // 최근 6개월 추세 (롤업 조회 결과가 이미 0으로 채워진 6개)
+    private List<TrendPoint> buildLast6MonthsTrend(List<MonthlyTrendItem> months) {
 
-        LocalDate from = startYm.atDay(1);
-        LocalDate to   = baseYm.atEndOfMonth();
+        List<TrendPoint> result = new ArrayList<>(months.size());
 
-        List<GameSession> sessions =
-                sessionRepo.findByUserIdAndPlayDateBetweenOrderByPlayDateAsc(userId, from, to);
-
-        if (sessions == null || sessions.isEmpty()) {
-            // 그냥 0으로 채운 6개월 리턴
-            List<TrendPoint> emptyTrend = new ArrayList<>();
-            for (int i = 0; i < 6; i++) {
-                YearMonth ym = startYm.plusMonths(i);
-                emptyTrend.add(new TrendPoint(
-                        ym.getYear(),
-                        ym.getMonthValue(),
-                        0L,
-                        0L,
-                        0L
-                ));
-            }
-            return emptyTrend;
-        }
+        for (MonthlyTrendItem m : months) {
 
-        // YearMonth → Totals
-        Map<YearMonth, Totals> monthlyTotals =
-                sessions.stream()
-                        .filter(s -> s.getPlayDate() != null) // 혹시 모를 null 방어
-                        .collect(Collectors.groupingBy(
-                                s -> YearMonth.from(s.getPlayDate()),
-                                Collectors.collectingAndThen(
-                                        Collectors.toList(),
-                                        this::calcTotals
-                                )
-                        ));
-
-        List<TrendPoint> result = new ArrayList<>();
-
-        for (int i = 0; i < 6; i++) {
-
-            YearMonth ym = startYm.plusMonths(i);
-
-            Totals t = monthlyTotals.getOrDefault(ym, new Totals(0, 0));
+            Totals t = new Totals(m.buyIn(), m.prize());
 
             result.add(new TrendPoint(
-                    ym.getYear(),
-                    ym.getMonthValue(),
+                    m.year(),
+                    m.month(),
                     t.totalBuyIn(),
                     t.totalPrize(),
                     t.totalProfit()
@@ -260,70 +260,45 @@ public class DashboardService {
     }
 
     // venue 집계 (이번 달 기준)
-    private List<VenueStat> aggregateByVenue(List<GameSession> sessions,
+    private List<VenueStat> aggregateByVenue(Map<Long, SessionStatsAccumulator.Bucket> byVenue,
                                              Map<Long, String> venueNames) {
 
-        if (sessions == null || sessions.isEmpty()) {
+        if (byVenue.isEmpty()) {
             return List.of();
         }
 
-        Map<Long, VenueAgg> map = new HashMap<>();
-
-        for (GameSession s : sessions) {
-            Long vId = s.getVenueId();
-            if (vId == null) continue;
-
-            VenueAgg agg = map.computeIfAbsent(vId, id -> new VenueAgg());
-            agg.sessionCount++;
-            agg.totalBuyIn += s.getTotalBuyIn();
-            agg.totalPrize += s.getPrize();
-        }
-
-        if (map.isEmpty()) {
-            return List.of();
-        }
-
-        return map.entrySet().stream()
+        return byVenue.entrySet().stream()
                 .map(e -> {
                     Long venueId = e.getKey();
-                    VenueAgg v = e.getValue();
-
-                    long profit = v.totalPrize - v.totalBuyIn;
+                    Totals t = Totals.of(e.getValue());
 
                     return new VenueStat(
                             venueId,
                             venueNames.getOrDefault(venueId, "알 수 없는 매장"),
-                            v.sessionCount,
-                            v.totalBuyIn,
-                            v.totalPrize,
-                            profit
+                            (int) e.getValue().getSessions(),
+                            t.totalBuyIn(),
+                            t.totalPrize(),
+                            t.totalProfit()
                     );
                 })
                 .toList();
     }
 
     // 잔여 포인트 매장: 유저가 가진 매장 중 pointBalance > 0 인 것만, 많은 순
-    private List<RemainingPointVenue> buildRemainingPointVenues(Long userId) {
+    private List<RemainingPointVenue> buildRemainingPointVenues(Collection<VenueSummary> venues) {
 
-        List<Venue> venues = venueRepo.findByCreatedByUserId(userId);
         if (venues == null || venues.isEmpty()) {
             return List.of();
         }
 
         return venues.stream()
-                .filter(v -> v.getPointBalance() != null && v.getPointBalance() > 0)
-                .sorted(Comparator.comparingLong(Venue::getPointBalance).reversed())
+                .filter(v -> v.pointBalance() != null && v.pointBalance() > 0)
+                .sorted(Comparator.comparingLong(VenueSummary::pointBalance).reversed())
                 .map(v -> new RemainingPointVenue(
-                        v.getId(),
-                        v.getName(),
-                        v.getPointBalance()
+                        v.id(),
+                        v.name(),
+                        v.pointBalance()
                 ))
                 .toList();
     }
-
-    private static class VenueAgg {
-        int sessionCount = 0;
-        long totalBuyIn = 0;
-        long totalPrize = 0;
-    }
 }
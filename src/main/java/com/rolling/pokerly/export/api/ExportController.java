@@ -0,0 +1,41 @@
+package com.rolling.pokerly.export.api;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.rolling.pokerly.export.application.UserDataExportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final UserDataExportService exportService;
+
+    // 전체 기록 다운로드 (ApiResponse 로 감싸지 않고 파일로 바로 내려감)
+    // 예) /api/export?format=ndjson&gzip=true, /api/export?format=csv&dataset=sessions
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "dataset", required = false) String dataset,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip
+    ) {
+        var plan = exportService.plan(format, dataset, gzip);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, plan.contentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(plan.fileName()).build().toString())
+                .body(exportService.stream(userId, plan));
+    }
+}
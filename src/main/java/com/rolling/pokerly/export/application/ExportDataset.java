@@ -0,0 +1,94 @@
+package com.rolling.pokerly.export.application;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 내보내기 대상 테이블 (유저 본인 데이터, PK 순)
+ *
+ * 모든 쿼리는 "user_id = ?" 하나만 바인딩한다.
+ */
+public enum ExportDataset {
+
+    SESSIONS("sessions", """
+            SELECT id, venue_id, is_collab, collab_label, play_date, session_type, game_type,
+                   buy_in_per_entry, entries, discount, total_buy_in, prize, net_profit,
+                   gtd_amount, field_entries, notes, created_at, updated_at
+            FROM game_sessions
+            WHERE user_id = ?
+            ORDER BY id
+            """),
+
+    JOURNALS("journals", """
+            SELECT id, journal_date, title, content, mood_score, focus_score, tilt_score, energy_score,
+                   tags, created_at, updated_at
+            FROM game_journals
+            WHERE user_id = ?
+            ORDER BY id
+            """),
+
+    HAND_LOG_EVENTS("hand_log_events", """
+            SELECT event_id, name, event_at, venue_id, archived_at, created_at, updated_at
+            FROM hand_log_events
+            WHERE user_id = ?
+            ORDER BY event_id
+            """),
+
+    HAND_LOG_BLIND_LEVELS("hand_log_blind_levels", """
+            SELECT blind_level_id, event_id, level_no, small_blind, big_blind, ante, created_at, updated_at
+            FROM hand_log_blind_levels
+            WHERE user_id = ?
+            ORDER BY blind_level_id
+            """),
+
+    HAND_LOG_HANDS("hand_log_hands", """
+            SELECT hand_id, event_id, blind_level_id, hole_cards, first_rank, second_rank, suited, hand_class,
+                   position, action_type, action_label, preflop_all_in, result_type, result_label,
+                   review_required, memo, hand_strength_tier, hand_strength_label, hand_strength_color,
+                   created_at, updated_at
+            FROM hand_log_hands
+            WHERE user_id = ?
+            ORDER BY hand_id
+            """),
+
+    HAND_LOG_REVIEWS("hand_log_reviews", """
+            SELECT review_id, hand_id, preflop, flop, turn, river, opponent_hand, opponent_type,
+                   my_thought, review_result, created_at, updated_at
+            FROM hand_log_reviews
+            WHERE user_id = ?
+            ORDER BY review_id
+            """),
+
+    HAND_REVIEWS("hand_reviews", """
+            SELECT id, session_id, title, hero_hand, position, blinds, stack_bb, description, question,
+                   simple_main_street, simple_pot_type, simple_board_texture, simple_hero_strength,
+                   simple_hero_line, analysis_simple_json, created_at, updated_at
+            FROM hand_reviews
+            WHERE user_id = ?
+            ORDER BY id
+            """);
+
+    private final String key;
+    private final String sql;
+
+    ExportDataset(String key, String sql) {
+        this.key = key;
+        this.sql = sql;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    String sql() {
+        return sql;
+    }
+
+    public static Optional<ExportDataset> fromKey(String key) {
+        String k = key.trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(d -> d.key.equals(k))
+                .findFirst();
+    }
+}
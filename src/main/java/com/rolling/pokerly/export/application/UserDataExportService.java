@@ -0,0 +1,309 @@
+package com.rolling.pokerly.export.application;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.export.dto.ExportPlan;
+import com.rolling.pokerly.export.dto.ExportPlan.ExportFormat;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유저 전체 데이터 내보내기 (NDJSON / CSV, 선택적으로 gzip)
+ *
+ * - 테이블마다 DB 커서(fetch size)로 한 행씩 읽어서 바로 응답 스트림에 쓴다.
+ *   목록/엔티티를 메모리에 모으지 않으므로 행 수와 무관하게 메모리가 일정하다.
+ * - 첫 행을 쓰자마자 flush 해서 첫 바이트가 바로 나가고, 이후 FLUSH_EVERY 행마다 flush.
+ * - NDJSON: 한 줄 = {"dataset": "...", 컬럼...} (Jackson 스트리밍 생성기)
+ * - CSV: 데이터셋 하나만 가능, 첫 줄은 컬럼 헤더 (ResultSet 메타데이터 기준, 행이 없어도 나감)
+ */
+@Slf4j
+@Service
+public class UserDataExportService {
+
+    static final int FETCH_SIZE = 500;
+    static final int FLUSH_EVERY = 500;
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+
+    public UserDataExportService(DataSource dataSource, ObjectMapper objectMapper) {
+        // 내보내기 전용: 결과를 한 번에 받지 않고 FETCH_SIZE 씩 스트리밍
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(FETCH_SIZE);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 요청 파라미터 검증
+     *
+     * @param dataset null/공백이면 전체 (NDJSON 만)
+     */
+    public ExportPlan plan(String format, String dataset, boolean gzip) {
+        ExportFormat fmt = switch (format == null ? "ndjson" : format.trim().toLowerCase(Locale.ROOT)) {
+            case "ndjson", "jsonl" -> ExportFormat.NDJSON;
+            case "csv" -> ExportFormat.CSV;
+            default -> throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_EXPORT_FORMAT",
+                    "format 은 ndjson 또는 csv 여야 합니다."
+            );
+        };
+
+        List<ExportDataset> datasets;
+        if (dataset == null || dataset.isBlank()) {
+            if (fmt == ExportFormat.CSV) {
+                throw new ApiException(
+                        HttpStatus.BAD_REQUEST,
+                        "EXPORT_DATASET_REQUIRED",
+                        "CSV 는 dataset 을 하나 지정해야 합니다."
+                );
+            }
+            datasets = Arrays.asList(ExportDataset.values());
+        } else {
+            datasets = List.of(ExportDataset.fromKey(dataset).orElseThrow(() -> new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_EXPORT_DATASET",
+                    "지원하지 않는 dataset 입니다: " + dataset
+            )));
+        }
+
+        return new ExportPlan(fmt, datasets, gzip);
+    }
+
+    /**
+     * 응답 본문 (컨트롤러 스레드가 아니라 MVC 비동기 스레드에서 실행됨)
+     */
+    public StreamingResponseBody stream(Long userId, ExportPlan plan) {
+        return out -> {
+            OutputStream target = plan.gzip() ? new GZIPOutputStream(out, 8192, true) : out;
+
+            long rows = 0;
+            try {
+                RowSink sink = plan.format() == ExportFormat.CSV
+                        ? new CsvSink(target)
+                        : new NdjsonSink(target, objectMapper);
+
+                for (ExportDataset dataset : plan.datasets()) {
+                    rows += exportDataset(userId, dataset, sink);
+                }
+                sink.finish();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            if (target instanceof GZIPOutputStream gz) {
+                gz.finish();
+            }
+            out.flush();
+            log.info("[EXPORT] userId={}, datasets={}, rows={}", userId, plan.datasets(), rows);
+        };
+    }
+
+    private long exportDataset(Long userId, ExportDataset dataset, RowSink sink) {
+        // ResultSetExtractor: 행이 없어도 메타데이터(컬럼 헤더)는 받을 수 있다
+        ResultSetExtractor<Long> extractor = rs -> {
+            sink.begin(dataset, rs.getMetaData());
+
+            long count = 0;
+            while (rs.next()) {
+                sink.row(rs);
+                count++;
+
+                if (count == 1 || count % FLUSH_EVERY == 0) {
+                    sink.flush();
+                }
+            }
+            return count;
+        };
+
+        Long count = jdbc.query(dataset.sql(), extractor, userId);
+        sink.flush();
+        return count != null ? count : 0L;
+    }
+
+    // =========================
+    // 출력 형식
+    // =========================
+
+    private interface RowSink {
+        void begin(ExportDataset dataset, ResultSetMetaData meta) throws SQLException;
+
+        void row(ResultSet rs) throws SQLException;
+
+        void flush();
+
+        void finish();
+    }
+
+    // NDJSON: 한 줄에 한 행, dataset 필드로 테이블 구분
+    private static final class NdjsonSink implements RowSink {
+        private final JsonGenerator gen;
+        private ExportDataset dataset;
+        private String[] labels;
+
+        NdjsonSink(OutputStream out, ObjectMapper objectMapper) {
+            try {
+                this.gen = objectMapper.getFactory().createGenerator(out);
+                this.gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                this.gen.setRootValueSeparator(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void begin(ExportDataset dataset, ResultSetMetaData meta) throws SQLException {
+            this.dataset = dataset;
+            this.labels = labels(meta);
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException {
+            try {
+                gen.writeStartObject();
+                gen.writeStringField("dataset", dataset.key());
+                for (int i = 0; i < labels.length; i++) {
+                    gen.writeFieldName(labels[i]);
+                    writeValue(rs.getObject(i + 1));
+                }
+                gen.writeEndObject();
+                gen.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void writeValue(Object v) throws IOException {
+            if (v == null) {
+                gen.writeNull();
+            } else if (v instanceof Boolean b) {
+                gen.writeBoolean(b);
+            } else if (v instanceof Long || v instanceof Integer || v instanceof Short || v instanceof Byte) {
+                gen.writeNumber(((Number) v).longValue());
+            } else if (v instanceof BigDecimal d) {
+                gen.writeNumber(d);
+            } else {
+                gen.writeString(text(v));
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                gen.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() {
+            try {
+                gen.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // CSV: RFC 4180 (쉼표 / 따옴표 / 줄바꿈이 있으면 따옴표로 감싼다)
+    private static final class CsvSink implements RowSink {
+        private final Writer w;
+        private int columns;
+
+        CsvSink(OutputStream out) {
+            this.w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void begin(ExportDataset dataset, ResultSetMetaData meta) throws SQLException {
+            String[] labels = labels(meta);
+            this.columns = labels.length;
+            writeLine(labels);
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException {
+            String[] values = new String[columns];
+            for (int i = 0; i < columns; i++) {
+                Object v = rs.getObject(i + 1);
+                values[i] = v == null ? "" : text(v);
+            }
+            writeLine(values);
+        }
+
+        private void writeLine(String[] values) {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) w.write(',');
+                    w.write(escape(values[i]));
+                }
+                w.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String escape(String v) {
+            if (v.indexOf(',') < 0 && v.indexOf('"') < 0 && v.indexOf('\n') < 0 && v.indexOf('\r') < 0) {
+                return v;
+            }
+            return '"' + v.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void flush() {
+            try {
+                w.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void finish() {
+            flush();
+        }
+    }
+
+    private static String[] labels(ResultSetMetaData meta) throws SQLException {
+        String[] labels = new String[meta.getColumnCount()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = meta.getColumnLabel(i + 1);
+        }
+        return labels;
+    }
+
+    // 날짜/시각은 ISO 문자열
+    private static String text(Object v) {
+        if (v instanceof java.sql.Date d) return d.toLocalDate().toString();
+        if (v instanceof Timestamp t) return t.toLocalDateTime().toString();
+        return v.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package com.rolling.pokerly.export.dto;
+
+import java.util.List;
+
+import com.rolling.pokerly.export.application.ExportDataset;
+
+/**
+ * 검증이 끝난 내보내기 요청
+ */
+public record ExportPlan(
+        ExportFormat format,
+        List<ExportDataset> datasets,
+        boolean gzip
+) {
+
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String mediaType;
+        private final String extension;
+
+        ExportFormat(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    public String contentType() {
+        return gzip ? "application/gzip" : format.mediaType() + ";charset=UTF-8";
+    }
+
+    public String fileName() {
+        String base = datasets.size() == 1 ? "pokerly-" + datasets.get(0).key() : "pokerly-export";
+        return base + "." + format.extension() + (gzip ? ".gz" : "");
+    }
+}
@@ -1,25 +1,37 @@
 package com.rolling.pokerly.gamesession.api;
 
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.rolling.pokerly.core.response.ApiResponse;
+import com.rolling.pokerly.gamesession.application.GameSessionImportService;
 import com.rolling.pokerly.gamesession.application.GameSessionService;
+import com.rolling.pokerly.gamesession.dto.GameSessionImportResponse;
 import com.rolling.pokerly.gamesession.dto.GameSessionOptionResponse;
+import com.rolling.pokerly.gamesession.dto.GameSessionPageResponse;
 import com.rolling.pokerly.gamesession.dto.GameSessionRequest;
 import com.rolling.pokerly.gamesession.dto.GameSessionResponse;
+import com.rolling.pokerly.gamesession.dto.GameSessionSearchRequest;
+import com.rolling.pokerly.gamesession.dto.GameSessionSearchResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,8 +41,9 @@ import lombok.RequiredArgsConstructor;
 public class GameSessionController {
 
     private final GameSessionService gameSessionService;
+    private final GameSessionImportService gameSessionImportService;
 
-    @GetMapping
+    @GetMapping(params = {"year", "month"})
     public ApiResponse<List<GameSessionResponse>> getMonthlySessions(
             @AuthenticationPrincipal(expression = "userId") Long userId,
             @RequestParam("year") int year,
@@ -40,6 +53,31 @@ public class GameSessionController {
         return ApiResponse.ok(list);
     }
 
+    // 무한 스크롤 목록 (최신순). 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다.
+    @GetMapping
+    public ApiResponse<GameSessionPageResponse> getSessionPage(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            @RequestParam(value = "sessionType", required = false) String sessionType,
+            @RequestParam(value = "venueId", required = false) Long venueId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        var res = gameSessionService.getSessionPage(userId, cursor, size, sessionType, venueId, from, to);
+        return ApiResponse.ok(res);
+    }
+
+    // 다중 조건 검색 (예: ?gameType=GTD&minBuyIn=100000&venueId=3&itm=true&from=2026-01-01&to=2026-12-31)
+    @GetMapping("/search")
+    public ApiResponse<GameSessionSearchResponse> search(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @ModelAttribute GameSessionSearchRequest req
+    ) {
+        var res = gameSessionService.search(userId, req);
+        return ApiResponse.ok(res);
+    }
+
     @GetMapping("/{id}")
     public ApiResponse<GameSessionResponse> getOne(
             @AuthenticationPrincipal(expression = "userId") Long userId,
@@ -59,6 +97,17 @@ public class GameSessionController {
         return ApiResponse.ok(created);
     }
 
+    // 대량 가져오기: 본문을 그대로 스트리밍 (text/csv 또는 application/x-ndjson)
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ApiResponse<GameSessionImportResponse> importSessions(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        var res = gameSessionImportService.importSessions(userId, contentType, body);
+        return ApiResponse.ok(res);
+    }
+
     @PutMapping("/{id}")
     public ApiResponse<GameSessionResponse> update(
             @AuthenticationPrincipal(expression = "userId") Long userId,
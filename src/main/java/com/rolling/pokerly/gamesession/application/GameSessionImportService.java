@@ -0,0 +1,216 @@
+package com.rolling.pokerly.gamesession.application;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.cache.UserCacheEvictor;
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.core.outbox.OutboxEvents;
+import com.rolling.pokerly.core.outbox.OutboxPublisher;
+import com.rolling.pokerly.gamesession.domain.GameSession;
+import com.rolling.pokerly.gamesession.dto.GameSessionImportResponse;
+import com.rolling.pokerly.gamesession.dto.GameSessionImportResponse.RejectedRow;
+import com.rolling.pokerly.statistics.application.SessionStatsAggregateService;
+import com.rolling.pokerly.venue.application.VenueDirectoryService;
+import com.rolling.pokerly.venue.dto.VenueSummary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게임 세션 대량 가져오기 (CSV / NDJSON)
+ *
+ * - 요청 본문을 한 줄씩 읽고, 단건 생성과 같은 정규화 규칙(GameSessionPolicy)을 적용
+ * - BATCH_SIZE 개씩 JDBC batch insert (IDENTITY 왕복 / 영속성 컨텍스트 없음 → 메모리 일정)
+ * - 잘못된 행은 줄 번호와 함께 거절하고 나머지는 저장
+ * - 누적 집계 / 타입별 / 월별 롤업 / 스케치 버킷은 같은 트랜잭션에서 가져온 행 합계만큼 더한다
+ *   (세션 쓰기와 같은 잠금 순서: 유저 집계 행을 가장 먼저 잠근다)
+ * - 연속 기록 / 매장 통계 / 컨디션 분석은 아웃박스 이벤트 하나로 넘긴다 (핸들러가 백그라운드에서 재계산)
+ * - 캐시는 커밋 직후 한 번 비운다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GameSessionImportService {
+
+    public static final int BATCH_SIZE = 1000;
+    public static final int MAX_ROWS = 100_000;
+    public static final int MAX_REPORTED_REJECTS = 200;
+
+    // game_sessions 문자열 컬럼 길이 (V3 / V13 / V15 DDL, VARCHAR 는 문자 수 기준)
+    private static final int SESSION_TYPE_MAX = 30;
+    private static final int GAME_TYPE_MAX = 30;
+    private static final int COLLAB_LABEL_MAX = 50;
+    private static final int NOTES_MAX = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO game_sessions
+              (user_id, venue_id, is_collab, collab_label, play_date, session_type, game_type,
+               buy_in_per_entry, entries, discount, prize, net_profit, total_buy_in,
+               notes, gtd_amount, field_entries)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final VenueDirectoryService venueDirectoryService;
+    private final SessionStatsAggregateService sessionStatsAggregateService;
+    private final OutboxPublisher outboxPublisher;
+    private final UserCacheEvictor userCacheEvictor;
+
+    @Transactional
+    public GameSessionImportResponse importSessions(Long userId, String contentType, InputStream body) {
+        // 유저 집계 잠금이 항상 첫 문장 (SessionStatsAggregateService.lock 참고)
+        sessionStatsAggregateService.lock(userId);
+
+        var parser = new SessionImportRowParser(SessionImportRowParser.Format.fromContentType(contentType), objectMapper);
+        Map<Long, VenueSummary> venues = venueDirectoryService.getDirectory(userId);
+
+        List<GameSession> chunk = new ArrayList<>(BATCH_SIZE);
+        List<RejectedRow> rejected = new ArrayList<>();
+        var delta = new SessionStatsAggregateService.ImportDelta();
+        int totalRows = 0;
+        int imported = 0;
+        int rejectedCount = 0;
+
+        try (var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank() || parser.consumeHeader(line)) continue;
+
+                if (++totalRows > MAX_ROWS) {
+                    throw new ApiException(
+                            HttpStatus.PAYLOAD_TOO_LARGE,
+                            "IMPORT_TOO_LARGE",
+                            "한 번에 최대 " + MAX_ROWS + "개 세션까지 가져올 수 있습니다."
+                    );
+                }
+
+                try {
+                    var session = GameSessionPolicy.newSession(userId, parser.parse(line));
+                    validate(session, venues);
+                    chunk.add(session);
+                } catch (ApiException e) {
+                    if (e.getStatus() != HttpStatus.BAD_REQUEST) throw e;
+                    rejectedCount++;
+                    if (rejected.size() < MAX_REPORTED_REJECTS) {
+                        rejected.add(new RejectedRow(lineNo, e.getCode(), e.getMessage()));
+                    }
+                    continue;
+                }
+
+                if (chunk.size() == BATCH_SIZE) {
+                    imported += insertBatch(chunk, delta);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "IMPORT_READ_FAILED", "가져오기 파일을 읽지 못했습니다.");
+        }
+
+        if (!chunk.isEmpty()) {
+            imported += insertBatch(chunk, delta);
+        }
+
+        // 집계 / 캐시는 끝에서 한 번만 (이벤트는 같은 트랜잭션으로 기록, 재계산은 디스패처가)
+        if (imported > 0) {
+            sessionStatsAggregateService.onImported(userId, delta);
+            outboxPublisher.publish(userId, OutboxEvents.GAME_SESSION, null, OutboxEvents.SESSIONS_IMPORTED);
+            userCacheEvictor.evict(userId, CacheNames.SESSION_DEPENDENT);
+        }
+
+        log.info("[IMPORT] userId={}, rows={}, imported={}, rejected={}", userId, totalRows, imported, rejectedCount);
+
+        return new GameSessionImportResponse(
+                totalRows,
+                imported,
+                rejectedCount,
+                rejected,
+                rejectedCount > rejected.size()
+        );
+    }
+
+    // 단건 API 에서는 DB 제약으로 막히던 것들을 행 단위 거절로
+    private void validate(GameSession s, Map<Long, VenueSummary> venues) {
+        if (s.getPlayDate() == null) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "PLAY_DATE_REQUIRED", "playDate 가 필요합니다.");
+        }
+        if (s.getVenueId() != null && !venues.containsKey(s.getVenueId())) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "VENUE_NOT_FOUND", "매장을 찾을 수 없습니다: " + s.getVenueId());
+        }
+        // 길이 초과는 batch insert 에서 배치 전체(= 가져오기 전체)를 실패시키므로 먼저 거른다
+        validateLength("sessionType", s.getSessionType(), SESSION_TYPE_MAX);
+        validateLength("gameType", s.getGameType(), GAME_TYPE_MAX);
+        validateLength("collabLabel", s.getCollabLabel(), COLLAB_LABEL_MAX);
+        validateLength("notes", s.getNotes(), NOTES_MAX);
+    }
+
+    private void validateLength(String field, String value, int max) {
+        if (value != null && value.codePointCount(0, value.length()) > max) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "VALUE_TOO_LONG",
+                    field + " 는 최대 " + max + "자까지 입력할 수 있습니다."
+            );
+        }
+    }
+
+    private int insertBatch(List<GameSession> sessions, SessionStatsAggregateService.ImportDelta delta) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, sessions, sessions.size(), (ps, s) -> {
+            ps.setLong(1, s.getUserId());
+            setLong(ps, 2, s.getVenueId());
+            ps.setBoolean(3, s.isCollab());
+            ps.setString(4, s.getCollabLabel());
+            ps.setDate(5, Date.valueOf(s.getPlayDate()));
+            ps.setString(6, s.getSessionType());
+            ps.setString(7, s.getGameType());
+            ps.setLong(8, nz(s.getBuyInPerEntry()));
+            ps.setInt(9, s.getEntries() != null ? s.getEntries() : 0);
+            ps.setLong(10, nz(s.getDiscount()));
+            ps.setLong(11, nz(s.getPrize()));
+            ps.setLong(12, nz(s.getNetProfit()));
+            ps.setLong(13, nz(s.getTotalBuyIn()));
+            ps.setString(14, s.getNotes());
+            setLong(ps, 15, s.getGtdAmount());
+            if (s.getFieldEntries() != null) {
+                ps.setInt(16, s.getFieldEntries());
+            } else {
+                ps.setNull(16, Types.INTEGER);
+            }
+        });
+        sessions.forEach(delta);
+        return sessions.size();
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long v) throws SQLException {
+        if (v != null) {
+            ps.setLong(index, v);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static long nz(Long v) {
+        return v != null ? v : 0L;
+    }
+}
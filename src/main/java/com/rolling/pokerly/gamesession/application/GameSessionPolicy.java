@@ -0,0 +1,149 @@
+package com.rolling.pokerly.gamesession.application;
+
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.gamesession.domain.GameSession;
+import com.rolling.pokerly.gamesession.dto.GameSessionRequest;
+
+/**
+ * 게임 세션 입력 정규화 규칙
+ *
+ * 단건 생성/수정(GameSessionService)과 대량 가져오기(GameSessionImportService)가
+ * 같은 규칙을 쓰도록 한 곳에 모아 둔다. 위반 시 ApiException(400).
+ */
+final class GameSessionPolicy {
+
+    // 허용 세션 타입
+    private static final Set<String> ALLOWED_SESSION_TYPES = Set.of(
+            GameSession.SESSION_TYPE_VENUE,
+            GameSession.SESSION_TYPE_MAJOR,
+            GameSession.SESSION_TYPE_ONLINE,
+            GameSession.SESSION_TYPE_OTHER
+    );
+
+    private GameSessionPolicy() {
+    }
+
+    /**
+     * 요청 → 저장 전 세션 (타입/매장 정책 적용 + 금액 재계산)
+     */
+    static GameSession newSession(Long userId, GameSessionRequest req) {
+
+        String sessionType = normalizeSessionType(req.sessionType());
+
+        VenuePolicy policy = normalizeVenuePolicy(
+                sessionType,
+                req.venueId(),
+                req.isCollab(),
+                req.collabLabel()
+        );
+
+        var session = GameSession.builder()
+                .userId(userId)
+                .venueId(policy.venueId())
+                .collab(policy.isCollab())
+                .collabLabel(policy.collabLabel())
+                .playDate(req.playDate())
+                .sessionType(sessionType)
+                .gameType(req.gameType())
+                .buyInPerEntry(req.buyInPerEntry())
+                .entries(req.entries())
+                .discount(req.discount())
+                .prize(req.prize())
+                .notes(req.notes())
+                .gtdAmount(req.gtdAmount())
+                .fieldEntries(req.fieldEntries())
+                .build();
+
+        session.recalc();
+        return session;
+    }
+
+    /**
+     * sessionType null/공백이면 기본 VENUE 로 처리,
+     * 대소문자 섞여 와도 upper-case 로 통일
+     */
+    static String normalizeSessionType(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return GameSession.SESSION_TYPE_VENUE; // 기본값
+        }
+        String upper = raw.trim().toUpperCase();
+        if (!ALLOWED_SESSION_TYPES.contains(upper)) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_SESSION_TYPE",
+                    "지원하지 않는 세션 타입입니다: " + raw
+            );
+        }
+        return upper;
+    }
+
+    // -------------------------
+    // ✅ VENUE 정책(단독 vs 콜라보)
+    // -------------------------
+
+    record VenuePolicy(
+            Long venueId,
+            boolean isCollab,
+            String collabLabel
+    ) {}
+
+    /**
+     * 세션 타입/매장/콜라보 조합 검증 + 정규화
+     *
+     * 정책:
+     * - VENUE 아님: venueId 금지, 콜라보 금지
+     * - VENUE & 단독: venueId 필수, collabLabel null
+     * - VENUE & 콜라보: venueId는 null로 강제, collabLabel 필수
+     */
+    static VenuePolicy normalizeVenuePolicy(String sessionType, Long venueId, Boolean isCollab, String collabLabel) {
+
+        // non-VENUE: venueId 금지 + collab 금지
+        if (!GameSession.SESSION_TYPE_VENUE.equals(sessionType)) {
+            if (venueId != null) {
+                throw new ApiException(
+                        HttpStatus.BAD_REQUEST,
+                        "VENUE_ID_NOT_ALLOWED",
+                        "해당 세션 타입에는 venueId를 지정할 수 없습니다."
+                );
+            }
+            if (Boolean.TRUE.equals(isCollab) || (collabLabel != null && !collabLabel.isBlank())) {
+                throw new ApiException(
+                        HttpStatus.BAD_REQUEST,
+                        "COLLAB_NOT_ALLOWED",
+                        "VENUE 타입이 아닌 세션에는 콜라보 정보를 지정할 수 없습니다."
+                );
+            }
+            return new VenuePolicy(null, false, null);
+        }
+
+        // VENUE: collab 여부에 따라 정책 분기
+        boolean collab = Boolean.TRUE.equals(isCollab);
+
+        if (collab) {
+            if (collabLabel == null || collabLabel.isBlank()) {
+                throw new ApiException(
+                        HttpStatus.BAD_REQUEST,
+                        "COLLAB_LABEL_REQUIRED",
+                        "콜라보 세션에는 collabLabel이 필요합니다."
+                );
+            }
+            // 콜라보는 venueId를 null로 강제(단독 매장 통계에 섞이지 않게)
+            return new VenuePolicy(null, true, collabLabel.trim());
+        }
+
+        // 단독 매장: venueId 필수
+        if (venueId == null) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "VENUE_ID_REQUIRED",
+                    "VENUE 타입(단독) 세션에는 venueId가 필요합니다."
+            );
+        }
+
+        return new VenuePolicy(venueId, false, null);
+    }
+}
@@ -3,20 +3,33 @@ package com.rolling.pokerly.gamesession.application;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.cache.UserCacheEvictor;
 import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.core.outbox.OutboxEvents;
+import com.rolling.pokerly.core.outbox.OutboxPublisher;
 import com.rolling.pokerly.gamesession.domain.GameSession;
+import com.rolling.pokerly.gamesession.domain.GameSessionSnapshot;
 import com.rolling.pokerly.gamesession.dto.GameSessionOptionResponse;
+import com.rolling.pokerly.gamesession.dto.GameSessionPageResponse;
 import com.rolling.pokerly.gamesession.dto.GameSessionRequest;
 import com.rolling.pokerly.gamesession.dto.GameSessionResponse;
+import com.rolling.pokerly.gamesession.dto.GameSessionSearchRequest;
+import com.rolling.pokerly.gamesession.dto.GameSessionSearchResponse;
+import com.rolling.pokerly.gamesession.dto.GameSessionSearchResponse.SearchTotals;
+import com.rolling.pokerly.gamesession.dto.SessionCursor;
 import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
-import com.rolling.pokerly.venue.domain.Venue;
-import com.rolling.pokerly.venue.repo.VenueRepository;
+import com.rolling.pokerly.gamesession.repo.SessionSearchCriteria;
+import com.rolling.pokerly.statistics.application.SessionStatsAggregateService;
+import com.rolling.pokerly.venue.application.VenueDirectoryService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,15 +39,14 @@ import lombok.RequiredArgsConstructor;
 public class GameSessionService {
 
     private final GameSessionRepository gameSessionRepository;
-    private final VenueRepository venueRepository;
+    private final VenueDirectoryService venueDirectoryService;
+    private final SessionStatsAggregateService sessionStatsAggregateService;
+    private final UserCacheEvictor userCacheEvictor;
+    private final OutboxPublisher outboxPublisher;
 
-    // 허용 세션 타입
-    private static final Set<String> ALLOWED_SESSION_TYPES = Set.of(
-            GameSession.SESSION_TYPE_VENUE,
-            GameSession.SESSION_TYPE_MAJOR,
-            GameSession.SESSION_TYPE_ONLINE,
-            GameSession.SESSION_TYPE_OTHER
-    );
+    // 목록 페이지 크기
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
 
     // =========================
     // CRUD
@@ -42,48 +54,33 @@ public class GameSessionService {
 
     @Transactional
     public GameSessionResponse create(Long userId, GameSessionRequest req) {
+        // 유저 집계 잠금이 항상 첫 문장 (SessionStatsAggregateService.lock 참고)
+        sessionStatsAggregateService.lock(userId);
 
-        String sessionType = normalizeSessionType(req.sessionType());
-
-        VenuePolicy policy = normalizeVenuePolicy(
-                sessionType,
-                req.venueId(),
-                req.isCollab(),
-                req.collabLabel()
-        );
-
-        var session = GameSession.builder()
-                .userId(userId)
-                .venueId(policy.venueId())
-                .collab(policy.isCollab())
-                .collabLabel(policy.collabLabel())
-                .playDate(req.playDate())
-                .sessionType(sessionType)
-                .gameType(req.gameType())
-                .buyInPerEntry(req.buyInPerEntry())
-                .entries(req.entries())
-                .discount(req.discount())
-                .prize(req.prize())
-                .notes(req.notes())
-                .gtdAmount(req.gtdAmount())
-                .fieldEntries(req.fieldEntries())
-                .build();
-
-        session.recalc();
+        var session = GameSessionPolicy.newSession(userId, req);
         gameSessionRepository.save(session);
 
+        sessionStatsAggregateService.onCreated(GameSessionSnapshot.from(session));
+        userCacheEvictor.evict(userId, CacheNames.SESSION_DEPENDENT);
+        outboxPublisher.publish(userId, OutboxEvents.GAME_SESSION, session.getId(), OutboxEvents.SESSION_CREATED);
+
         return GameSessionResponse.from(session);
     }
 
     @Transactional
     public GameSessionResponse update(Long userId, Long sessionId, GameSessionRequest req) {
+        // 잠금 뒤에 읽어야 before 값이 직전 커밋 기준이 된다
+        sessionStatsAggregateService.lock(userId);
+
         var session = gameSessionRepository.findByIdAndUserId(sessionId, userId)
                 .orElseThrow(() ->
                         new ApiException(HttpStatus.NOT_FOUND, "NOT_FOUND", "게임 세션을 찾을 수 없습니다."));
 
-        String sessionType = normalizeSessionType(req.sessionType());
+        var before = GameSessionSnapshot.from(session);
 
-        VenuePolicy policy = normalizeVenuePolicy(
+        String sessionType = GameSessionPolicy.normalizeSessionType(req.sessionType());
+
+        var policy = GameSessionPolicy.normalizeVenuePolicy(
                 sessionType,
                 req.venueId(),
                 req.isCollab(),
@@ -109,16 +106,26 @@ public class GameSessionService {
 
         session.recalc();
 
+        sessionStatsAggregateService.onUpdated(before, GameSessionSnapshot.from(session));
+        userCacheEvictor.evict(userId, CacheNames.SESSION_DEPENDENT);
+        outboxPublisher.publish(userId, OutboxEvents.GAME_SESSION, sessionId, OutboxEvents.SESSION_UPDATED);
+
         return GameSessionResponse.from(session);
     }
 
     @Transactional
     public void delete(Long userId, Long sessionId) {
+        sessionStatsAggregateService.lock(userId);
+
         var session = gameSessionRepository.findByIdAndUserId(sessionId, userId)
                 .orElseThrow(() ->
                         new ApiException(HttpStatus.NOT_FOUND, "NOT_FOUND", "게임 세션을 찾을 수 없습니다."));
 
         gameSessionRepository.delete(session);
+
+        sessionStatsAggregateService.onDeleted(GameSessionSnapshot.from(session));
+        userCacheEvictor.evict(userId, CacheNames.SESSION_DEPENDENT);
+        outboxPublisher.publish(userId, OutboxEvents.GAME_SESSION, sessionId, OutboxEvents.SESSION_DELETED);
     }
 
     public GameSessionResponse getOne(Long userId, Long sessionId) {
@@ -144,14 +151,124 @@ public class GameSessionService {
                 .toList();
     }
 
+    /**
+     * 세션 목록 (최신순, 키셋 페이지)
+     *
+     * size + 1 개를 읽어서 다음 페이지 존재 여부를 판단한다.
+     */
+    public GameSessionPageResponse getSessionPage(
+            Long userId,
+            String cursor,
+            Integer size,
+            String sessionType,
+            Long venueId,
+            LocalDate from,
+            LocalDate to
+    ) {
+        int pageSize = resolvePageSize(size);
+        validateDateRange(from, to);
+
+        String type = (sessionType == null || sessionType.isBlank()) ? null : GameSessionPolicy.normalizeSessionType(sessionType);
+        SessionCursor after = SessionCursor.decode(cursor);
+
+        var rows = gameSessionRepository.findPageByUserId(
+                userId,
+                type,
+                venueId,
+                from,
+                to,
+                after != null ? after.playDate() : null,
+                after != null ? after.id() : null,
+                Limit.of(pageSize + 1)
+        );
+
+        boolean hasNext = rows.size() > pageSize;
+        var page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext
+                ? SessionCursor.of(page.get(page.size() - 1)).encode()
+                : null;
+
+        return new GameSessionPageResponse(
+                page.stream().map(GameSessionResponse::from).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    /**
+     * 다중 조건 검색 (최신순, 키셋 페이지)
+     *
+     * 조건은 SQL 한 번으로 조합되고, 합계는 첫 페이지에서만 같은 조건으로 한 번 더 집계한다.
+     */
+    public GameSessionSearchResponse search(Long userId, GameSessionSearchRequest req) {
+        int pageSize = resolvePageSize(req.size());
+        validateDateRange(req.from(), req.to());
+        validateAmountRange("buyIn", req.minBuyIn(), req.maxBuyIn());
+        validateAmountRange("prize", req.minPrize(), req.maxPrize());
+        validateAmountRange("profit", req.minProfit(), req.maxProfit());
+
+        var criteria = new SessionSearchCriteria(
+                req.from(),
+                req.to(),
+                (req.sessionType() == null || req.sessionType().isBlank())
+                        ? null
+                        : GameSessionPolicy.normalizeSessionType(req.sessionType()),
+                (req.gameType() == null || req.gameType().isBlank()) ? null : req.gameType().trim(),
+                req.venueId(),
+                req.collab(),
+                req.minBuyIn(),
+                req.maxBuyIn(),
+                req.minPrize(),
+                req.maxPrize(),
+                req.minProfit(),
+                req.maxProfit(),
+                req.itm()
+        );
+        SessionCursor after = SessionCursor.decode(req.cursor());
+
+        var rows = gameSessionRepository.search(userId, criteria, after, pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        var page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        SearchTotals totals = null;
+        if (after == null) {
+            var t = gameSessionRepository.searchTotals(userId, criteria);
+            long buyIn = nz(t.buyIn());
+            long profit = nz(t.profit());
+            totals = new SearchTotals(
+                    nz(t.sessionCount()),
+                    buyIn,
+                    nz(t.prize()),
+                    profit,
+                    nz(t.itmCount()),
+                    buyIn > 0 ? profit * 100.0 / buyIn : 0.0
+            );
+        }
+
+        return new GameSessionSearchResponse(
+                page.stream().map(GameSessionResponse::from).toList(),
+                hasNext ? SessionCursor.of(page.get(page.size() - 1)).encode() : null,
+                hasNext,
+                totals
+        );
+    }
+
     public List<GameSessionOptionResponse> getSessionOptions(Long userId) {
 
         var sessions = gameSessionRepository.findTop100ByUserIdOrderByPlayDateDescIdDesc(userId);
 
+        // 매장 이름은 유저 매장 디렉터리(캐시)에서 한 번에
+        Map<Long, String> venueNames = venueDirectoryService.resolveNames(
+                venueDirectoryService.getDirectory(userId),
+                sessions.stream().map(GameSession::getVenueId).filter(Objects::nonNull).toList()
+        );
+
         List<GameSessionOptionResponse> result = new ArrayList<>();
 
         for (var s : sessions) {
-            var venueName = resolveVenueName(s.getVenueId());
+            var venueName = s.getVenueId() != null ? venueNames.get(s.getVenueId()) : null;
             var label = buildLabel(s, venueName);
 
             result.add(new GameSessionOptionResponse(
@@ -167,11 +284,36 @@ public class GameSessionService {
     // 내부 유틸
     // =========================
 
-    private String resolveVenueName(Long venueId) {
-        if (venueId == null) return null;
-        return venueRepository.findById(venueId)
-                .map(Venue::getName)
-                .orElse(null);
+    private int resolvePageSize(Integer size) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_PAGE_SIZE",
+                    "size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다."
+            );
+        }
+        return pageSize;
+    }
+
+    private void validateDateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_DATE_RANGE", "시작일이 종료일보다 늦습니다.");
+        }
+    }
+
+    private void validateAmountRange(String field, Long min, Long max) {
+        if (min != null && max != null && min > max) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_AMOUNT_RANGE",
+                    field + " 최소값이 최대값보다 큽니다."
+            );
+        }
+    }
+
+    private long nz(Long v) {
+        return v != null ? v : 0L;
     }
 
     private String buildLabel(GameSession s, String venueName) {
@@ -204,89 +346,4 @@ public class GameSessionService {
 
         return String.join(" · ", parts);
     }
-
-    /**
-     * sessionType null/공백이면 기본 VENUE 로 처리,
-     * 대소문자 섞여 와도 upper-case 로 통일
-     */
-    private String normalizeSessionType(String raw) {
-        if (raw == null || raw.isBlank()) {
-            return GameSession.SESSION_TYPE_VENUE; // 기본값
-        }
-        String upper = raw.trim().toUpperCase();
-        if (!ALLOWED_SESSION_TYPES.contains(upper)) {
-            throw new ApiException(
-                    HttpStatus.BAD_REQUEST,
-                    "INVALID_SESSION_TYPE",
-                    "지원하지 않는 세션 타입입니다: " + raw
-            );
-        }
-        return upper;
-    }
-
-    // -------------------------
-    // ✅ VENUE 정책(단독 vs 콜라보)
-    // -------------------------
-
-    private record VenuePolicy(
-            Long venueId,
-            boolean isCollab,
-            String collabLabel
-    ) {}
-
-    /**
-     * 세션 타입/매장/콜라보 조합 검증 + 정규화
-     *
-     * 정책:
-     * - VENUE 아님: venueId 금지, 콜라보 금지
-     * - VENUE & 단독: venueId 필수, collabLabel null
-     * - VENUE & 콜라보: venueId는 null로 강제, collabLabel 필수
-     */
-    private VenuePolicy normalizeVenuePolicy(String sessionType, Long venueId, Boolean isCollab, String collabLabel) {
-
-        // non-VENUE: venueId 금지 + collab 금지
-        if (!GameSession.SESSION_TYPE_VENUE.equals(sessionType)) {
-            if (venueId != null) {
-                throw new ApiException(
-                        HttpStatus.BAD_REQUEST,
-                        "VENUE_ID_NOT_ALLOWED",
-                        "해당 세션 타입에는 venueId를 지정할 수 없습니다."
-                );
-            }
-            if (Boolean.TRUE.equals(isCollab) || (collabLabel != null && !collabLabel.isBlank())) {
-                throw new ApiException(
-                        HttpStatus.BAD_REQUEST,
-                        "COLLAB_NOT_ALLOWED",
-                        "VENUE 타입이 아닌 세션에는 콜라보 정보를 지정할 수 없습니다."
-                );
-            }
-            return new VenuePolicy(null, false, null);
-        }
-
-        // VENUE: collab 여부에 따라 정책 분기
-        boolean collab = Boolean.TRUE.equals(isCollab);
-
-        if (collab) {
-            if (collabLabel == null || collabLabel.isBlank()) {
-                throw new ApiException(
-                        HttpStatus.BAD_REQUEST,
-                        "COLLAB_LABEL_REQUIRED",
-                        "콜라보 세션에는 collabLabel이 필요합니다."
-                );
-            }
-            // 콜라보는 venueId를 null로 강제(단독 매장 통계에 섞이지 않게)
-            return new VenuePolicy(null, true, collabLabel.trim());
-        }
-
-        // 단독 매장: venueId 필수
-        if (venueId == null) {
-            throw new ApiException(
-                    HttpStatus.BAD_REQUEST,
-                    "VENUE_ID_REQUIRED",
-                    "VENUE 타입(단독) 세션에는 venueId가 필요합니다."
-            );
-        }
-
-        return new VenuePolicy(venueId, false, null);
-    }
 }
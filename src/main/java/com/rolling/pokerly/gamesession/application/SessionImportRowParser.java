@@ -0,0 +1,201 @@
+package com.rolling.pokerly.gamesession.application;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.gamesession.dto.GameSessionRequest;
+
+/**
+ * 가져오기 한 줄 → GameSessionRequest
+ *
+ * - NDJSON: 한 줄 = GameSessionRequest JSON 한 개
+ * - CSV: 첫 줄은 헤더 (GameSessionRequest 필드명, 대소문자 무시), 값이 비어 있으면 null
+ *   따옴표("") 이스케이프는 지원하지만 한 필드 안의 줄바꿈은 지원하지 않는다.
+ *
+ * 형식 오류는 ApiException(400, INVALID_ROW) 으로 던져서 행 단위로 거절한다.
+ */
+final class SessionImportRowParser {
+
+    enum Format {
+        CSV, NDJSON;
+
+        static Format fromContentType(String contentType) {
+            String ct = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+            if (ct.contains("csv")) return CSV;
+            if (ct.contains("ndjson") || ct.contains("jsonl")) return NDJSON;
+            throw new ApiException(
+                    HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    "UNSUPPORTED_IMPORT_FORMAT",
+                    "text/csv 또는 application/x-ndjson 만 지원합니다."
+            );
+        }
+    }
+
+    private static final List<String> COLUMNS = List.of(
+            "venueId", "playDate", "sessionType", "gameType",
+            "buyInPerEntry", "entries", "discount", "prize", "notes",
+            "gtdAmount", "fieldEntries", "isCollab", "collabLabel"
+    );
+
+    private final Format format;
+    private final ObjectMapper objectMapper;
+
+    // CSV 헤더: 컬럼명(소문자) → 위치
+    private Map<String, Integer> header;
+
+    SessionImportRowParser(Format format, ObjectMapper objectMapper) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /** CSV 이고 아직 헤더를 읽지 않았으면 이 줄을 헤더로 쓴다 */
+    boolean consumeHeader(String line) {
+        if (format != Format.CSV || header != null) return false;
+
+        List<String> names = splitCsv(stripBom(line));
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            index.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!index.containsKey("playdate")) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_IMPORT_HEADER", "CSV 헤더에 playDate 컬럼이 필요합니다.");
+        }
+        this.header = index;
+        return true;
+    }
+
+    GameSessionRequest parse(String line) {
+        return format == Format.CSV ? parseCsv(line) : parseJson(stripBom(line));
+    }
+
+    private GameSessionRequest parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, GameSessionRequest.class);
+        } catch (JsonProcessingException e) {
+            throw invalid("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private GameSessionRequest parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        Map<String, String> row = new HashMap<>();
+        for (String col : COLUMNS) {
+            Integer i = header.get(col.toLowerCase(Locale.ROOT));
+            if (i != null && i < values.size()) {
+                String v = values.get(i).trim();
+                row.put(col, v.isEmpty() ? null : v);
+            }
+        }
+
+        return new GameSessionRequest(
+                toLong(row, "venueId"),
+                toDate(row, "playDate"),
+                row.get("sessionType"),
+                row.get("gameType"),
+                toLong(row, "buyInPerEntry"),
+                toInt(row, "entries"),
+                toLong(row, "discount"),
+                toLong(row, "prize"),
+                row.get("notes"),
+                toLong(row, "gtdAmount"),
+                toInt(row, "fieldEntries"),
+                toBool(row, "isCollab"),
+                row.get("collabLabel")
+        );
+    }
+
+    // =========================
+    // 값 변환
+    // =========================
+
+    private static Long toLong(Map<String, String> row, String col) {
+        String v = row.get(col);
+        if (v == null) return null;
+        try {
+            return Long.parseLong(v.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw invalid(col + " 값이 숫자가 아닙니다: " + v);
+        }
+    }
+
+    private static Integer toInt(Map<String, String> row, String col) {
+        Long v = toLong(row, col);
+        if (v == null) return null;
+        if (v > Integer.MAX_VALUE || v < Integer.MIN_VALUE) {
+            throw invalid(col + " 값이 너무 큽니다: " + v);
+        }
+        return v.intValue();
+    }
+
+    private static LocalDate toDate(Map<String, String> row, String col) {
+        String v = row.get(col);
+        if (v == null) return null;
+        try {
+            return LocalDate.parse(v);
+        } catch (RuntimeException e) {
+            throw invalid(col + " 값은 yyyy-MM-dd 형식이어야 합니다: " + v);
+        }
+    }
+
+    private static Boolean toBool(Map<String, String> row, String col) {
+        String v = row.get(col);
+        if (v == null) return null;
+        return switch (v.toLowerCase(Locale.ROOT)) {
+            case "true", "1", "y", "yes" -> true;
+            case "false", "0", "n", "no" -> false;
+            default -> throw invalid(col + " 값은 true/false 여야 합니다: " + v);
+        };
+    }
+
+    // 한 줄 CSV 분리 ("" 는 따옴표 하나)
+    private static List<String> splitCsv(String line) {
+        List<String> out = new ArrayList<>();
+        StringBuilder cur = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cur.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    cur.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                out.add(cur.toString());
+                cur.setLength(0);
+            } else {
+                cur.append(c);
+            }
+        }
+        if (quoted) {
+            throw invalid("닫히지 않은 따옴표가 있습니다.");
+        }
+        out.add(cur.toString());
+        return out;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    private static ApiException invalid(String message) {
+        return new ApiException(HttpStatus.BAD_REQUEST, "INVALID_ROW", message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.rolling.pokerly.gamesession.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 집계 갱신용 세션 값 스냅샷.
+ *
+ * 수정 전/후 값을 비교해야 하므로 엔티티를 변경하기 전에 떠 둔다.
+ */
+public record GameSessionSnapshot(
+        Long id,
+        Long userId,
+        Long venueId,
+        LocalDate playDate,
+        String sessionType,
+        long totalBuyIn,
+        long prize,
+        long netProfit
+) {
+
+    public static GameSessionSnapshot from(GameSession s) {
+        return new GameSessionSnapshot(
+                s.getId(),
+                s.getUserId(),
+                s.getVenueId(),
+                s.getPlayDate(),
+                s.getSessionType(),
+                s.getTotalBuyIn() != null ? s.getTotalBuyIn() : 0L,
+                s.getPrize() != null ? s.getPrize() : 0L,
+                s.getNetProfit() != null ? s.getNetProfit() : 0L
+        );
+    }
+
+    /** prize > 0 이면 ITM */
+    public boolean isItm() {
+        return prize > 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.rolling.pokerly.gamesession.dto;
+
+import java.util.List;
+
+public record GameSessionImportResponse(
+        int totalRows,              // 헤더 / 빈 줄 제외
+        int importedCount,
+        int rejectedCount,
+        List<RejectedRow> rejectedRows,
+        boolean rejectedRowsTruncated   // 거절 행이 많으면 앞쪽 일부만 내려감
+) {
+
+    public record RejectedRow(
+            int line,               // 원본 파일 줄 번호 (1부터)
+            String code,
+            String message
+    ) {}
+}
@@ -0,0 +1,9 @@
+package com.rolling.pokerly.gamesession.dto;
+
+import java.util.List;
+
+public record GameSessionPageResponse(
+        List<GameSessionResponse> items,
+        String nextCursor,      // 마지막 페이지면 null
+        boolean hasNext
+) {}
@@ -0,0 +1,29 @@
+package com.rolling.pokerly.gamesession.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+/**
+ * 세션 검색 조건 (모두 선택, null 이면 적용 안 함)
+ *
+ * 금액 범위는 양 끝 포함.
+ */
+public record GameSessionSearchRequest(
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        String sessionType,     // VENUE / MAJOR / ONLINE / OTHER
+        String gameType,        // "GTD", "데일리" 등 (정확히 일치)
+        Long venueId,
+        Boolean collab,
+        Long minBuyIn,
+        Long maxBuyIn,
+        Long minPrize,
+        Long maxPrize,
+        Long minProfit,
+        Long maxProfit,
+        Boolean itm,            // true: prize > 0, false: prize = 0
+
+        String cursor,
+        Integer size
+) {}
@@ -0,0 +1,21 @@
+package com.rolling.pokerly.gamesession.dto;
+
+import java.util.List;
+
+public record GameSessionSearchResponse(
+        List<GameSessionResponse> items,
+        String nextCursor,      // 마지막 페이지면 null
+        boolean hasNext,
+        SearchTotals totals     // 첫 페이지(cursor 없음)에서만 계산, 이후 null
+) {
+
+    // 조건에 맞는 전체 세션 합계
+    public record SearchTotals(
+            long sessions,
+            long totalBuyIn,
+            long totalPrize,
+            long totalProfit,
+            long itmCount,
+            double roi          // %
+    ) {}
+}
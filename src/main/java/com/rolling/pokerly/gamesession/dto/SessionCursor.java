@@ -0,0 +1,45 @@
+package com.rolling.pokerly.gamesession.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.gamesession.domain.GameSession;
+
+/**
+ * 세션 목록 커서 (play_date, id)
+ *
+ * 클라이언트에는 불투명한 문자열로 내려가고, 다음 페이지 요청 때 그대로 돌려받는다.
+ * 형식: base64url("yyyy-MM-dd:id")
+ */
+public record SessionCursor(LocalDate playDate, Long id) {
+
+    public static SessionCursor of(GameSession s) {
+        return new SessionCursor(s.getPlayDate(), s.getId());
+    }
+
+    public String encode() {
+        String raw = playDate + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 비어 있으면 null (첫 페이지) */
+    public static SessionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new SessionCursor(
+                    LocalDate.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "잘못된 커서입니다.");
+        }
+    }
+}
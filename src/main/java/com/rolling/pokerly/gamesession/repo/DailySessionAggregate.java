@@ -0,0 +1,19 @@
+package com.rolling.pokerly.gamesession.repo;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 세션 합계 프로젝션 (GROUP BY play_date)
+ */
+public record DailySessionAggregate(
+        LocalDate playDate,
+        Long sessionCount,
+        Long buyIn,
+        Long prize,
+        Long profit,
+        Long itmCount,
+        Long itmPrize,      // ITM 세션 프라이즈 합
+        Long maxProfit,     // 해당 날짜 세션 중 최고 손익
+        Long minProfit      // 해당 날짜 세션 중 최저 손익
+) {
+}
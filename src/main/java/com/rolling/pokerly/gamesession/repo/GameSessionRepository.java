@@ -3,14 +3,21 @@ package com.rolling.pokerly.gamesession.repo;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.rolling.pokerly.gamesession.domain.GameSession;
 
-public interface GameSessionRepository extends JpaRepository<GameSession, Long> {
+import jakarta.persistence.QueryHint;
+
+public interface GameSessionRepository extends JpaRepository<GameSession, Long>, GameSessionSearchRepository {
+
+    String STREAM_FETCH_SIZE = "500";
 
     Optional<GameSession> findByIdAndUserId(Long id, Long userId);
 
@@ -32,8 +39,56 @@ public interface GameSessionRepository extends JpaRepository<GameSession, Long>
     // 최근 100개 세션 (유저 기준, 날짜 최신순)
     List<GameSession> findTop100ByUserIdOrderByPlayDateDescIdDesc(Long userId);
 
-    // 최근 3개 세션 (대시보드 하단용)
-    List<GameSession> findTop3ByUserIdOrderByPlayDateDesc(Long userId);
+    /**
+     * 월간 대시보드용: 최근 3개 세션 + 해당 기간 세션을 한 번에 (중복 행은 UNION 이 제거)
+     * 두 쪽 모두 idx_gs_user_date 범위 조회. 정렬 / 나누기는 호출하는 쪽에서.
+     */
+    @Query(value = """
+        (SELECT * FROM game_sessions
+         WHERE user_id = :userId
+         ORDER BY play_date DESC, id DESC
+         LIMIT 3)
+        UNION
+        (SELECT * FROM game_sessions
+         WHERE user_id = :userId
+           AND play_date BETWEEN :start AND :end)
+        """, nativeQuery = true)
+    List<GameSession> findRecent3AndPlayDateBetween(
+            @Param("userId") Long userId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    /**
+     * 세션 목록 키셋 페이지 (play_date desc, id desc)
+     *
+     * OFFSET 없이 직전 페이지 마지막 (play_date, id) 뒤부터 읽는다.
+     * idx_gs_user_date(user_id, play_date) + PK(id) 역순 스캔이라 몇 번째 페이지든 비용이 같다.
+     * 필터는 null 이면 적용하지 않음.
+     */
+    @Query("""
+        select s
+        from GameSession s
+        where s.userId = :userId
+          and (:sessionType is null or s.sessionType = :sessionType)
+          and (:venueId is null or s.venueId = :venueId)
+          and (:from is null or s.playDate >= :from)
+          and (:to is null or s.playDate <= :to)
+          and (:cursorDate is null
+               or s.playDate < :cursorDate
+               or (s.playDate = :cursorDate and s.id < :cursorId))
+        order by s.playDate desc, s.id desc
+        """)
+    List<GameSession> findPageByUserId(
+            @Param("userId") Long userId,
+            @Param("sessionType") String sessionType,
+            @Param("venueId") Long venueId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
 
     // 해당 월 범위 세션들
     List<GameSession> findByUserIdAndPlayDateBetween(Long userId, LocalDate start, LocalDate end);
@@ -48,5 +103,116 @@ public interface GameSessionRepository extends JpaRepository<GameSession, Long>
         """)
     List<GameSession> findVenueSessionsByUserId(@Param("userId") Long userId);
 
+    @Query("""
+        select new com.rolling.pokerly.gamesession.repo.SessionPrizeRow(s.id, s.playDate, s.prize)
+        from GameSession s
+        where s.userId = :userId
+        order by s.playDate asc, s.id asc
+        """)
+    List<SessionPrizeRow> findPrizeRowsByUserId(@Param("userId") Long userId);
+
+    @Query("select distinct s.userId from GameSession s")
+    List<Long> findDistinctUserIds();
+
+    // ===== 월간 통계용 집계 프로젝션 (idx_gs_user_date 범위 조회, 엔티티 로딩 없음) =====
+
+    @Query("""
+        select new com.rolling.pokerly.gamesession.repo.DailySessionAggregate(
+            s.playDate,
+            count(s),
+            coalesce(sum(s.totalBuyIn), 0L),
+            coalesce(sum(s.prize), 0L),
+            coalesce(sum(s.netProfit), 0L),
+            sum(case when s.prize > 0 then 1L else 0L end),
+            coalesce(sum(case when s.prize > 0 then s.prize else 0L end), 0L),
+            max(s.netProfit),
+            min(s.netProfit)
+        )
+        from GameSession s
+        where s.userId = :userId
+          and s.playDate between :start and :end
+        group by s.playDate
+        order by s.playDate asc
+        """)
+    List<DailySessionAggregate> aggregateDailyByUserIdAndPlayDateBetween(
+            @Param("userId") Long userId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    @Query("""
+        select new com.rolling.pokerly.gamesession.repo.SessionPrizeRow(s.id, s.playDate, s.prize)
+        from GameSession s
+        where s.userId = :userId
+          and s.playDate between :start and :end
+        order by s.playDate asc, s.id asc
+        """)
+    List<SessionPrizeRow> findPrizeRowsByUserIdAndPlayDateBetween(
+            @Param("userId") Long userId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end
+    );
+
+    // ===== 매장 통계용 (idx_gs_user_type_venue) =====
+
+    @Query("""
+        select new com.rolling.pokerly.gamesession.repo.VenueSessionAggregate(
+            s.venueId,
+            count(s),
+            coalesce(sum(s.totalBuyIn), 0L),
+            coalesce(sum(s.prize), 0L),
+            coalesce(sum(s.netProfit), 0L),
+            sum(case when s.prize > 0 then 1L else 0L end),
+            sum(case when s.fieldEntries > 0 then 1L else 0L end),
+            coalesce(sum(case when s.fieldEntries > 0 then s.fieldEntries else 0 end), 0L)
+        )
+        from GameSession s
+        where s.userId = :userId
+          and s.sessionType = 'VENUE'
+          and s.venueId is not null
+        group by s.venueId
+        """)
+    List<VenueSessionAggregate> aggregateVenueSessionsByUserId(@Param("userId") Long userId);
+
+    // ===== 세션 통계 탭용 (idx_gs_user_net_profit) =====
+
+    // 수익 상위 3개 (같은 수익이면 최근 id 먼저 - 인덱스 역순 스캔 그대로)
+    List<GameSession> findTop3ByUserIdOrderByNetProfitDescIdDesc(Long userId);
+
+    // 수익 하위 3개
+    List<GameSession> findTop3ByUserIdOrderByNetProfitAscIdAsc(Long userId);
+
+    // includeRawProfits 요청 때만 (컬럼 하나, 인덱스만 읽음)
+    @Query("select s.netProfit from GameSession s where s.userId = :userId order by s.netProfit asc")
+    List<Long> findNetProfitsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 손익 고정 폭 구간별 세션 수. width 는 1 이상.
+     * DIV 는 0 쪽으로 자르므로 나머지가 음수면 1 을 빼서 floorDiv 와 맞춘다.
+     */
+    @Query(value = """
+        SELECT b.bucket_index AS bucketIndex, COUNT(*) AS sessionCount
+        FROM (
+          SELECT (net_profit DIV :width) - (net_profit MOD :width < 0) AS bucket_index
+          FROM game_sessions
+          WHERE user_id = :userId
+        ) b
+        GROUP BY b.bucket_index
+        """, nativeQuery = true)
+    List<ProfitBucketRow> countByProfitBucket(@Param("userId") Long userId, @Param("width") long width);
+
+    // ===== 전체 이력 스트리밍 (트랜잭션 안에서 try-with-resources 로 소비, 읽은 엔티티는 detach) =====
+
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = STREAM_FETCH_SIZE),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("""
+        select s
+        from GameSession s
+        where s.userId = :userId
+        order by s.playDate asc, s.id asc
+        """)
+    Stream<GameSession> streamByUserIdOrderByPlayDateAscIdAsc(@Param("userId") Long userId);
 
 }
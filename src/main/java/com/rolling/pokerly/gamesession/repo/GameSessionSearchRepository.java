@@ -0,0 +1,19 @@
+package com.rolling.pokerly.gamesession.repo;
+
+import java.util.List;
+
+import com.rolling.pokerly.gamesession.domain.GameSession;
+import com.rolling.pokerly.gamesession.dto.SessionCursor;
+
+/**
+ * 다중 조건 세션 검색 (GameSessionRepository 커스텀 조각)
+ */
+public interface GameSessionSearchRepository {
+
+    /**
+     * (play_date desc, id desc) 키셋 페이지. after 가 null 이면 첫 페이지
+     */
+    List<GameSession> search(Long userId, SessionSearchCriteria criteria, SessionCursor after, int limit);
+
+    SessionSearchTotals searchTotals(Long userId, SessionSearchCriteria criteria);
+}
@@ -0,0 +1,105 @@
+package com.rolling.pokerly.gamesession.repo;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.rolling.pokerly.gamesession.domain.GameSession;
+import com.rolling.pokerly.gamesession.dto.SessionCursor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * 검색 조건을 Criteria API 로 조합해서 SQL 한 번으로 조회
+ *
+ * user_id 는 항상 첫 조건이라 V21 의 (user_id, ...) 복합 인덱스들을 탄다.
+ * 정렬은 (play_date desc, id desc) 고정이고, 커서 이후만 읽는다 (OFFSET 없음).
+ */
+class GameSessionSearchRepositoryImpl implements GameSessionSearchRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<GameSession> search(Long userId, SessionSearchCriteria criteria, SessionCursor after, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<GameSession> q = cb.createQuery(GameSession.class);
+        Root<GameSession> s = q.from(GameSession.class);
+
+        List<Predicate> where = predicates(cb, s, userId, criteria);
+        if (after != null) {
+            where.add(cb.or(
+                    cb.lessThan(s.<LocalDate>get("playDate"), after.playDate()),
+                    cb.and(
+                            cb.equal(s.<LocalDate>get("playDate"), after.playDate()),
+                            cb.lessThan(s.<Long>get("id"), after.id())
+                    )
+            ));
+        }
+
+        q.select(s)
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.desc(s.<LocalDate>get("playDate")), cb.desc(s.<Long>get("id")));
+
+        return em.createQuery(q)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public SessionSearchTotals searchTotals(Long userId, SessionSearchCriteria criteria) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<SessionSearchTotals> q = cb.createQuery(SessionSearchTotals.class);
+        Root<GameSession> s = q.from(GameSession.class);
+
+        Expression<Long> itm = cb.<Long>selectCase()
+                .when(cb.gt(s.<Long>get("prize"), 0L), 1L)
+                .otherwise(0L);
+
+        q.select(cb.construct(
+                        SessionSearchTotals.class,
+                        cb.count(s),
+                        cb.coalesce(cb.sum(s.<Long>get("totalBuyIn")), 0L),
+                        cb.coalesce(cb.sum(s.<Long>get("prize")), 0L),
+                        cb.coalesce(cb.sum(s.<Long>get("netProfit")), 0L),
+                        cb.coalesce(cb.sum(itm), 0L)
+                ))
+                .where(predicates(cb, s, userId, criteria).toArray(Predicate[]::new));
+
+        return em.createQuery(q).getSingleResult();
+    }
+
+    private List<Predicate> predicates(CriteriaBuilder cb, Root<GameSession> s, Long userId, SessionSearchCriteria c) {
+        List<Predicate> p = new ArrayList<>();
+        p.add(cb.equal(s.get("userId"), userId));
+
+        if (c.from() != null) p.add(cb.greaterThanOrEqualTo(s.<LocalDate>get("playDate"), c.from()));
+        if (c.to() != null) p.add(cb.lessThanOrEqualTo(s.<LocalDate>get("playDate"), c.to()));
+        if (c.sessionType() != null) p.add(cb.equal(s.get("sessionType"), c.sessionType()));
+        if (c.gameType() != null) p.add(cb.equal(s.get("gameType"), c.gameType()));
+        if (c.venueId() != null) p.add(cb.equal(s.get("venueId"), c.venueId()));
+        if (c.collab() != null) p.add(cb.equal(s.get("collab"), c.collab()));
+
+        range(cb, p, s.<Long>get("totalBuyIn"), c.minBuyIn(), c.maxBuyIn());
+        range(cb, p, s.<Long>get("prize"), c.minPrize(), c.maxPrize());
+        range(cb, p, s.<Long>get("netProfit"), c.minProfit(), c.maxProfit());
+
+        if (c.itm() != null) {
+            p.add(c.itm()
+                    ? cb.gt(s.<Long>get("prize"), 0L)
+                    : cb.le(s.<Long>get("prize"), 0L));
+        }
+        return p;
+    }
+
+    private static void range(CriteriaBuilder cb, List<Predicate> p, Expression<Long> path, Long min, Long max) {
+        if (min != null) p.add(cb.ge(path, min));
+        if (max != null) p.add(cb.le(path, max));
+    }
+}
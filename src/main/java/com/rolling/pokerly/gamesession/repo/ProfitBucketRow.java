@@ -0,0 +1,13 @@
+package com.rolling.pokerly.gamesession.repo;
+
+/**
+ * 고정 폭 손익 구간별 세션 수 (native 조회 결과)
+ *
+ * bucketIndex: floorDiv(net_profit, width) - 구간 시작 = bucketIndex * width
+ */
+public interface ProfitBucketRow {
+
+    Long getBucketIndex();
+
+    Long getSessionCount();
+}
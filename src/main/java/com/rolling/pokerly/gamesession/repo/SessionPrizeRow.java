@@ -0,0 +1,13 @@
+package com.rolling.pokerly.gamesession.repo;
+
+import java.time.LocalDate;
+
+/**
+ * 연속 ITM 계산용 최소 컬럼 프로젝션 (play_date, id 순서로 조회)
+ */
+public record SessionPrizeRow(
+        Long id,
+        LocalDate playDate,
+        Long prize
+) {
+}
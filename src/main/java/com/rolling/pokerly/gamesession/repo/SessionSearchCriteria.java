@@ -0,0 +1,22 @@
+package com.rolling.pokerly.gamesession.repo;
+
+import java.time.LocalDate;
+
+/**
+ * 정규화가 끝난 세션 검색 조건 (null 이면 적용 안 함)
+ */
+public record SessionSearchCriteria(
+        LocalDate from,
+        LocalDate to,
+        String sessionType,
+        String gameType,
+        Long venueId,
+        Boolean collab,
+        Long minBuyIn,
+        Long maxBuyIn,
+        Long minPrize,
+        Long maxPrize,
+        Long minProfit,
+        Long maxProfit,
+        Boolean itm
+) {}
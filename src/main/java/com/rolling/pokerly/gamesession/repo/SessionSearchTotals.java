@@ -0,0 +1,12 @@
+package com.rolling.pokerly.gamesession.repo;
+
+/**
+ * 검색 조건에 맞는 세션 합계 프로젝션
+ */
+public record SessionSearchTotals(
+        Long sessionCount,
+        Long buyIn,
+        Long prize,
+        Long profit,
+        Long itmCount
+) {}
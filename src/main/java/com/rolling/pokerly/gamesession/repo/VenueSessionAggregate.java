@@ -0,0 +1,18 @@
+package com.rolling.pokerly.gamesession.repo;
+
+/**
+ * 매장별 세션 합계 프로젝션 (GROUP BY venue_id)
+ *
+ * 매장 이름은 매장 디렉터리(VenueDirectoryService)에서 붙인다.
+ */
+public record VenueSessionAggregate(
+        Long venueId,
+        Long sessionCount,
+        Long buyIn,
+        Long prize,
+        Long profit,
+        Long itmCount,
+        Long entrySamples,   // fieldEntries > 0 인 세션 수
+        Long entrySum
+) {
+}
@@ -1,7 +1,9 @@
 package com.rolling.pokerly.handlog.api;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,18 +13,35 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.rolling.pokerly.core.response.ApiResponse;
+import com.rolling.pokerly.handlog.application.HandLogBlindTemplateService;
+import com.rolling.pokerly.handlog.application.HandLogHandBatchService;
+import com.rolling.pokerly.handlog.application.HandLogReviewService;
 import com.rolling.pokerly.handlog.application.HandLogService;
+import com.rolling.pokerly.handlog.application.HandLogStatsService;
 import com.rolling.pokerly.handlog.dto.HandLogBlindLevelCopyRequest;
 import com.rolling.pokerly.handlog.dto.HandLogBlindLevelCreateRequest;
 import com.rolling.pokerly.handlog.dto.HandLogBlindLevelResponse;
+import com.rolling.pokerly.handlog.dto.HandLogBlindTemplateApplyRequest;
+import com.rolling.pokerly.handlog.dto.HandLogBlindTemplateCreateRequest;
+import com.rolling.pokerly.handlog.dto.HandLogBlindTemplateResponse;
+import com.rolling.pokerly.handlog.dto.HandLogEventBulkRequest;
+import com.rolling.pokerly.handlog.dto.HandLogEventBulkResponse;
 import com.rolling.pokerly.handlog.dto.HandLogEventCreateRequest;
 import com.rolling.pokerly.handlog.dto.HandLogEventResponse;
+import com.rolling.pokerly.handlog.dto.HandLogHandBatchRequest;
+import com.rolling.pokerly.handlog.dto.HandLogHandBatchResponse;
 import com.rolling.pokerly.handlog.dto.HandLogHandCreateRequest;
+import com.rolling.pokerly.handlog.dto.HandLogHandGridResponse;
 import com.rolling.pokerly.handlog.dto.HandLogHandMoveRequest;
 import com.rolling.pokerly.handlog.dto.HandLogHandResponse;
+import com.rolling.pokerly.handlog.dto.HandLogReviewRequest;
+import com.rolling.pokerly.handlog.dto.HandLogReviewResponse;
+import com.rolling.pokerly.handlog.dto.HandLogStatsResponse;
+import com.rolling.pokerly.handlog.repo.HandLogStatsScope;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,11 +51,50 @@ import lombok.RequiredArgsConstructor;
 public class HandLogController {
 
     private final HandLogService handLogService;
+    private final HandLogHandBatchService handLogHandBatchService;
+    private final HandLogStatsService handLogStatsService;
+    private final HandLogBlindTemplateService blindTemplateService;
+    private final HandLogReviewService reviewService;
 
+    // view=summary(기본): 구간별 핸드 수만, view=full: 핸드 목록 포함
+    // archived=true: 보관함
     @GetMapping("/events")
     public ApiResponse<List<HandLogEventResponse>> getMyEvents(
-            @AuthenticationPrincipal(expression = "userId") Long userId) {
-        var res = handLogService.getMyEvents(userId);
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestParam(name = "view", defaultValue = "summary") String view,
+            @RequestParam(name = "archived", defaultValue = "false") boolean archived) {
+        var res = handLogService.getMyEvents(userId, view, archived);
+        return ApiResponse.ok(res);
+    }
+
+    // 포지션 / 액션 / 핸드 강도 / BB 크기별 통계 (eventIds, from~to 는 선택)
+    @GetMapping("/stats")
+    public ApiResponse<HandLogStatsResponse> getStats(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestParam(name = "eventIds", required = false) List<Long> eventIds,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+        var res = handLogStatsService.getStats(userId, new HandLogStatsScope(eventIds, from, to));
+        return ApiResponse.ok(res);
+    }
+
+    // 13x13 스타팅 핸드 그리드 (169칸 핸드 수 / 결과)
+    @GetMapping("/stats/grid")
+    public ApiResponse<HandLogHandGridResponse> getGrid(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestParam(name = "eventIds", required = false) List<Long> eventIds,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to) {
+        var res = handLogStatsService.getGrid(userId, new HandLogStatsScope(eventIds, from, to));
+        return ApiResponse.ok(res);
+    }
+
+    // 여러 대회 보관 / 보관 해제 / 삭제 (핸드가 있는 대회는 삭제하지 않음)
+    @PostMapping("/events/bulk")
+    public ApiResponse<HandLogEventBulkResponse> bulkUpdateEvents(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestBody HandLogEventBulkRequest request) {
+        var res = handLogService.bulkUpdateEvents(userId, request);
         return ApiResponse.ok(res);
     }
 
@@ -91,6 +149,48 @@ public class HandLogController {
         return ApiResponse.ok(res);
     }
 
+    // 템플릿 구조를 대회에 적용 (구간이 없는 대회만)
+    @PostMapping("/events/{eventId}/blind-levels/apply-template")
+    public ApiResponse<HandLogEventResponse> applyBlindTemplate(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @PathVariable(name = "eventId") Long eventId,
+            @RequestBody HandLogBlindTemplateApplyRequest request) {
+        var res = blindTemplateService.applyTemplate(userId, eventId, request);
+        return ApiResponse.ok(res);
+    }
+
+    // 블라인드 구조 템플릿 (내 것 + 시스템 공용)
+    @GetMapping("/blind-templates")
+    public ApiResponse<List<HandLogBlindTemplateResponse>> getBlindTemplates(
+            @AuthenticationPrincipal(expression = "userId") Long userId) {
+        var res = blindTemplateService.getTemplates(userId);
+        return ApiResponse.ok(res);
+    }
+
+    @GetMapping("/blind-templates/{templateId}")
+    public ApiResponse<HandLogBlindTemplateResponse> getBlindTemplate(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @PathVariable(name = "templateId") Long templateId) {
+        var res = blindTemplateService.getTemplate(userId, templateId);
+        return ApiResponse.ok(res);
+    }
+
+    @PostMapping("/blind-templates")
+    public ApiResponse<HandLogBlindTemplateResponse> createBlindTemplate(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestBody HandLogBlindTemplateCreateRequest request) {
+        var res = blindTemplateService.createTemplate(userId, request);
+        return ApiResponse.ok(res);
+    }
+
+    @DeleteMapping("/blind-templates/{templateId}")
+    public ApiResponse<Void> deleteBlindTemplate(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @PathVariable(name = "templateId") Long templateId) {
+        blindTemplateService.deleteTemplate(userId, templateId);
+        return ApiResponse.ok(null);
+    }
+
     @GetMapping("/events/{eventId}/blind-levels/{blindLevelId}")
     public ApiResponse<HandLogBlindLevelResponse> getBlindLevelDetail(
             @AuthenticationPrincipal(expression = "userId") Long userId,
@@ -129,6 +229,16 @@ public class HandLogController {
         return ApiResponse.ok(res);
     }
 
+    // 여러 구간의 핸드를 한 번에 (항목별 결과, clientRequestId 로 재전송 중복 방지)
+    @PostMapping("/events/{eventId}/hands/batch")
+    public ApiResponse<HandLogHandBatchResponse> createHands(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @PathVariable(name = "eventId") Long eventId,
+            @RequestBody HandLogHandBatchRequest request) {
+        var res = handLogHandBatchService.createHands(userId, eventId, request);
+        return ApiResponse.ok(res);
+    }
+
     @GetMapping("/events/{eventId}/blind-levels/{blindLevelId}/hands/{handId}")
     public ApiResponse<HandLogHandResponse> getHandDetail(
             @AuthenticationPrincipal(expression = "userId") Long userId,
@@ -170,4 +280,37 @@ public class HandLogController {
         handLogService.deleteHand(userId, eventId, blindLevelId, handId);
         return ApiResponse.ok(null);
     }
-}
\ No newline at end of file
+
+    // ===== 핸드 복기 (본문은 여기서만, 목록에는 hasReview 만) =====
+
+    @GetMapping("/events/{eventId}/blind-levels/{blindLevelId}/hands/{handId}/review")
+    public ApiResponse<HandLogReviewResponse> getReview(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @PathVariable(name = "eventId") Long eventId,
+            @PathVariable(name = "blindLevelId") Long blindLevelId,
+            @PathVariable(name = "handId") Long handId) {
+        var res = reviewService.getReview(userId, eventId, blindLevelId, handId);
+        return ApiResponse.ok(res);
+    }
+
+    @PutMapping("/events/{eventId}/blind-levels/{blindLevelId}/hands/{handId}/review")
+    public ApiResponse<HandLogReviewResponse> saveReview(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @PathVariable(name = "eventId") Long eventId,
+            @PathVariable(name = "blindLevelId") Long blindLevelId,
+            @PathVariable(name = "handId") Long handId,
+            @RequestBody HandLogReviewRequest request) {
+        var res = reviewService.saveReview(userId, eventId, blindLevelId, handId, request);
+        return ApiResponse.ok(res);
+    }
+
+    @DeleteMapping("/events/{eventId}/blind-levels/{blindLevelId}/hands/{handId}/review")
+    public ApiResponse<Void> deleteReview(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @PathVariable(name = "eventId") Long eventId,
+            @PathVariable(name = "blindLevelId") Long blindLevelId,
+            @PathVariable(name = "handId") Long handId) {
+        reviewService.deleteReview(userId, eventId, blindLevelId, handId);
+        return ApiResponse.ok(null);
+    }
+}
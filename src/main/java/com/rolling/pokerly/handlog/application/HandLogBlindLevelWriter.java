@@ -0,0 +1,85 @@
+package com.rolling.pokerly.handlog.application;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.rolling.pokerly.handlog.dto.HandLogBlindLevelCreateRequest;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 블라인드 구간 일괄 복사 (JDBC)
+ *
+ * saveAll 은 IDENTITY 라 구간 수만큼 INSERT 가 나가므로,
+ * 복사는 INSERT ... SELECT 한 문장, 요청 값 저장은 batch insert 한 번으로 처리한다.
+ * 소유권 확인은 호출하는 쪽에서 끝낸 뒤 부를 것.
+ */
+@Component
+@RequiredArgsConstructor
+class HandLogBlindLevelWriter {
+
+    private static final String COPY_EVENT_TO_EVENT_SQL = """
+            INSERT INTO hand_log_blind_levels
+              (user_id, event_id, level_no, small_blind, big_blind, ante, created_at, updated_at)
+            SELECT user_id, ?, level_no, small_blind, big_blind, ante, NOW(), NOW()
+              FROM hand_log_blind_levels
+             WHERE user_id = ?
+               AND event_id = ?
+             ORDER BY level_no, created_at
+            """;
+
+    private static final String COPY_TEMPLATE_TO_EVENT_SQL = """
+            INSERT INTO hand_log_blind_levels
+              (user_id, event_id, level_no, small_blind, big_blind, ante, created_at, updated_at)
+            SELECT ?, ?, level_no, small_blind, big_blind, ante, NOW(), NOW()
+              FROM hand_log_blind_template_levels
+             WHERE template_id = ?
+             ORDER BY level_no, template_level_id
+            """;
+
+    private static final String COPY_EVENT_TO_TEMPLATE_SQL = """
+            INSERT INTO hand_log_blind_template_levels
+              (template_id, level_no, small_blind, big_blind, ante)
+            SELECT ?, level_no, small_blind, big_blind, ante
+              FROM hand_log_blind_levels
+             WHERE user_id = ?
+               AND event_id = ?
+             ORDER BY level_no, created_at
+            """;
+
+    private static final String INSERT_TEMPLATE_LEVEL_SQL = """
+            INSERT INTO hand_log_blind_template_levels
+              (template_id, level_no, small_blind, big_blind, ante)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** @return 복사된 구간 수 */
+    int copyEventToEvent(Long userId, Long sourceEventId, Long targetEventId) {
+        return jdbcTemplate.update(COPY_EVENT_TO_EVENT_SQL, targetEventId, userId, sourceEventId);
+    }
+
+    /** @return 복사된 구간 수 */
+    int copyTemplateToEvent(Long userId, Long templateId, Long targetEventId) {
+        return jdbcTemplate.update(COPY_TEMPLATE_TO_EVENT_SQL, userId, targetEventId, templateId);
+    }
+
+    /** @return 복사된 구간 수 */
+    int copyEventToTemplate(Long userId, Long sourceEventId, Long templateId) {
+        return jdbcTemplate.update(COPY_EVENT_TO_TEMPLATE_SQL, templateId, userId, sourceEventId);
+    }
+
+    /** levels 는 검증 / 기본값 처리가 끝난 상태 */
+    void insertTemplateLevels(Long templateId, List<HandLogBlindLevelCreateRequest> levels) {
+        jdbcTemplate.batchUpdate(INSERT_TEMPLATE_LEVEL_SQL, levels, levels.size(), (ps, l) -> {
+            ps.setLong(1, templateId);
+            ps.setInt(2, l.levelNo());
+            ps.setInt(3, l.smallBlind());
+            ps.setInt(4, l.bigBlind());
+            ps.setInt(5, l.ante());
+        });
+    }
+}
@@ -0,0 +1,217 @@
+package com.rolling.pokerly.handlog.application;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.handlog.domain.HandLogBlindTemplate;
+import com.rolling.pokerly.handlog.dto.HandLogBlindLevelCreateRequest;
+import com.rolling.pokerly.handlog.dto.HandLogBlindLevelResponse;
+import com.rolling.pokerly.handlog.dto.HandLogBlindTemplateApplyRequest;
+import com.rolling.pokerly.handlog.dto.HandLogBlindTemplateCreateRequest;
+import com.rolling.pokerly.handlog.dto.HandLogBlindTemplateResponse;
+import com.rolling.pokerly.handlog.dto.HandLogEventResponse;
+import com.rolling.pokerly.handlog.repo.HandLogBlindLevelRepository;
+import com.rolling.pokerly.handlog.repo.HandLogBlindTemplateLevelRepository;
+import com.rolling.pokerly.handlog.repo.HandLogBlindTemplateRepository;
+import com.rolling.pokerly.handlog.repo.HandLogEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 블라인드 구조 템플릿 (내 템플릿 + 시스템 공용 템플릿)
+ *
+ * 대회에 적용할 때는 INSERT ... SELECT 한 문장으로 구간을 만든다 (구간 수와 무관하게 1번).
+ */
+@Service
+@RequiredArgsConstructor
+public class HandLogBlindTemplateService {
+
+    public static final int MAX_LEVELS = 100;
+
+    private final HandLogBlindTemplateRepository templateRepository;
+    private final HandLogBlindTemplateLevelRepository templateLevelRepository;
+    private final HandLogEventRepository eventRepository;
+    private final HandLogBlindLevelRepository blindLevelRepository;
+    private final HandLogBlindLevelWriter blindLevelWriter;
+
+    @Transactional(readOnly = true)
+    public List<HandLogBlindTemplateResponse> getTemplates(Long userId) {
+        return templateRepository.findVisibleByUserId(userId)
+                .stream()
+                .map(t -> HandLogBlindTemplateResponse.from(t, List.of()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public HandLogBlindTemplateResponse getTemplate(Long userId, Long templateId) {
+        var template = getTemplateOrThrow(userId, templateId);
+
+        var levels = templateLevelRepository.findAllByTemplateIdOrderByLevelNoAsc(templateId)
+                .stream()
+                .map(HandLogBlindTemplateResponse.Level::from)
+                .toList();
+
+        return HandLogBlindTemplateResponse.from(template, levels);
+    }
+
+    @Transactional
+    public HandLogBlindTemplateResponse createTemplate(Long userId, HandLogBlindTemplateCreateRequest req) {
+        if (req.name() == null || req.name().trim().isEmpty()) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_TEMPLATE_NAME",
+                    "템플릿 이름을 입력해 주세요.");
+        }
+
+        // 대회 구조를 저장하는 경우: 대회 확인만 하고 복사는 INSERT ... SELECT
+        if (req.sourceEventId() != null) {
+            eventRepository.findByIdAndUserId(req.sourceEventId(), userId)
+                    .orElseThrow(() -> new ApiException(
+                            HttpStatus.NOT_FOUND,
+                            "EVENT_NOT_FOUND",
+                            "대회를 찾을 수 없습니다."));
+
+            var template = templateRepository.save(newTemplate(userId, req.name()));
+            int copied = blindLevelWriter.copyEventToTemplate(userId, req.sourceEventId(), template.getId());
+
+            if (copied == 0) {
+                throw new ApiException(
+                        HttpStatus.BAD_REQUEST,
+                        "SOURCE_EVENT_HAS_NO_LEVELS",
+                        "선택한 대회에 저장할 블라인드 구간이 없습니다.");
+            }
+
+            template.updateLevelCount(copied);
+            return HandLogBlindTemplateResponse.from(template, List.of());
+        }
+
+        var levels = normalizeLevels(req.levels());
+
+        var template = templateRepository.save(newTemplate(userId, req.name()));
+        blindLevelWriter.insertTemplateLevels(template.getId(), levels);
+        template.updateLevelCount(levels.size());
+
+        return HandLogBlindTemplateResponse.from(
+                template,
+                levels.stream()
+                        .map(l -> new HandLogBlindTemplateResponse.Level(l.levelNo(), l.smallBlind(), l.bigBlind(), l.ante()))
+                        .toList());
+    }
+
+    @Transactional
+    public void deleteTemplate(Long userId, Long templateId) {
+        var template = getTemplateOrThrow(userId, templateId);
+
+        if (template.isSystem()) {
+            throw new ApiException(
+                    HttpStatus.FORBIDDEN,
+                    "SYSTEM_TEMPLATE_READ_ONLY",
+                    "기본 제공 템플릿은 삭제할 수 없습니다.");
+        }
+
+        // 템플릿 구간은 FK ON DELETE CASCADE
+        templateRepository.delete(template);
+    }
+
+    /**
+     * 템플릿 → 대회 블라인드 구간 (구간이 없는 대회에만)
+     */
+    @Transactional
+    public HandLogEventResponse applyTemplate(Long userId, Long eventId, HandLogBlindTemplateApplyRequest req) {
+        if (req.templateId() == null) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_TEMPLATE",
+                    "불러올 템플릿을 선택해 주세요.");
+        }
+
+        var event = eventRepository.findByIdAndUserId(eventId, userId)
+                .orElseThrow(() -> new ApiException(
+                        HttpStatus.NOT_FOUND,
+                        "EVENT_NOT_FOUND",
+                        "대회를 찾을 수 없습니다."));
+
+        getTemplateOrThrow(userId, req.templateId());
+
+        if (blindLevelRepository.existsByUserIdAndEventId(userId, eventId)) {
+            throw new ApiException(
+                    HttpStatus.CONFLICT,
+                    "TARGET_EVENT_ALREADY_HAS_LEVELS",
+                    "이미 등록된 블라인드 구간이 있어 불러올 수 없습니다.");
+        }
+
+        int copied = blindLevelWriter.copyTemplateToEvent(userId, req.templateId(), eventId);
+
+        if (copied == 0) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "TEMPLATE_HAS_NO_LEVELS",
+                    "선택한 템플릿에 블라인드 구간이 없습니다.");
+        }
+
+        // 방금 만든 구간이라 핸드는 없음
+        var levels = blindLevelRepository
+                .findAllByUserIdAndEventIdOrderByLevelNoAscCreatedAtAsc(userId, eventId)
+                .stream()
+                .map(level -> HandLogBlindLevelResponse.from(level, List.of()))
+                .toList();
+
+        return HandLogEventResponse.from(event, levels);
+    }
+
+    private HandLogBlindTemplate getTemplateOrThrow(Long userId, Long templateId) {
+        return templateRepository.findVisibleById(templateId, userId)
+                .orElseThrow(() -> new ApiException(
+                        HttpStatus.NOT_FOUND,
+                        "TEMPLATE_NOT_FOUND",
+                        "블라인드 템플릿을 찾을 수 없습니다."));
+    }
+
+    private HandLogBlindTemplate newTemplate(Long userId, String name) {
+        return HandLogBlindTemplate.builder()
+                .userId(userId)
+                .name(name.trim())
+                .levelCount(0)
+                .build();
+    }
+
+    // levelNo 필수, 나머지는 0 기본값 (단건 구간 생성과 같은 규칙)
+    private List<HandLogBlindLevelCreateRequest> normalizeLevels(List<HandLogBlindLevelCreateRequest> levels) {
+        if (levels == null || levels.isEmpty()) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "EMPTY_TEMPLATE_LEVELS",
+                    "블라인드 구간을 하나 이상 입력해 주세요.");
+        }
+        if (levels.size() > MAX_LEVELS) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "TOO_MANY_TEMPLATE_LEVELS",
+                    "템플릿에는 최대 " + MAX_LEVELS + "개 구간까지 저장할 수 있습니다.");
+        }
+
+        return levels.stream()
+                .map(l -> {
+                    if (l == null || l.levelNo() == null) {
+                        throw new ApiException(
+                                HttpStatus.BAD_REQUEST,
+                                "INVALID_LEVEL_NO",
+                                "레벨을 입력해 주세요.");
+                    }
+                    return new HandLogBlindLevelCreateRequest(
+                            l.levelNo(),
+                            defaultNumber(l.smallBlind()),
+                            defaultNumber(l.bigBlind()),
+                            defaultNumber(l.ante()));
+                })
+                .toList();
+    }
+
+    private Integer defaultNumber(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
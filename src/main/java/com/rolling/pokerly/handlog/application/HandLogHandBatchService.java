@@ -0,0 +1,275 @@
+package com.rolling.pokerly.handlog.application;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.cache.UserCacheEvictor;
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.handlog.domain.HandLogBlindLevel;
+import com.rolling.pokerly.handlog.domain.HandLogHand;
+import com.rolling.pokerly.handlog.dto.HandLogHandBatchRequest;
+import com.rolling.pokerly.handlog.dto.HandLogHandBatchResponse;
+import com.rolling.pokerly.handlog.dto.HandLogHandBatchResponse.ItemResult;
+import com.rolling.pokerly.handlog.repo.HandLogBlindLevelRepository;
+import com.rolling.pokerly.handlog.repo.HandLogEventRepository;
+import com.rolling.pokerly.handlog.repo.HandLogHandRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 핸드 일괄 기록 (휴식 시간에 여러 핸드를 한 번에)
+ *
+ * - 대회 소유권 1번, 대회 구간 목록 1번, 멱등 키 1번 조회로 모든 항목을 검증
+ * - 통과한 항목은 JDBC batch insert (IDENTITY 왕복 / 영속성 컨텍스트 없음), 전체가 한 트랜잭션
+ * - 잘못된 항목은 REJECTED 로 표시하고 나머지는 저장
+ * - clientRequestId 가 이미 저장돼 있으면 DUPLICATE + 기존 handId (재전송해도 중복 저장 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HandLogHandBatchService {
+
+    public static final int MAX_ITEMS = 200;
+    public static final int MAX_CLIENT_REQUEST_ID_LENGTH = 64;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO hand_log_hands
+              (user_id, event_id, blind_level_id, client_request_id,
+               hole_cards, first_rank, second_rank, suited, hand_class, position,
+               action_type, action_label, preflop_all_in, result_type, result_label,
+               review_required, memo, hand_strength_tier, hand_strength_label, hand_strength_color,
+               created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final HandLogEventRepository eventRepository;
+    private final HandLogBlindLevelRepository blindLevelRepository;
+    private final HandLogHandRepository handRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCacheEvictor userCacheEvictor;
+
+    @Transactional
+    public HandLogHandBatchResponse createHands(Long userId, Long eventId, HandLogHandBatchRequest req) {
+        var items = req == null || req.hands() == null ? List.<HandLogHandBatchRequest.Item>of() : req.hands();
+
+        if (items.isEmpty()) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "EMPTY_HAND_BATCH",
+                    "기록할 핸드가 없습니다.");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new ApiException(
+                    HttpStatus.PAYLOAD_TOO_LARGE,
+                    "HAND_BATCH_TOO_LARGE",
+                    "한 번에 최대 " + MAX_ITEMS + "개 핸드까지 기록할 수 있습니다.");
+        }
+
+        eventRepository.findByIdAndUserId(eventId, userId)
+                .orElseThrow(() -> new ApiException(
+                        HttpStatus.NOT_FOUND,
+                        "EVENT_NOT_FOUND",
+                        "대회를 찾을 수 없습니다."));
+
+        Set<Long> levelIds = blindLevelRepository
+                .findAllByUserIdAndEventIdOrderByLevelNoAscCreatedAtAsc(userId, eventId)
+                .stream()
+                .map(HandLogBlindLevel::getId)
+                .collect(Collectors.toSet());
+
+        Map<String, HandLogHand> existing = findByClientRequestIds(userId, clientRequestIdsOf(items));
+
+        // 1) 항목별 검증 (요청 순서대로 결과 자리 확보)
+        ItemResult[] results = new ItemResult[items.size()];
+        List<HandLogHand> toInsert = new ArrayList<>();
+        Set<String> pendingKeys = new HashSet<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            var item = items.get(i);
+            var key = item == null ? null : trimToNull(item.clientRequestId());
+
+            try {
+                validateItem(item, key, levelIds);
+
+                var saved = existing.get(key);
+                if (saved != null) {
+                    results[i] = duplicate(i, saved.getClientRequestId(), saved.getId(), saved.getBlindLevelId());
+                    continue;
+                }
+                if (pendingKeys.contains(key)) {
+                    // 같은 요청 안에서 키가 겹치면 앞의 것만 저장 (handId 는 저장 후 채움)
+                    results[i] = duplicate(i, key, null, item.blindLevelId());
+                    continue;
+                }
+
+                toInsert.add(HandLogHandPolicy.newHand(userId, eventId, item.blindLevelId(), key, item.hand()));
+                pendingKeys.add(key);
+            } catch (ApiException e) {
+                if (e.getStatus() != HttpStatus.BAD_REQUEST) throw e;
+                results[i] = new ItemResult(
+                        i, key, HandLogHandBatchResponse.REJECTED, null,
+                        item == null ? null : item.blindLevelId(),
+                        e.getCode(), e.getMessage());
+            }
+        }
+
+        // 2) 한 번에 저장 후, 키로 새 handId 조회
+        Map<String, HandLogHand> created = Map.of();
+        if (!toInsert.isEmpty()) {
+            insertBatch(toInsert);
+            userCacheEvictor.evict(userId, CacheNames.HAND_LOG_DEPENDENT);
+            created = findByClientRequestIds(userId, pendingKeys);
+        }
+
+        int createdCount = 0;
+        int duplicateCount = 0;
+        int rejectedCount = 0;
+
+        for (int i = 0; i < results.length; i++) {
+            var r = results[i];
+
+            if (r == null) {
+                var hand = created.get(items.get(i).clientRequestId().trim());
+                results[i] = new ItemResult(
+                        i, hand.getClientRequestId(), HandLogHandBatchResponse.CREATED,
+                        hand.getId(), hand.getBlindLevelId(), null, null);
+                createdCount++;
+            } else if (HandLogHandBatchResponse.DUPLICATE.equals(r.status())) {
+                if (r.handId() == null) {
+                    var hand = created.get(r.clientRequestId());
+                    results[i] = duplicate(i, r.clientRequestId(), hand.getId(), hand.getBlindLevelId());
+                }
+                duplicateCount++;
+            } else {
+                rejectedCount++;
+            }
+        }
+
+        log.info("[HAND_BATCH] userId={}, eventId={}, requested={}, created={}, duplicate={}, rejected={}",
+                userId, eventId, items.size(), createdCount, duplicateCount, rejectedCount);
+
+        return new HandLogHandBatchResponse(
+                items.size(),
+                createdCount,
+                duplicateCount,
+                rejectedCount,
+                List.of(results));
+    }
+
+    private void validateItem(HandLogHandBatchRequest.Item item, String key, Set<Long> levelIds) {
+        if (item == null || item.hand() == null) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_HAND_ITEM",
+                    "핸드 정보가 없습니다.");
+        }
+        if (key == null) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "CLIENT_REQUEST_ID_REQUIRED",
+                    "clientRequestId 가 필요합니다.");
+        }
+        if (key.length() > MAX_CLIENT_REQUEST_ID_LENGTH) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_CLIENT_REQUEST_ID",
+                    "clientRequestId 는 " + MAX_CLIENT_REQUEST_ID_LENGTH + "자 이내여야 합니다.");
+        }
+        if (item.blindLevelId() == null || !levelIds.contains(item.blindLevelId())) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "BLIND_LEVEL_NOT_FOUND",
+                    "블라인드 구간을 찾을 수 없습니다.");
+        }
+
+        // 홀카드 (INVALID_HOLE_CARDS)
+        HandLogHandPolicy.holeCardsOf(item.hand());
+    }
+
+    private Set<String> clientRequestIdsOf(List<HandLogHandBatchRequest.Item> items) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (var item : items) {
+            var key = item == null ? null : trimToNull(item.clientRequestId());
+            if (key != null && key.length() <= MAX_CLIENT_REQUEST_ID_LENGTH) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private Map<String, HandLogHand> findByClientRequestIds(Long userId, Set<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return handRepository.findAllByUserIdAndClientRequestIdIn(userId, keys)
+                .stream()
+                .collect(Collectors.toMap(HandLogHand::getClientRequestId, h -> h));
+    }
+
+    private void insertBatch(List<HandLogHand> hands) {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, hands, hands.size(), (ps, h) -> {
+                ps.setLong(1, h.getUserId());
+                ps.setLong(2, h.getEventId());
+                ps.setLong(3, h.getBlindLevelId());
+                ps.setString(4, h.getClientRequestId());
+                ps.setString(5, h.getHoleCards());
+                ps.setString(6, h.getFirstRank());
+                ps.setString(7, h.getSecondRank());
+                ps.setBoolean(8, h.getSuited());
+                if (h.getHandClass() != null) {
+                    ps.setInt(9, h.getHandClass());
+                } else {
+                    ps.setNull(9, Types.TINYINT);
+                }
+                ps.setString(10, h.getPosition());
+                ps.setString(11, h.getActionType());
+                ps.setString(12, h.getActionLabel());
+                ps.setBoolean(13, h.getPreflopAllIn());
+                ps.setString(14, h.getResultType());
+                ps.setString(15, h.getResultLabel());
+                ps.setBoolean(16, h.getReviewRequired());
+                ps.setString(17, h.getMemo());
+                ps.setString(18, h.getHandStrengthTier());
+                ps.setString(19, h.getHandStrengthLabel());
+                ps.setString(20, h.getHandStrengthColor());
+                ps.setTimestamp(21, now);
+                ps.setTimestamp(22, now);
+            });
+        } catch (DuplicateKeyException e) {
+            // 같은 키로 동시에 들어온 재전송 → 이쪽은 롤백, 클라이언트가 다시 보내면 DUPLICATE 로 응답
+            throw new ApiException(
+                    HttpStatus.CONFLICT,
+                    "HAND_BATCH_IN_PROGRESS",
+                    "같은 핸드 기록이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    private static ItemResult duplicate(int index, String key, Long handId, Long blindLevelId) {
+        return new ItemResult(index, key, HandLogHandBatchResponse.DUPLICATE, handId, blindLevelId, null, null);
+    }
+
+    private static String trimToNull(String s) {
+        if (s == null) return null;
+        var t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+}
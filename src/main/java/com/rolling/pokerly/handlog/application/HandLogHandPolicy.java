@@ -0,0 +1,80 @@
+package com.rolling.pokerly.handlog.application;
+
+import org.springframework.http.HttpStatus;
+
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.handlog.domain.HandClass;
+import com.rolling.pokerly.handlog.domain.HandLogHand;
+import com.rolling.pokerly.handlog.dto.HandLogHandCreateRequest;
+
+/**
+ * 핸드 입력 정규화 규칙
+ *
+ * 단건 생성/수정(HandLogService)과 일괄 기록(HandLogHandBatchService)이
+ * 같은 규칙을 쓰도록 한 곳에 모아 둔다. 위반 시 ApiException(400).
+ */
+final class HandLogHandPolicy {
+
+    private HandLogHandPolicy() {
+    }
+
+    /**
+     * 요청 → 저장 전 핸드
+     */
+    static HandLogHand newHand(
+            Long userId,
+            Long eventId,
+            Long blindLevelId,
+            String clientRequestId,
+            HandLogHandCreateRequest req) {
+        var holeCards = holeCardsOf(req);
+
+        return HandLogHand.builder()
+                .userId(userId)
+                .eventId(eventId)
+                .blindLevelId(blindLevelId)
+                .clientRequestId(clientRequestId)
+
+                .holeCards(holeCards)
+                .firstRank(req.firstRank())
+                .secondRank(req.secondRank())
+                .suited(Boolean.TRUE.equals(req.suited()))
+                .handClass(HandClass.of(req.firstRank(), req.secondRank(), req.suited(), holeCards))
+
+                .position(req.position())
+
+                .actionType(req.actionType())
+                .actionLabel(req.actionLabel())
+                .preflopAllIn(Boolean.TRUE.equals(req.preflopAllIn()))
+
+                .resultType(req.resultType() == null ? "NOT_RECORDED" : req.resultType())
+                .resultLabel(req.resultLabel())
+
+                .reviewRequired(Boolean.TRUE.equals(req.reviewRequired()))
+                .memo(req.memo())
+
+                .handStrengthTier(req.handStrengthTier())
+                .handStrengthLabel(req.handStrengthLabel())
+                .handStrengthColor(req.handStrengthColor())
+
+                .build();
+    }
+
+    /**
+     * holeCards 우선, 없으면 hand (trim 된 값)
+     */
+    static String holeCardsOf(HandLogHandCreateRequest req) {
+        var holeCards = req.holeCards() != null && !req.holeCards().trim().isEmpty()
+                ? req.holeCards()
+                : req.hand();
+
+        if (holeCards == null || holeCards.trim().isEmpty()) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_HOLE_CARDS",
+                    "핸드를 입력해 주세요.");
+        }
+
+        return holeCards.trim();
+    }
+}
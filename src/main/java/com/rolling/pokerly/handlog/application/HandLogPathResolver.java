@@ -0,0 +1,60 @@
+package com.rolling.pokerly.handlog.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.handlog.repo.HandLogEventRepository;
+import com.rolling.pokerly.handlog.repo.HandLogPathRow;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 핸드 기록 중첩 경로 소유권 확인
+ *
+ * 대회 / 블라인드 구간 / 핸드를 각각 조회하던 것을 조인 쿼리 1번으로 처리한다.
+ * 돌려주는 엔티티는 호출한 트랜잭션의 영속성 컨텍스트에 올라가므로 그대로 수정해도 된다.
+ * 에러 코드는 기존과 동일 (EVENT_NOT_FOUND → BLIND_LEVEL_NOT_FOUND → HAND_NOT_FOUND 순).
+ */
+@Component
+@RequiredArgsConstructor
+class HandLogPathResolver {
+
+    private final HandLogEventRepository eventRepository;
+
+    /** /events/{eventId}/blind-levels/{blindLevelId} */
+    HandLogPathRow resolveBlindLevel(Long userId, Long eventId, Long blindLevelId) {
+        return resolve(userId, eventId, blindLevelId, null);
+    }
+
+    /** /events/{eventId}/blind-levels/{blindLevelId}/hands/{handId} */
+    HandLogPathRow resolveHand(Long userId, Long eventId, Long blindLevelId, Long handId) {
+        var path = resolve(userId, eventId, blindLevelId, handId);
+
+        if (path.hand() == null) {
+            throw new ApiException(
+                    HttpStatus.NOT_FOUND,
+                    "HAND_NOT_FOUND",
+                    "핸드 기록을 찾을 수 없습니다.");
+        }
+
+        return path;
+    }
+
+    private HandLogPathRow resolve(Long userId, Long eventId, Long blindLevelId, Long handId) {
+        var path = eventRepository.findPath(userId, eventId, blindLevelId, handId)
+                .orElseThrow(() -> new ApiException(
+                        HttpStatus.NOT_FOUND,
+                        "EVENT_NOT_FOUND",
+                        "대회를 찾을 수 없습니다."));
+
+        if (path.blindLevel() == null) {
+            throw new ApiException(
+                    HttpStatus.NOT_FOUND,
+                    "BLIND_LEVEL_NOT_FOUND",
+                    "블라인드 구간을 찾을 수 없습니다.");
+        }
+
+        return path;
+    }
+}
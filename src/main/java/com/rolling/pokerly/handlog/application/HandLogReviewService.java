@@ -0,0 +1,124 @@
+package com.rolling.pokerly.handlog.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.handlog.domain.HandLogReview;
+import com.rolling.pokerly.handlog.dto.HandLogReviewRequest;
+import com.rolling.pokerly.handlog.dto.HandLogReviewResponse;
+import com.rolling.pokerly.handlog.repo.HandLogPathRow;
+import com.rolling.pokerly.handlog.repo.HandLogReviewRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 핸드 복기 (스트리트별 메모 / 상대 정보 / 결론)
+ *
+ * 본문은 핸드 단위로만 읽고 쓴다. 핸드 / 구간 목록에는 hasReview 만 내려간다.
+ * 경로 소유권 + 복기 존재 여부는 HandLogPathResolver 조인 1번으로 확인.
+ */
+@Service
+@RequiredArgsConstructor
+public class HandLogReviewService {
+
+    public static final int MAX_TEXT_LENGTH = 10_000;
+    public static final int MAX_OPPONENT_HAND_LENGTH = 50;
+    public static final int MAX_OPPONENT_TYPE_LENGTH = 100;
+
+    private final HandLogPathResolver pathResolver;
+    private final HandLogReviewRepository reviewRepository;
+
+    @Transactional(readOnly = true)
+    public HandLogReviewResponse getReview(Long userId, Long eventId, Long blindLevelId, Long handId) {
+        var path = pathResolver.resolveHand(userId, eventId, blindLevelId, handId);
+
+        return HandLogReviewResponse.from(getReviewOrThrow(path));
+    }
+
+    /**
+     * 핸드당 1개라 없으면 만들고 있으면 덮어쓴다.
+     * 존재 확인 후 INSERT 하면 동시 저장 시 유니크 키 충돌(500)이 나므로 upsert 한 번으로 처리한다.
+     */
+    @Transactional
+    public HandLogReviewResponse saveReview(
+            Long userId,
+            Long eventId,
+            Long blindLevelId,
+            Long handId,
+            HandLogReviewRequest req) {
+        validate(req);
+
+        // 소유권 확인
+        pathResolver.resolveHand(userId, eventId, blindLevelId, handId);
+
+        reviewRepository.upsert(
+                userId,
+                handId,
+                trimToNull(req.preflop()),
+                trimToNull(req.flop()),
+                trimToNull(req.turn()),
+                trimToNull(req.river()),
+                trimToNull(req.opponentHand()),
+                trimToNull(req.opponentType()),
+                trimToNull(req.myThought()),
+                trimToNull(req.reviewResult()));
+
+        var review = reviewRepository.findByHandId(handId)
+                .orElseThrow(this::reviewNotFound);
+        return HandLogReviewResponse.from(review);
+    }
+
+    @Transactional
+    public void deleteReview(Long userId, Long eventId, Long blindLevelId, Long handId) {
+        var path = pathResolver.resolveHand(userId, eventId, blindLevelId, handId);
+
+        if (!path.hasReview()) {
+            throw reviewNotFound();
+        }
+
+        reviewRepository.deleteById(path.reviewId());
+    }
+
+    private HandLogReview getReviewOrThrow(HandLogPathRow path) {
+        if (!path.hasReview()) {
+            throw reviewNotFound();
+        }
+        return reviewRepository.findById(path.reviewId())
+                .orElseThrow(this::reviewNotFound);
+    }
+
+    private ApiException reviewNotFound() {
+        return new ApiException(
+                HttpStatus.NOT_FOUND,
+                "REVIEW_NOT_FOUND",
+                "핸드 복기를 찾을 수 없습니다.");
+    }
+
+    private void validate(HandLogReviewRequest req) {
+        checkLength(req.preflop(), MAX_TEXT_LENGTH, "preflop");
+        checkLength(req.flop(), MAX_TEXT_LENGTH, "flop");
+        checkLength(req.turn(), MAX_TEXT_LENGTH, "turn");
+        checkLength(req.river(), MAX_TEXT_LENGTH, "river");
+        checkLength(req.myThought(), MAX_TEXT_LENGTH, "myThought");
+        checkLength(req.reviewResult(), MAX_TEXT_LENGTH, "reviewResult");
+        checkLength(req.opponentHand(), MAX_OPPONENT_HAND_LENGTH, "opponentHand");
+        checkLength(req.opponentType(), MAX_OPPONENT_TYPE_LENGTH, "opponentType");
+    }
+
+    private void checkLength(String value, int max, String field) {
+        if (value != null && value.trim().length() > max) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "REVIEW_FIELD_TOO_LONG",
+                    field + " 은(는) " + max + "자 이내로 입력해 주세요.");
+        }
+    }
+
+    private static String trimToNull(String s) {
+        if (s == null) return null;
+        var t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+}
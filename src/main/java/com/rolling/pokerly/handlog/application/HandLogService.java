@@ -1,14 +1,21 @@
 package com.rolling.pokerly.handlog.application;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.cache.UserCacheEvictor;
 import com.rolling.pokerly.core.exception.ApiException;
 import com.rolling.pokerly.handlog.domain.HandLogBlindLevel;
 import com.rolling.pokerly.handlog.domain.HandLogEvent;
@@ -16,6 +23,8 @@ import com.rolling.pokerly.handlog.domain.HandLogHand;
 import com.rolling.pokerly.handlog.dto.HandLogBlindLevelCopyRequest;
 import com.rolling.pokerly.handlog.dto.HandLogBlindLevelCreateRequest;
 import com.rolling.pokerly.handlog.dto.HandLogBlindLevelResponse;
+import com.rolling.pokerly.handlog.dto.HandLogEventBulkRequest;
+import com.rolling.pokerly.handlog.dto.HandLogEventBulkResponse;
 import com.rolling.pokerly.handlog.dto.HandLogEventCreateRequest;
 import com.rolling.pokerly.handlog.dto.HandLogEventResponse;
 import com.rolling.pokerly.handlog.dto.HandLogHandCreateRequest;
@@ -24,6 +33,8 @@ import com.rolling.pokerly.handlog.dto.HandLogHandResponse;
 import com.rolling.pokerly.handlog.repo.HandLogBlindLevelRepository;
 import com.rolling.pokerly.handlog.repo.HandLogEventRepository;
 import com.rolling.pokerly.handlog.repo.HandLogHandRepository;
+import com.rolling.pokerly.handlog.repo.HandLogLevelHandCount;
+import com.rolling.pokerly.handlog.repo.HandLogReviewRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,18 +42,53 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class HandLogService {
 
+    public static final int MAX_BULK_EVENTS = 500;
+
+    private static final Set<String> BULK_ACTIONS = Set.of("ARCHIVE", "UNARCHIVE", "DELETE");
+
     private final HandLogEventRepository eventRepository;
     private final HandLogBlindLevelRepository blindLevelRepository;
     private final HandLogHandRepository handRepository;
-
+    private final HandLogReviewRepository reviewRepository;
+    private final HandLogPathResolver pathResolver;
+    private final HandLogBlindLevelWriter blindLevelWriter;
+    private final UserCacheEvictor userCacheEvictor;
+
+    /**
+     * 내 대회 목록
+     *
+     * 대회 / 구간 / 핸드(또는 핸드 수)를 각각 쿼리 1번으로 읽는다 (대회 수와 무관하게 3번).
+     *
+     * @param view     summary(기본): 구간별 핸드 수만 GROUP BY 로, 핸드 행은 내려가지 않음
+     *                 full: 구간마다 핸드 목록까지
+     * @param archived true 면 보관한 대회만, false 면 보관하지 않은 대회만
+     */
     @Transactional(readOnly = true)
-    public List<HandLogEventResponse> getMyEvents(Long userId) {
-        return eventRepository.findAllByUserIdOrderByEventAtDescCreatedAtDesc(userId)
-                .stream()
-                .map(event -> {
-                    var levels = getLevelResponses(userId, event.getId());
-                    return HandLogEventResponse.from(event, levels);
-                })
+    public List<HandLogEventResponse> getMyEvents(Long userId, String view, boolean archived) {
+        boolean includeHands = resolveIncludeHands(view);
+
+        var events = archived
+                ? eventRepository.findAllByUserIdAndArchivedAtIsNotNullOrderByEventAtDescCreatedAtDesc(userId)
+                : eventRepository.findAllByUserIdAndArchivedAtIsNullOrderByEventAtDescCreatedAtDesc(userId);
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        var eventIds = events.stream().map(HandLogEvent::getId).toList();
+        var levels = blindLevelRepository
+                .findAllByUserIdAndEventIdInOrderByLevelNoAscCreatedAtAsc(userId, eventIds);
+
+        List<HandLogBlindLevelResponse> levelResponses = includeHands
+                ? toLevelResponses(userId, levels, handRepository.findAllByUserIdAndEventIdInOrderByCreatedAtAsc(userId, eventIds))
+                : toLevelSummaries(levels, handRepository.countByUserIdAndEventIdInGroupByBlindLevelId(userId, eventIds));
+
+        Map<Long, List<HandLogBlindLevelResponse>> levelsByEventId = levelResponses.stream()
+                .collect(Collectors.groupingBy(HandLogBlindLevelResponse::eventId));
+
+        return events.stream()
+                .map(event -> HandLogEventResponse.from(
+                        event,
+                        levelsByEventId.getOrDefault(event.getId(), List.of())))
                 .toList();
     }
 
@@ -96,7 +142,7 @@ public class HandLogService {
 
     @Transactional
     public void deleteEvent(Long userId, Long eventId) {
-        var event = getEventOrThrow(userId, eventId);
+        getEventOrThrow(userId, eventId);
 
         boolean hasHands = handRepository.existsByUserIdAndEventId(userId, eventId);
 
@@ -107,11 +153,72 @@ public class HandLogService {
                     "기록된 핸드가 있는 대회는 삭제할 수 없습니다.");
         }
 
-        var levels = blindLevelRepository
-                .findAllByUserIdAndEventIdOrderByLevelNoAscCreatedAtAsc(userId, eventId);
+        deleteEventsWithLevels(userId, List.of(eventId));
+    }
+
+    /**
+     * 대회 일괄 보관 / 보관 해제 / 삭제
+     *
+     * 대회 수와 무관하게 소유 확인 1번 + 테이블당 UPDATE/DELETE 1번.
+     * 삭제는 "핸드 없음" 조건을 DELETE 문 안에 두고, 삭제 수가 대상 수보다 적을 때만
+     * 남은 대회를 한 번 더 읽어 핸드가 있어 건너뛴 id 로 알려준다. 없는 대회도 id 로 알려준다.
+     */
+    @Transactional
+    public HandLogEventBulkResponse bulkUpdateEvents(Long userId, HandLogEventBulkRequest req) {
+        var action = req.action() == null ? "" : req.action().trim().toUpperCase(Locale.ROOT);
 
-        blindLevelRepository.deleteAll(levels);
-        eventRepository.delete(event);
+        if (!BULK_ACTIONS.contains(action)) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_BULK_ACTION",
+                    "action 은 ARCHIVE, UNARCHIVE, DELETE 중 하나여야 합니다.");
+        }
+
+        var requestedIds = req.eventIds() == null
+                ? List.<Long>of()
+                : req.eventIds().stream().filter(Objects::nonNull).distinct().toList();
+
+        if (requestedIds.isEmpty()) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "EMPTY_EVENT_IDS",
+                    "대상 대회를 선택해 주세요.");
+        }
+        if (requestedIds.size() > MAX_BULK_EVENTS) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "TOO_MANY_EVENT_IDS",
+                    "한 번에 최대 " + MAX_BULK_EVENTS + "개 대회까지 처리할 수 있습니다.");
+        }
+
+        Set<Long> owned = new HashSet<>(eventRepository.findOwnedIds(userId, requestedIds));
+        var notFoundIds = requestedIds.stream().filter(id -> !owned.contains(id)).toList();
+        var targetIds = requestedIds.stream().filter(owned::contains).toList();
+
+        List<Long> blockedIds = List.of();
+        int affected = 0;
+
+        if (!targetIds.isEmpty()) {
+            switch (action) {
+                case "ARCHIVE" -> affected = eventRepository.archiveAll(userId, targetIds, LocalDateTime.now());
+                case "UNARCHIVE" -> affected = eventRepository.unarchiveAll(userId, targetIds);
+                default -> {
+                    affected = deleteEventsWithLevels(userId, targetIds);
+                    if (affected < targetIds.size()) {
+                        // 소유 확인을 통과한 대회 중 남아 있는 것 = 핸드가 있어 건너뛴 대회
+                        Set<Long> remaining = new HashSet<>(eventRepository.findOwnedIds(userId, targetIds));
+                        blockedIds = targetIds.stream().filter(remaining::contains).toList();
+                    }
+                }
+            }
+        }
+
+        return new HandLogEventBulkResponse(
+                action,
+                requestedIds.size(),
+                affected,
+                notFoundIds,
+                blockedIds);
     }
 
     @Transactional
@@ -163,40 +270,30 @@ public class HandLogService {
         var targetEvent = getEventOrThrow(userId, targetEventId);
         getEventOrThrow(userId, req.sourceEventId());
 
-        var targetLevels = blindLevelRepository
-                .findAllByUserIdAndEventIdOrderByLevelNoAscCreatedAtAsc(userId, targetEventId);
-
-        if (!targetLevels.isEmpty()) {
+        if (blindLevelRepository.existsByUserIdAndEventId(userId, targetEventId)) {
             throw new ApiException(
                     HttpStatus.CONFLICT,
                     "TARGET_EVENT_ALREADY_HAS_LEVELS",
                     "이미 등록된 블라인드 구간이 있어 불러올 수 없습니다.");
         }
 
-        var sourceLevels = blindLevelRepository
-                .findAllByUserIdAndEventIdOrderByLevelNoAscCreatedAtAsc(userId, req.sourceEventId());
+        // INSERT ... SELECT 한 문장 (구간 수만큼 INSERT 하지 않음)
+        int copied = blindLevelWriter.copyEventToEvent(userId, req.sourceEventId(), targetEventId);
 
-        if (sourceLevels.isEmpty()) {
+        if (copied == 0) {
             throw new ApiException(
                     HttpStatus.BAD_REQUEST,
                     "SOURCE_EVENT_HAS_NO_LEVELS",
                     "선택한 대회에 불러올 블라인드 구간이 없습니다.");
         }
 
-        var copiedLevels = sourceLevels.stream()
-                .map(source -> HandLogBlindLevel.builder()
-                        .userId(userId)
-                        .eventId(targetEventId)
-                        .levelNo(source.getLevelNo())
-                        .smallBlind(source.getSmallBlind())
-                        .bigBlind(source.getBigBlind())
-                        .ante(source.getAnte())
-                        .build())
+        // 구간이 없던 대회라 핸드도 없음 → 구간만 다시 읽는다
+        var levels = blindLevelRepository
+                .findAllByUserIdAndEventIdOrderByLevelNoAscCreatedAtAsc(userId, targetEventId)
+                .stream()
+                .map(level -> HandLogBlindLevelResponse.from(level, List.of()))
                 .toList();
 
-        blindLevelRepository.saveAll(copiedLevels);
-
-        var levels = getLevelResponses(userId, targetEventId);
         return HandLogEventResponse.from(targetEvent, levels);
     }
 
@@ -205,15 +302,11 @@ public class HandLogService {
             Long userId,
             Long eventId,
             Long blindLevelId) {
-        getEventOrThrow(userId, eventId);
+        var level = pathResolver.resolveBlindLevel(userId, eventId, blindLevelId).blindLevel();
 
-        var level = getBlindLevelOrThrow(userId, eventId, blindLevelId);
-
-        var hands = handRepository
-                .findAllByUserIdAndBlindLevelIdOrderByCreatedAtAsc(userId, blindLevelId)
-                .stream()
-                .map(HandLogHandResponse::from)
-                .toList();
+        var hands = toHandResponses(
+                userId,
+                handRepository.findAllByUserIdAndBlindLevelIdOrderByCreatedAtAsc(userId, blindLevelId));
 
         return HandLogBlindLevelResponse.from(level, hands);
     }
@@ -224,9 +317,7 @@ public class HandLogService {
             Long eventId,
             Long blindLevelId,
             HandLogBlindLevelCreateRequest req) {
-        getEventOrThrow(userId, eventId);
-
-        var level = getBlindLevelOrThrow(userId, eventId, blindLevelId);
+        var level = pathResolver.resolveBlindLevel(userId, eventId, blindLevelId).blindLevel();
 
         if (req.levelNo() == null) {
             throw new ApiException(
@@ -240,12 +331,11 @@ public class HandLogService {
                 defaultNumber(req.smallBlind()),
                 defaultNumber(req.bigBlind()),
                 defaultNumber(req.ante()));
+        userCacheEvictor.evict(userId, CacheNames.HAND_LOG_DEPENDENT);
 
-        var hands = handRepository
-                .findAllByUserIdAndBlindLevelIdOrderByCreatedAtAsc(userId, blindLevelId)
-                .stream()
-                .map(HandLogHandResponse::from)
-                .toList();
+        var hands = toHandResponses(
+                userId,
+                handRepository.findAllByUserIdAndBlindLevelIdOrderByCreatedAtAsc(userId, blindLevelId));
 
         return HandLogBlindLevelResponse.from(level, hands);
     }
@@ -255,9 +345,7 @@ public class HandLogService {
             Long userId,
             Long eventId,
             Long blindLevelId) {
-        getEventOrThrow(userId, eventId);
-
-        var level = getBlindLevelOrThrow(userId, eventId, blindLevelId);
+        var level = pathResolver.resolveBlindLevel(userId, eventId, blindLevelId).blindLevel();
 
         boolean hasHands = handRepository.existsByUserIdAndEventIdAndBlindLevelId(
                 userId,
@@ -280,48 +368,13 @@ public class HandLogService {
             Long eventId,
             Long blindLevelId,
             HandLogHandCreateRequest req) {
-        getEventOrThrow(userId, eventId);
-        getBlindLevelOrThrow(userId, eventId, blindLevelId);
-
-        var holeCards = resolveHoleCards(req);
-
-        if (holeCards == null || holeCards.trim().isEmpty()) {
-            throw new ApiException(
-                    HttpStatus.BAD_REQUEST,
-                    "INVALID_HOLE_CARDS",
-                    "핸드를 입력해 주세요.");
-        }
-
-        var hand = HandLogHand.builder()
-                .userId(userId)
-                .eventId(eventId)
-                .blindLevelId(blindLevelId)
-
-                .holeCards(holeCards.trim())
-                .firstRank(req.firstRank())
-                .secondRank(req.secondRank())
-                .suited(Boolean.TRUE.equals(req.suited()))
-
-                .position(req.position())
-
-                .actionType(req.actionType())
-                .actionLabel(req.actionLabel())
-                .preflopAllIn(Boolean.TRUE.equals(req.preflopAllIn()))
+        pathResolver.resolveBlindLevel(userId, eventId, blindLevelId);
 
-                .resultType(req.resultType() == null ? "NOT_RECORDED" : req.resultType())
-                .resultLabel(req.resultLabel())
-
-                .reviewRequired(Boolean.TRUE.equals(req.reviewRequired()))
-                .memo(req.memo())
-
-                .handStrengthTier(req.handStrengthTier())
-                .handStrengthLabel(req.handStrengthLabel())
-                .handStrengthColor(req.handStrengthColor())
-
-                .build();
+        var hand = HandLogHandPolicy.newHand(userId, eventId, blindLevelId, null, req);
 
         var saved = handRepository.save(hand);
-        return HandLogHandResponse.from(saved);
+        userCacheEvictor.evict(userId, CacheNames.HAND_LOG_DEPENDENT);
+        return HandLogHandResponse.from(saved, false);
     }
 
     @Transactional(readOnly = true)
@@ -330,12 +383,9 @@ public class HandLogService {
             Long eventId,
             Long blindLevelId,
             Long handId) {
-        getEventOrThrow(userId, eventId);
-        getBlindLevelOrThrow(userId, eventId, blindLevelId);
-
-        var hand = getHandOrThrow(userId, eventId, blindLevelId, handId);
+        var path = pathResolver.resolveHand(userId, eventId, blindLevelId, handId);
 
-        return HandLogHandResponse.from(hand);
+        return HandLogHandResponse.from(path.hand(), path.hasReview());
     }
 
     @Transactional
@@ -345,22 +395,13 @@ public class HandLogService {
             Long blindLevelId,
             Long handId,
             HandLogHandCreateRequest req) {
-        getEventOrThrow(userId, eventId);
-        getBlindLevelOrThrow(userId, eventId, blindLevelId);
+        var path = pathResolver.resolveHand(userId, eventId, blindLevelId, handId);
+        var hand = path.hand();
 
-        var hand = getHandOrThrow(userId, eventId, blindLevelId, handId);
-
-        var holeCards = resolveHoleCards(req);
-
-        if (holeCards == null || holeCards.trim().isEmpty()) {
-            throw new ApiException(
-                    HttpStatus.BAD_REQUEST,
-                    "INVALID_HOLE_CARDS",
-                    "핸드를 입력해 주세요.");
-        }
+        var holeCards = HandLogHandPolicy.holeCardsOf(req);
 
         hand.update(
-                holeCards.trim(),
+                holeCards,
                 req.firstRank(),
                 req.secondRank(),
                 req.suited(),
@@ -375,8 +416,9 @@ public class HandLogService {
                 req.handStrengthTier(),
                 req.handStrengthLabel(),
                 req.handStrengthColor());
+        userCacheEvictor.evict(userId, CacheNames.HAND_LOG_DEPENDENT);
 
-        return HandLogHandResponse.from(hand);
+        return HandLogHandResponse.from(hand, path.hasReview());
     }
 
     @Transactional
@@ -393,19 +435,20 @@ public class HandLogService {
                     "이동할 블라인드 구간을 선택해 주세요.");
         }
 
-        getEventOrThrow(userId, eventId);
-        getBlindLevelOrThrow(userId, eventId, blindLevelId);
+        var path = pathResolver.resolveHand(userId, eventId, blindLevelId, handId);
+        var hand = path.hand();
 
-        var targetLevel = getBlindLevelOrThrow(userId, eventId, req.targetBlindLevelId());
-        var hand = getHandOrThrow(userId, eventId, blindLevelId, handId);
-
-        if (blindLevelId.equals(targetLevel.getId())) {
-            return HandLogHandResponse.from(hand);
+        if (blindLevelId.equals(req.targetBlindLevelId())) {
+            return HandLogHandResponse.from(hand, path.hasReview());
         }
 
+        // 같은 구간으로의 이동은 위에서 걸러지므로 대상 구간 확인은 여기서만 (쿼리 1번 추가)
+        var targetLevel = getBlindLevelOrThrow(userId, eventId, req.targetBlindLevelId());
+
         hand.moveToBlindLevel(targetLevel.getId());
+        userCacheEvictor.evict(userId, CacheNames.HAND_LOG_DEPENDENT);
 
-        return HandLogHandResponse.from(hand);
+        return HandLogHandResponse.from(hand, path.hasReview());
     }
 
     @Transactional
@@ -414,12 +457,17 @@ public class HandLogService {
             Long eventId,
             Long blindLevelId,
             Long handId) {
-        getEventOrThrow(userId, eventId);
-        getBlindLevelOrThrow(userId, eventId, blindLevelId);
-
-        var hand = getHandOrThrow(userId, eventId, blindLevelId, handId);
+        var hand = pathResolver.resolveHand(userId, eventId, blindLevelId, handId).hand();
 
         handRepository.delete(hand);
+        userCacheEvictor.evict(userId, CacheNames.HAND_LOG_DEPENDENT);
+    }
+
+    // 핸드가 없는 대회만 넘길 것 (구간 → 대회 순서로 테이블당 DELETE 1번)
+    // 핸드가 있는 대회는 구간 / 대회 모두 남긴다 (반환값은 삭제된 대회 수)
+    private int deleteEventsWithLevels(Long userId, List<Long> eventIds) {
+        blindLevelRepository.deleteAllWithoutHands(userId, eventIds);
+        return eventRepository.deleteAllWithoutHands(userId, eventIds);
     }
 
     private HandLogEvent getEventOrThrow(Long userId, Long eventId) {
@@ -438,29 +486,22 @@ public class HandLogService {
                         "블라인드 구간을 찾을 수 없습니다."));
     }
 
-    private HandLogHand getHandOrThrow(
-            Long userId,
-            Long eventId,
-            Long blindLevelId,
-            Long handId) {
-        return handRepository
-                .findByIdAndUserIdAndEventIdAndBlindLevelId(handId, userId, eventId, blindLevelId)
-                .orElseThrow(() -> new ApiException(
-                        HttpStatus.NOT_FOUND,
-                        "HAND_NOT_FOUND",
-                        "핸드 기록을 찾을 수 없습니다."));
-    }
-
     private List<HandLogBlindLevelResponse> getLevelResponses(Long userId, Long eventId) {
         var levels = blindLevelRepository
                 .findAllByUserIdAndEventIdOrderByLevelNoAscCreatedAtAsc(userId, eventId);
 
         var hands = handRepository.findAllByUserIdAndEventIdOrderByCreatedAtAsc(userId, eventId);
 
-        Map<Long, List<HandLogHandResponse>> handsByLevelId = hands.stream()
-                .collect(Collectors.groupingBy(
-                        HandLogHand::getBlindLevelId,
-                        Collectors.mapping(HandLogHandResponse::from, Collectors.toList())));
+        return toLevelResponses(userId, levels, hands);
+    }
+
+    // 구간 + 구간별 핸드 목록 (levels 순서 유지)
+    private List<HandLogBlindLevelResponse> toLevelResponses(
+            Long userId,
+            List<HandLogBlindLevel> levels,
+            List<HandLogHand> hands) {
+        Map<Long, List<HandLogHandResponse>> handsByLevelId = toHandResponses(userId, hands).stream()
+                .collect(Collectors.groupingBy(HandLogHandResponse::blindLevelId));
 
         return levels.stream()
                 .map(level -> HandLogBlindLevelResponse.from(
@@ -469,12 +510,49 @@ public class HandLogService {
                 .toList();
     }
 
-    private String resolveHoleCards(HandLogHandCreateRequest req) {
-        if (req.holeCards() != null && !req.holeCards().trim().isEmpty()) {
-            return req.holeCards();
+    // 핸드 목록 + hasReview (복기 본문은 읽지 않고 id 존재 여부만 IN 쿼리 1번)
+    private List<HandLogHandResponse> toHandResponses(Long userId, List<HandLogHand> hands) {
+        if (hands.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> reviewed = new HashSet<>(reviewRepository.findReviewedHandIds(
+                userId,
+                hands.stream().map(HandLogHand::getId).toList()));
+
+        return hands.stream()
+                .map(h -> HandLogHandResponse.from(h, reviewed.contains(h.getId())))
+                .toList();
+    }
+
+    private boolean resolveIncludeHands(String view) {
+        if (view == null || view.isBlank() || "summary".equalsIgnoreCase(view)) {
+            return false;
+        }
+        if ("full".equalsIgnoreCase(view)) {
+            return true;
+        }
+        throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_VIEW", "view 는 summary 또는 full 이어야 합니다.");
+    }
+
+    // 구간 + 구간별 핸드 수 (핸드 목록 없음)
+    private List<HandLogBlindLevelResponse> toLevelSummaries(
+            List<HandLogBlindLevel> levels,
+            List<HandLogLevelHandCount> counts) {
+        Map<Long, HandLogLevelHandCount> countByLevelId = new HashMap<>();
+        for (var c : counts) {
+            countByLevelId.put(c.blindLevelId(), c);
         }
 
-        return req.hand();
+        return levels.stream()
+                .map(level -> {
+                    var c = countByLevelId.get(level.getId());
+                    return HandLogBlindLevelResponse.summary(
+                            level,
+                            c == null ? 0 : c.handCount().intValue(),
+                            c == null || c.reviewRequiredCount() == null ? 0 : c.reviewRequiredCount().intValue());
+                })
+                .toList();
     }
 
     private Integer defaultNumber(Integer value) {
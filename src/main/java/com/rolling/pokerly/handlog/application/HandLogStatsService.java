@@ -0,0 +1,181 @@
+package com.rolling.pokerly.handlog.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.handlog.domain.HandClass;
+import com.rolling.pokerly.handlog.dto.HandLogHandGridResponse;
+import com.rolling.pokerly.handlog.dto.HandLogHandGridResponse.Cell;
+import com.rolling.pokerly.handlog.dto.HandLogStatsResponse;
+import com.rolling.pokerly.handlog.dto.HandLogStatsResponse.Bucket;
+import com.rolling.pokerly.handlog.repo.HandLogHandRepository;
+import com.rolling.pokerly.handlog.repo.HandLogStatsDimension;
+import com.rolling.pokerly.handlog.repo.HandLogStatsRow;
+import com.rolling.pokerly.handlog.repo.HandLogStatsScope;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 핸드 기록 통계 (포지션 / 액션 / 핸드 강도 / BB 크기별 + 13x13 핸드 그리드)
+ *
+ * 기준마다 GROUP BY 쿼리 1번 (통계 4번, 그리드 1번), 핸드 행은 읽지 않는다.
+ * 결과는 유저 + 범위 단위로 캐시하고 핸드가 바뀌면 HAND_LOG_DEPENDENT 로 무효화.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HandLogStatsService {
+
+    private static final String NOT_RECORDED = "NOT_RECORDED";
+
+    private final HandLogHandRepository handRepository;
+
+    @Cacheable(cacheNames = CacheNames.HAND_LOG_STATS, key = "{#userId, #scope}")
+    public HandLogStatsResponse getStats(Long userId, HandLogStatsScope scope) {
+        validateScope(scope);
+
+        var byPosition = aggregate(userId, HandLogStatsDimension.POSITION, scope);
+        long total = byPosition.stream().mapToLong(Bucket::handCount).sum();
+
+        return new HandLogStatsResponse(
+                scope.eventIds(),
+                scope.from(),
+                scope.to(),
+                total,
+                withShare(byPosition, total),
+                withShare(aggregate(userId, HandLogStatsDimension.ACTION_TYPE, scope), total),
+                withShare(aggregate(userId, HandLogStatsDimension.STRENGTH_TIER, scope), total),
+                withShare(sortByBigBlind(aggregate(userId, HandLogStatsDimension.BIG_BLIND, scope)), total)
+        );
+    }
+
+    /**
+     * 13x13 스타팅 핸드 그리드 (hand_class 로 GROUP BY 1번, idx_hand_log_hands_user_class)
+     */
+    @Cacheable(cacheNames = CacheNames.HAND_LOG_STATS, key = "{#userId, 'grid', #scope}")
+    public HandLogHandGridResponse getGrid(Long userId, HandLogStatsScope scope) {
+        validateScope(scope);
+
+        Map<Integer, Bucket> byClass = new LinkedHashMap<>();
+        long unclassified = 0;
+
+        for (Bucket b : aggregate(userId, HandLogStatsDimension.HAND_CLASS, scope)) {
+            if (b.key() == null) {
+                unclassified = b.handCount();
+            } else {
+                byClass.put(Integer.parseInt(b.key()), b);
+            }
+        }
+
+        List<Cell> cells = new ArrayList<>(HandClass.COUNT);
+        long total = unclassified;
+
+        for (int code = 0; code < HandClass.COUNT; code++) {
+            var b = byClass.get(code);
+            total += b == null ? 0 : b.handCount();
+
+            cells.add(new Cell(
+                    code,
+                    HandClass.label(code),
+                    HandClass.row(code),
+                    HandClass.col(code),
+                    b == null ? 0 : b.handCount(),
+                    b == null ? 0 : b.allInCount(),
+                    b == null ? 0 : b.reviewRequiredCount(),
+                    b == null ? Map.of() : b.results()
+            ));
+        }
+
+        return new HandLogHandGridResponse(
+                scope.eventIds(),
+                scope.from(),
+                scope.to(),
+                total,
+                unclassified,
+                cells
+        );
+    }
+
+    private void validateScope(HandLogStatsScope scope) {
+        if (scope.from() != null && scope.to() != null && scope.from().isAfter(scope.to())) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_DATE_RANGE",
+                    "시작일이 종료일보다 늦을 수 없습니다.");
+        }
+    }
+
+    // (기준 값, 결과 타입) 행 → 기준 값별 버킷 (핸드 수 많은 순, share 는 나중에)
+    private List<Bucket> aggregate(Long userId, HandLogStatsDimension dimension, HandLogStatsScope scope) {
+        Map<String, Acc> byKey = new LinkedHashMap<>();
+
+        for (HandLogStatsRow row : handRepository.aggregate(userId, dimension, scope)) {
+            var acc = byKey.computeIfAbsent(row.bucket(), k -> new Acc());
+            long count = nz(row.handCount());
+
+            acc.hands += count;
+            acc.allIns += nz(row.allInCount());
+            acc.reviews += nz(row.reviewRequiredCount());
+            acc.results.merge(row.resultType() == null ? NOT_RECORDED : row.resultType(), count, Long::sum);
+        }
+
+        List<Bucket> buckets = new ArrayList<>(byKey.size());
+        byKey.forEach((key, acc) -> buckets.add(new Bucket(
+                key,
+                acc.hands,
+                0.0,
+                acc.allIns,
+                percent(acc.allIns, acc.hands),
+                acc.reviews,
+                acc.results
+        )));
+
+        buckets.sort(Comparator.comparingLong(Bucket::handCount).reversed());
+        return buckets;
+    }
+
+    // BB 는 숫자 오름차순 (초반 → 후반 레벨)
+    private List<Bucket> sortByBigBlind(List<Bucket> buckets) {
+        return buckets.stream()
+                .sorted(Comparator.comparingLong(b -> b.key() == null ? Long.MAX_VALUE : Long.parseLong(b.key())))
+                .toList();
+    }
+
+    private List<Bucket> withShare(List<Bucket> buckets, long total) {
+        return buckets.stream()
+                .map(b -> new Bucket(
+                        b.key(),
+                        b.handCount(),
+                        percent(b.handCount(), total),
+                        b.allInCount(),
+                        b.allInRate(),
+                        b.reviewRequiredCount(),
+                        b.results()))
+                .toList();
+    }
+
+    private static double percent(long part, long total) {
+        return total > 0 ? Math.round(part * 1000.0 / total) / 10.0 : 0.0;
+    }
+
+    private static long nz(Long v) {
+        return v == null ? 0L : v;
+    }
+
+    private static final class Acc {
+        long hands;
+        long allIns;
+        long reviews;
+        final Map<String, Long> results = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,89 @@
+package com.rolling.pokerly.handlog.domain;
+
+import java.util.Locale;
+
+/**
+ * 스타팅 핸드 169 분류 코드 (0 ~ 168)
+ *
+ * 13x13 그리드 행 우선 (row * 13 + col), 랭크 순서 A K Q J T 9 ... 2.
+ * - 대각선: 포켓 페어 (AA = 0, KK = 14, ..., 22 = 168)
+ * - 대각선 위 (row < col): 수딧 (AKs = 1)
+ * - 대각선 아래 (row > col): 오프수트 (AKo = 13)
+ * V23 마이그레이션의 백필 SQL 과 같은 규칙이므로 바꿀 때 같이 바꿀 것.
+ */
+public final class HandClass {
+
+    public static final int SIZE = 13;
+    public static final int COUNT = SIZE * SIZE;
+
+    private static final String RANKS = "AKQJT98765432";
+
+    private HandClass() {
+    }
+
+    /**
+     * first/second rank 우선, 없으면 holeCards 앞 두 글자 (예: "AKs", "QQ").
+     * 수딧 여부는 suited 플래그 또는 holeCards 끝의 's'.
+     * 랭크를 알 수 없으면 null.
+     */
+    public static Integer of(String firstRank, String secondRank, Boolean suited, String holeCards) {
+        String cards = holeCards == null ? "" : holeCards.trim();
+
+        int r1 = rankIndex(firstRank != null && !firstRank.isBlank() ? firstRank : charAt(cards, 0));
+        int r2 = rankIndex(secondRank != null && !secondRank.isBlank() ? secondRank : charAt(cards, 1));
+        if (r1 < 0 || r2 < 0) {
+            return null;
+        }
+
+        boolean isSuited = Boolean.TRUE.equals(suited)
+                || (cards.length() == 3 && Character.toLowerCase(cards.charAt(2)) == 's');
+
+        return code(r1, r2, isSuited);
+    }
+
+    /** 'A' → 0, 'K' → 1, ..., '2' → 12 (대소문자 무관), 랭크가 아니면 -1 */
+    public static int rankIndex(char rank) {
+        return RANKS.indexOf(Character.toUpperCase(rank));
+    }
+
+    /** r1, r2 는 RANKS 기준 인덱스 (A = 0) */
+    public static int code(int r1, int r2, boolean suited) {
+        int high = Math.min(r1, r2);
+        int low = Math.max(r1, r2);
+
+        if (high == low) return high * SIZE + high;
+        return suited ? high * SIZE + low : low * SIZE + high;
+    }
+
+    public static int row(int code) {
+        return code / SIZE;
+    }
+
+    public static int col(int code) {
+        return code % SIZE;
+    }
+
+    /** 예) 0 → "AA", 1 → "AKs", 13 → "AKo" */
+    public static String label(int code) {
+        int row = row(code);
+        int col = col(code);
+
+        if (row == col) return "" + RANKS.charAt(row) + RANKS.charAt(col);
+        if (row < col) return "" + RANKS.charAt(row) + RANKS.charAt(col) + "s";
+        return "" + RANKS.charAt(col) + RANKS.charAt(row) + "o";
+    }
+
+    private static int rankIndex(String rank) {
+        if (rank == null || rank.isBlank()) return -1;
+
+        String r = rank.trim().toUpperCase(Locale.ROOT);
+        if (r.equals("10")) r = "T";
+        if (r.length() != 1) return -1;
+
+        return rankIndex(r.charAt(0));
+    }
+
+    private static String charAt(String s, int index) {
+        return s.length() > index ? String.valueOf(s.charAt(index)) : null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.rolling.pokerly.handlog.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "hand_log_blind_template_levels")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HandLogBlindTemplateLevel {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "template_level_id")
+    private Long id;
+
+    @Column(name = "template_id", nullable = false)
+    private Long templateId;
+
+    @Column(name = "level_no", nullable = false)
+    private Integer levelNo;
+
+    @Column(name = "small_blind", nullable = false)
+    private Integer smallBlind;
+
+    @Column(name = "big_blind", nullable = false)
+    private Integer bigBlind;
+
+    @Column(nullable = false)
+    private Integer ante;
+}
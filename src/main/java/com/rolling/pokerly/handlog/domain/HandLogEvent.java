@@ -40,6 +40,10 @@ public class HandLogEvent {
     @Column(name = "venue_id")
     private Long venueId;
 
+    // 보관 시각 (null 이면 목록에 노출)
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
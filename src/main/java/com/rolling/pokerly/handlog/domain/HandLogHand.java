@@ -37,6 +37,10 @@ public class HandLogHand {
     @Column(name = "blind_level_id", nullable = false)
     private Long blindLevelId;
 
+    // 일괄 기록 멱등 키 (단건 API 는 null)
+    @Column(name = "client_request_id", length = 64, updatable = false)
+    private String clientRequestId;
+
     @Column(name = "hole_cards", nullable = false, length = 10)
     private String holeCards;
 
@@ -49,6 +53,10 @@ public class HandLogHand {
     @Column(nullable = false)
     private Boolean suited;
 
+    // 169 분류 코드 (HandClass), 랭크를 알 수 없으면 null
+    @Column(name = "hand_class")
+    private Integer handClass;
+
     @Column(length = 20)
     private String position;
 
@@ -108,6 +116,7 @@ public class HandLogHand {
         this.firstRank = firstRank;
         this.secondRank = secondRank;
         this.suited = Boolean.TRUE.equals(suited);
+        this.handClass = HandClass.of(firstRank, secondRank, suited, holeCards);
         this.position = position;
         this.actionType = actionType;
         this.actionLabel = actionLabel;
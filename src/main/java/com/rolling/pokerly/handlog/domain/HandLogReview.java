@@ -0,0 +1,103 @@
+package com.rolling.pokerly.handlog.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 핸드 복기 (핸드당 1개, hand_log_reviews)
+ *
+ * 스트리트별 TEXT 컬럼이 커질 수 있어서 핸드 / 구간 목록에서는 이 엔티티를 읽지 않는다.
+ * 목록은 hasReview 여부만, 본문은 핸드 단위 복기 API 로만 내려간다.
+ */
+@Entity
+@Table(name = "hand_log_reviews")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HandLogReview {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "review_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "hand_id", nullable = false, updatable = false)
+    private Long handId;
+
+    @Column(columnDefinition = "TEXT")
+    private String preflop;
+
+    @Column(columnDefinition = "TEXT")
+    private String flop;
+
+    @Column(columnDefinition = "TEXT")
+    private String turn;
+
+    @Column(columnDefinition = "TEXT")
+    private String river;
+
+    @Column(name = "opponent_hand", length = 50)
+    private String opponentHand;
+
+    @Column(name = "opponent_type", length = 100)
+    private String opponentType;
+
+    @Column(name = "my_thought", columnDefinition = "TEXT")
+    private String myThought;
+
+    @Column(name = "review_result", columnDefinition = "TEXT")
+    private String reviewResult;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public void update(
+            String preflop,
+            String flop,
+            String turn,
+            String river,
+            String opponentHand,
+            String opponentType,
+            String myThought,
+            String reviewResult) {
+        this.preflop = preflop;
+        this.flop = flop;
+        this.turn = turn;
+        this.river = river;
+        this.opponentHand = opponentHand;
+        this.opponentType = opponentType;
+        this.myThought = myThought;
+        this.reviewResult = reviewResult;
+    }
+
+    @PrePersist
+    public void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -54,4 +54,31 @@ public record HandLogBlindLevelResponse(
                 e.getUpdatedAt()
         );
     }
+
+    /**
+     * 핸드 목록 없이 개수만 (대회 목록 summary 모드)
+     */
+    public static HandLogBlindLevelResponse summary(
+            HandLogBlindLevel e,
+            int handCount,
+            int reviewRequiredCount
+    ) {
+        return new HandLogBlindLevelResponse(
+                e.getId(),
+                e.getEventId(),
+
+                e.getLevelNo(),
+                e.getSmallBlind(),
+                e.getBigBlind(),
+                e.getAnte(),
+
+                handCount,
+                reviewRequiredCount,
+
+                List.of(),
+
+                e.getCreatedAt(),
+                e.getUpdatedAt()
+        );
+    }
 }
\ No newline at end of file
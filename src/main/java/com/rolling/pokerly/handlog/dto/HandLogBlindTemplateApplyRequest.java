@@ -0,0 +1,5 @@
+package com.rolling.pokerly.handlog.dto;
+
+public record HandLogBlindTemplateApplyRequest(
+        Long templateId) {
+}
@@ -0,0 +1,10 @@
+package com.rolling.pokerly.handlog.dto;
+
+import java.util.List;
+
+public record HandLogBlindTemplateCreateRequest(
+        String name,
+        Long sourceEventId,                             // 있으면 이 대회의 구조를 저장 (levels 무시)
+        List<HandLogBlindLevelCreateRequest> levels     // sourceEventId 가 없을 때 직접 입력
+) {
+}
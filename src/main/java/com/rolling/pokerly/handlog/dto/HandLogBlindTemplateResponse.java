@@ -0,0 +1,41 @@
+package com.rolling.pokerly.handlog.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.rolling.pokerly.handlog.domain.HandLogBlindTemplate;
+import com.rolling.pokerly.handlog.domain.HandLogBlindTemplateLevel;
+
+public record HandLogBlindTemplateResponse(
+        Long id,
+        String name,
+        boolean system,         // 시스템 공용 템플릿 (삭제 불가)
+        int levelCount,
+
+        List<Level> levels,     // 목록 조회에서는 빈 리스트
+
+        LocalDateTime createdAt
+) {
+
+    public record Level(
+            Integer levelNo,
+            Integer smallBlind,
+            Integer bigBlind,
+            Integer ante
+    ) {
+        public static Level from(HandLogBlindTemplateLevel e) {
+            return new Level(e.getLevelNo(), e.getSmallBlind(), e.getBigBlind(), e.getAnte());
+        }
+    }
+
+    public static HandLogBlindTemplateResponse from(HandLogBlindTemplate e, List<Level> levels) {
+        return new HandLogBlindTemplateResponse(
+                e.getId(),
+                e.getName(),
+                e.isSystem(),
+                e.getLevelCount(),
+                levels,
+                e.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.rolling.pokerly.handlog.dto;
+
+import java.util.List;
+
+public record HandLogEventBulkRequest(
+        String action,          // ARCHIVE / UNARCHIVE / DELETE
+        List<Long> eventIds
+) {
+}
@@ -0,0 +1,12 @@
+package com.rolling.pokerly.handlog.dto;
+
+import java.util.List;
+
+public record HandLogEventBulkResponse(
+        String action,
+        int requestedCount,         // 중복 제거 후
+        int affectedCount,          // 실제로 바뀐 / 지워진 대회 수 (이미 보관된 대회 등은 제외)
+        List<Long> notFoundIds,     // 없거나 내 대회가 아님
+        List<Long> blockedIds       // DELETE: 핸드가 있어 삭제하지 않은 대회
+) {
+}
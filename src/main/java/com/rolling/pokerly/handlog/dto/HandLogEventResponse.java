@@ -12,6 +12,7 @@ public record HandLogEventResponse(
         String name,
         LocalDateTime eventAt,
         Long venueId,
+        LocalDateTime archivedAt,   // null 이면 보관 안 됨
 
         int handCount,
         int reviewRequiredCount,
@@ -45,6 +46,7 @@ public record HandLogEventResponse(
                 e.getName(),
                 e.getEventAt(),
                 e.getVenueId(),
+                e.getArchivedAt(),
 
                 handCount,
                 reviewRequiredCount,
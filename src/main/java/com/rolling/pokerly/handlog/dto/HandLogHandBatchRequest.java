@@ -0,0 +1,14 @@
+package com.rolling.pokerly.handlog.dto;
+
+import java.util.List;
+
+public record HandLogHandBatchRequest(
+        List<Item> hands
+) {
+
+    public record Item(
+            String clientRequestId,     // 핸드마다 클라이언트가 만든 멱등 키 (필수, 64자 이내)
+            Long blindLevelId,          // 같은 대회의 구간이면 여러 구간 섞여도 됨
+            HandLogHandCreateRequest hand
+    ) {}
+}
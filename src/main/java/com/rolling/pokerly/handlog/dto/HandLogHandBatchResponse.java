@@ -0,0 +1,26 @@
+package com.rolling.pokerly.handlog.dto;
+
+import java.util.List;
+
+public record HandLogHandBatchResponse(
+        int requestedCount,
+        int createdCount,
+        int duplicateCount,     // 이미 저장된 키 (재전송) → 기존 handId 로 응답
+        int rejectedCount,
+        List<ItemResult> results    // 요청 순서 그대로
+) {
+
+    public static final String CREATED = "CREATED";
+    public static final String DUPLICATE = "DUPLICATE";
+    public static final String REJECTED = "REJECTED";
+
+    public record ItemResult(
+            int index,              // 요청 hands 배열 위치 (0부터)
+            String clientRequestId,
+            String status,          // CREATED / DUPLICATE / REJECTED
+            Long handId,            // REJECTED 면 null
+            Long blindLevelId,
+            String code,            // REJECTED 일 때만
+            String message
+    ) {}
+}
@@ -0,0 +1,28 @@
+package com.rolling.pokerly.handlog.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record HandLogHandGridResponse(
+        List<Long> eventIds,        // 빈 리스트 = 전체 대회
+        LocalDate from,
+        LocalDate to,
+
+        long totalHands,
+        long unclassifiedCount,     // 랭크를 알 수 없어 분류 코드가 없는 핸드
+
+        List<Cell> cells            // 항상 169개, 행 우선 (AA, AKs, AQs, ... , 22)
+) {
+
+    public record Cell(
+            int handClass,          // row * 13 + col
+            String label,           // AA / AKs / AKo
+            int row,
+            int col,
+            long handCount,
+            long allInCount,
+            long reviewRequiredCount,
+            Map<String, Long> results   // resultType → 핸드 수 (null 은 NOT_RECORDED)
+    ) {}
+}
@@ -15,6 +15,7 @@ public record HandLogHandResponse(
         String firstRank,
         String secondRank,
         Boolean suited,
+        Integer handClass,          // 169 분류 코드 (HandClass), 알 수 없으면 null
 
         String position,
 
@@ -26,6 +27,7 @@ public record HandLogHandResponse(
         String resultLabel,
 
         Boolean reviewRequired,
+        boolean hasReview,          // 복기 작성 여부 (본문은 /review 로)
 
         String memo,
 
@@ -37,7 +39,7 @@ public record HandLogHandResponse(
         LocalDateTime updatedAt
 ) {
 
-    public static HandLogHandResponse from(HandLogHand e) {
+    public static HandLogHandResponse from(HandLogHand e, boolean hasReview) {
         return new HandLogHandResponse(
                 e.getId(),
                 e.getEventId(),
@@ -49,6 +51,7 @@ public record HandLogHandResponse(
                 e.getFirstRank(),
                 e.getSecondRank(),
                 e.getSuited(),
+                e.getHandClass(),
 
                 e.getPosition(),
 
@@ -60,6 +63,7 @@ public record HandLogHandResponse(
                 e.getResultLabel(),
 
                 e.getReviewRequired(),
+                hasReview,
 
                 e.getMemo(),
 
@@ -0,0 +1,15 @@
+package com.rolling.pokerly.handlog.dto;
+
+public record HandLogReviewRequest(
+        String preflop,
+        String flop,
+        String turn,
+        String river,
+
+        String opponentHand,
+        String opponentType,
+
+        String myThought,
+        String reviewResult
+) {
+}
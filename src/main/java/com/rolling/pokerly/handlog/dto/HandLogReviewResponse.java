@@ -0,0 +1,46 @@
+package com.rolling.pokerly.handlog.dto;
+
+import java.time.LocalDateTime;
+
+import com.rolling.pokerly.handlog.domain.HandLogReview;
+
+public record HandLogReviewResponse(
+        Long id,
+        Long handId,
+
+        String preflop,
+        String flop,
+        String turn,
+        String river,
+
+        String opponentHand,
+        String opponentType,
+
+        String myThought,
+        String reviewResult,
+
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static HandLogReviewResponse from(HandLogReview e) {
+        return new HandLogReviewResponse(
+                e.getId(),
+                e.getHandId(),
+
+                e.getPreflop(),
+                e.getFlop(),
+                e.getTurn(),
+                e.getRiver(),
+
+                e.getOpponentHand(),
+                e.getOpponentType(),
+
+                e.getMyThought(),
+                e.getReviewResult(),
+
+                e.getCreatedAt(),
+                e.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.rolling.pokerly.handlog.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public record HandLogStatsResponse(
+        List<Long> eventIds,        // 빈 리스트 = 전체 대회
+        LocalDate from,
+        LocalDate to,
+
+        long totalHands,
+
+        List<Bucket> byPosition,
+        List<Bucket> byActionType,
+        List<Bucket> byStrengthTier,
+        List<Bucket> byBigBlind     // 블라인드 구간 BB 크기별 (key = BB 값)
+) {
+
+    public record Bucket(
+            String key,                 // 값이 기록되지 않은 핸드는 null
+            long handCount,
+            double share,               // 전체 대비 비율 (%)
+            long allInCount,            // 프리플랍 올인
+            double allInRate,           // %
+            long reviewRequiredCount,
+            Map<String, Long> results   // resultType → 핸드 수 (null 은 NOT_RECORDED)
+    ) {}
+}
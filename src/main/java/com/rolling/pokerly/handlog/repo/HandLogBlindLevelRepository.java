@@ -1,9 +1,13 @@
 package com.rolling.pokerly.handlog.repo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.rolling.pokerly.handlog.domain.HandLogBlindLevel;
 
@@ -14,6 +18,29 @@ public interface HandLogBlindLevelRepository extends JpaRepository<HandLogBlindL
             Long eventId
     );
 
+    // 여러 대회의 구간을 한 번에 (대회 목록용)
+    List<HandLogBlindLevel> findAllByUserIdAndEventIdInOrderByLevelNoAscCreatedAtAsc(
+            Long userId,
+            Collection<Long> eventIds
+    );
+
+    boolean existsByUserIdAndEventId(Long userId, Long eventId);
+
+    // 핸드가 없는 대회의 구간만 (핸드 유무 확인과 삭제를 한 문장으로)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        delete from HandLogBlindLevel l
+        where l.userId = :userId
+          and l.eventId in :eventIds
+          and not exists (
+              select 1 from HandLogHand h
+              where h.eventId = l.eventId
+          )
+        """)
+    int deleteAllWithoutHands(
+            @Param("userId") Long userId,
+            @Param("eventIds") Collection<Long> eventIds);
+
     Optional<HandLogBlindLevel> findByIdAndUserIdAndEventId(
             Long id,
             Long userId,
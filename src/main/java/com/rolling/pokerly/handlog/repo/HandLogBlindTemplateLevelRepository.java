@@ -0,0 +1,12 @@
+package com.rolling.pokerly.handlog.repo;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.rolling.pokerly.handlog.domain.HandLogBlindTemplateLevel;
+
+public interface HandLogBlindTemplateLevelRepository extends JpaRepository<HandLogBlindTemplateLevel, Long> {
+
+    List<HandLogBlindTemplateLevel> findAllByTemplateIdOrderByLevelNoAsc(Long templateId);
+}
@@ -0,0 +1,34 @@
+package com.rolling.pokerly.handlog.repo;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rolling.pokerly.handlog.domain.HandLogBlindTemplate;
+
+public interface HandLogBlindTemplateRepository extends JpaRepository<HandLogBlindTemplate, Long> {
+
+    // 내 템플릿 + 시스템 템플릿 (내 것 먼저, 최신순)
+    @Query("""
+        select t
+        from HandLogBlindTemplate t
+        where t.userId = :userId
+           or t.userId is null
+        order by case when t.userId is null then 1 else 0 end, t.createdAt desc, t.id desc
+        """)
+    List<HandLogBlindTemplate> findVisibleByUserId(@Param("userId") Long userId);
+
+    // 내 템플릿이거나 시스템 템플릿이면
+    @Query("""
+        select t
+        from HandLogBlindTemplate t
+        where t.id = :templateId
+          and (t.userId = :userId or t.userId is null)
+        """)
+    Optional<HandLogBlindTemplate> findVisibleById(
+            @Param("templateId") Long templateId,
+            @Param("userId") Long userId);
+}
@@ -1,15 +1,104 @@
 package com.rolling.pokerly.handlog.repo;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.rolling.pokerly.handlog.domain.HandLogEvent;
 
 public interface HandLogEventRepository extends JpaRepository<HandLogEvent, Long> {
 
-    List<HandLogEvent> findAllByUserIdOrderByEventAtDescCreatedAtDesc(Long userId);
+    // 목록 (보관 안 된 대회만, idx_hand_log_events_user_archived_event_at)
+    List<HandLogEvent> findAllByUserIdAndArchivedAtIsNullOrderByEventAtDescCreatedAtDesc(Long userId);
+
+    // 보관함
+    List<HandLogEvent> findAllByUserIdAndArchivedAtIsNotNullOrderByEventAtDescCreatedAtDesc(Long userId);
+
+    @Query("""
+        select e.id
+        from HandLogEvent e
+        where e.userId = :userId
+          and e.id in :eventIds
+        """)
+    List<Long> findOwnedIds(
+            @Param("userId") Long userId,
+            @Param("eventIds") Collection<Long> eventIds);
+
+    // 보관 / 보관 해제 (이미 그 상태인 대회는 건드리지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update HandLogEvent e
+        set e.archivedAt = :archivedAt
+        where e.userId = :userId
+          and e.id in :eventIds
+          and e.archivedAt is null
+        """)
+    int archiveAll(
+            @Param("userId") Long userId,
+            @Param("eventIds") Collection<Long> eventIds,
+            @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update HandLogEvent e
+        set e.archivedAt = null
+        where e.userId = :userId
+          and e.id in :eventIds
+          and e.archivedAt is not null
+        """)
+    int unarchiveAll(
+            @Param("userId") Long userId,
+            @Param("eventIds") Collection<Long> eventIds);
+
+    // 핸드가 없는 대회만 삭제. 건너뛴 대회는 (요청 수 - 삭제 수) 로 알 수 있다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        delete from HandLogEvent e
+        where e.userId = :userId
+          and e.id in :eventIds
+          and not exists (
+              select 1 from HandLogHand h
+              where h.eventId = e.id
+          )
+        """)
+    int deleteAllWithoutHands(
+            @Param("userId") Long userId,
+            @Param("eventIds") Collection<Long> eventIds);
 
     Optional<HandLogEvent> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 대회 → 블라인드 구간 → 핸드 소유 관계를 한 번에 확인 (모두 PK 조인)
+     *
+     * 대회가 없으면 결과 없음, 구간/핸드가 없거나 경로가 어긋나면 해당 값이 null.
+     * handId 가 null 이면 hand 는 항상 null. 복기는 uk_hand_log_reviews_hand_id 로 id 만 확인.
+     */
+    @Query("""
+        select new com.rolling.pokerly.handlog.repo.HandLogPathRow(e, l, h, r.id)
+        from HandLogEvent e
+        left join HandLogBlindLevel l
+               on l.id = :blindLevelId
+              and l.eventId = e.id
+              and l.userId = e.userId
+        left join HandLogHand h
+               on h.id = :handId
+              and h.blindLevelId = l.id
+              and h.eventId = e.id
+              and h.userId = e.userId
+        left join HandLogReview r
+               on r.handId = h.id
+        where e.id = :eventId
+          and e.userId = :userId
+        """)
+    Optional<HandLogPathRow> findPath(
+            @Param("userId") Long userId,
+            @Param("eventId") Long eventId,
+            @Param("blindLevelId") Long blindLevelId,
+            @Param("handId") Long handId);
 }
\ No newline at end of file
@@ -1,18 +1,48 @@
 package com.rolling.pokerly.handlog.repo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.rolling.pokerly.handlog.domain.HandLogHand;
 
-public interface HandLogHandRepository extends JpaRepository<HandLogHand, Long> {
+public interface HandLogHandRepository extends JpaRepository<HandLogHand, Long>, HandLogHandStatsRepository {
 
     List<HandLogHand> findAllByUserIdAndEventIdOrderByCreatedAtAsc(
             Long userId,
             Long eventId);
 
+    // 여러 대회의 핸드를 한 번에 (대회 목록 full 모드)
+    List<HandLogHand> findAllByUserIdAndEventIdInOrderByCreatedAtAsc(
+            Long userId,
+            Collection<Long> eventIds);
+
+    // 구간별 핸드 수만 (대회 목록 summary 모드, 핸드 행은 읽지 않음)
+    @Query("""
+        select new com.rolling.pokerly.handlog.repo.HandLogLevelHandCount(
+            h.blindLevelId,
+            count(h),
+            sum(case when h.reviewRequired = true then 1L else 0L end)
+        )
+        from HandLogHand h
+        where h.userId = :userId
+          and h.eventId in :eventIds
+        group by h.blindLevelId
+        """)
+    List<HandLogLevelHandCount> countByUserIdAndEventIdInGroupByBlindLevelId(
+            @Param("userId") Long userId,
+            @Param("eventIds") Collection<Long> eventIds);
+
+
+    // 일괄 기록 멱등 키 조회 (uk_hand_log_hands_user_client_request)
+    List<HandLogHand> findAllByUserIdAndClientRequestIdIn(
+            Long userId,
+            Collection<String> clientRequestIds);
+
     List<HandLogHand> findAllByUserIdAndBlindLevelIdOrderByCreatedAtAsc(
             Long userId,
             Long blindLevelId);
@@ -0,0 +1,14 @@
+package com.rolling.pokerly.handlog.repo;
+
+import java.util.List;
+
+/**
+ * 핸드 통계 집계 (HandLogHandRepository 커스텀 조각)
+ */
+public interface HandLogHandStatsRepository {
+
+    /**
+     * 유저 핸드를 dimension × result_type 으로 GROUP BY
+     */
+    List<HandLogStatsRow> aggregate(Long userId, HandLogStatsDimension dimension, HandLogStatsScope scope);
+}
@@ -0,0 +1,75 @@
+package com.rolling.pokerly.handlog.repo;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * 집계 기준 컬럼만 다른 GROUP BY 쿼리를 JPQL 로 조합
+ *
+ * 기준 컬럼은 enum 에 고정된 경로만 들어가고 (사용자 입력 없음), 나머지 조건은 바인딩.
+ * user_id 가 첫 조건이라 idx_hand_log_hands_user_event 를 타고,
+ * 구간은 BB 기준일 때만, 대회는 날짜 구간 조건이 있을 때만 PK 조인한다.
+ * 기준 값은 원래 타입으로 묶고 문자열 키는 결과를 옮길 때 만든다.
+ */
+class HandLogHandStatsRepositoryImpl implements HandLogHandStatsRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<HandLogStatsRow> aggregate(Long userId, HandLogStatsDimension dimension, HandLogStatsScope scope) {
+        var jpql = new StringBuilder()
+                .append("select ")
+                .append(dimension.path()).append(", h.resultType, count(h), ")
+                .append("sum(case when h.preflopAllIn = true then 1L else 0L end), ")
+                .append("sum(case when h.reviewRequired = true then 1L else 0L end) ")
+                .append("from HandLogHand h ");
+
+        if (dimension.joinsLevel()) {
+            jpql.append("join HandLogBlindLevel l on l.id = h.blindLevelId ");
+        }
+
+        // 대회 테이블은 날짜 구간이 있을 때만 필요하다
+        if (scope.from() != null || scope.to() != null) {
+            jpql.append("join HandLogEvent e on e.id = h.eventId ");
+        }
+        jpql.append("where h.userId = :userId ");
+
+        if (!scope.eventIds().isEmpty()) {
+            jpql.append("and h.eventId in :eventIds ");
+        }
+        if (scope.from() != null) {
+            jpql.append("and e.eventAt >= :fromAt ");
+        }
+        if (scope.to() != null) {
+            jpql.append("and e.eventAt < :toExclusive ");
+        }
+
+        jpql.append("group by ").append(dimension.path()).append(", h.resultType");
+
+        var query = em.createQuery(jpql.toString(), Object[].class)
+                .setParameter("userId", userId);
+
+        if (!scope.eventIds().isEmpty()) {
+            query.setParameter("eventIds", scope.eventIds());
+        }
+        if (scope.from() != null) {
+            query.setParameter("fromAt", scope.from().atStartOfDay());
+        }
+        if (scope.to() != null) {
+            query.setParameter("toExclusive", scope.to().plusDays(1).atStartOfDay());
+        }
+
+        return query.getResultList().stream()
+                .map(r -> new HandLogStatsRow(
+                        dimension.key(r[0]),
+                        (String) r[1],
+                        (Long) r[2],
+                        (Long) r[3],
+                        (Long) r[4]
+                ))
+                .toList();
+    }
+}
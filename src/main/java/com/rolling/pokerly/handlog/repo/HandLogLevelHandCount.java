@@ -0,0 +1,11 @@
+package com.rolling.pokerly.handlog.repo;
+
+/**
+ * 블라인드 구간별 핸드 수 프로젝션 (GROUP BY blind_level_id)
+ */
+public record HandLogLevelHandCount(
+        Long blindLevelId,
+        Long handCount,
+        Long reviewRequiredCount
+) {
+}
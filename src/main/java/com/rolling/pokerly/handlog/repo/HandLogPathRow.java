@@ -0,0 +1,23 @@
+package com.rolling.pokerly.handlog.repo;
+
+import com.rolling.pokerly.handlog.domain.HandLogBlindLevel;
+import com.rolling.pokerly.handlog.domain.HandLogEvent;
+import com.rolling.pokerly.handlog.domain.HandLogHand;
+
+/**
+ * /events/{eventId}/blind-levels/{blindLevelId}/hands/{handId} 경로 조회 결과
+ *
+ * left join 이라 찾지 못한 단계부터는 null (blindLevel == null 이면 hand 도 null)
+ * reviewId 는 핸드 복기 id (복기 본문은 읽지 않음)
+ */
+public record HandLogPathRow(
+        HandLogEvent event,
+        HandLogBlindLevel blindLevel,
+        HandLogHand hand,
+        Long reviewId
+) {
+
+    public boolean hasReview() {
+        return reviewId != null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.rolling.pokerly.handlog.repo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rolling.pokerly.handlog.domain.HandLogReview;
+
+public interface HandLogReviewRepository extends JpaRepository<HandLogReview, Long> {
+
+    // 복기가 있는 핸드 id 만 (idx_hand_log_reviews_user_hand 인덱스만 읽음, TEXT 컬럼 안 읽음)
+    @Query("""
+        select r.handId
+        from HandLogReview r
+        where r.userId = :userId
+          and r.handId in :handIds
+        """)
+    List<Long> findReviewedHandIds(
+            @Param("userId") Long userId,
+            @Param("handIds") Collection<Long> handIds);
+
+    Optional<HandLogReview> findByHandId(Long handId);
+
+    // 핸드당 1개 (uk_hand_log_reviews_hand_id). 동시에 저장해도 키 충돌 없이 마지막 요청이 덮어쓴다.
+    @Modifying
+    @Query(value = """
+        INSERT INTO hand_log_reviews
+          (user_id, hand_id, preflop, flop, turn, river,
+           opponent_hand, opponent_type, my_thought, review_result, created_at, updated_at)
+        VALUES
+          (:userId, :handId, :preflop, :flop, :turn, :river,
+           :opponentHand, :opponentType, :myThought, :reviewResult, NOW(), NOW())
+        ON DUPLICATE KEY UPDATE
+          preflop = VALUES(preflop),
+          flop = VALUES(flop),
+          turn = VALUES(turn),
+          river = VALUES(river),
+          opponent_hand = VALUES(opponent_hand),
+          opponent_type = VALUES(opponent_type),
+          my_thought = VALUES(my_thought),
+          review_result = VALUES(review_result),
+          updated_at = NOW()
+        """, nativeQuery = true)
+    int upsert(
+            @Param("userId") Long userId,
+            @Param("handId") Long handId,
+            @Param("preflop") String preflop,
+            @Param("flop") String flop,
+            @Param("turn") String turn,
+            @Param("river") String river,
+            @Param("opponentHand") String opponentHand,
+            @Param("opponentType") String opponentType,
+            @Param("myThought") String myThought,
+            @Param("reviewResult") String reviewResult);
+}
@@ -0,0 +1,38 @@
+package com.rolling.pokerly.handlog.repo;
+
+/**
+ * 핸드 통계 집계 기준 (GROUP BY 대상 컬럼, JPQL 경로)
+ *
+ * h = HandLogHand, l = HandLogBlindLevel
+ * 컬럼은 변환 없이 그대로 묶고(인덱스 / 정수 비교 그대로), 문자열 키는 Java 에서 만든다.
+ */
+public enum HandLogStatsDimension {
+
+    POSITION("h.position", false),
+    ACTION_TYPE("h.actionType", false),
+    STRENGTH_TIER("h.handStrengthTier", false),
+    BIG_BLIND("l.bigBlind", true),
+    HAND_CLASS("h.handClass", false);
+
+    private final String path;
+    private final boolean joinsLevel;
+
+    HandLogStatsDimension(String path, boolean joinsLevel) {
+        this.path = path;
+        this.joinsLevel = joinsLevel;
+    }
+
+    String path() {
+        return path;
+    }
+
+    // 구간(HandLogBlindLevel) 조인이 필요한 기준인지 (blind_level_id 는 NOT NULL 이라 빼도 행 수는 같다)
+    boolean joinsLevel() {
+        return joinsLevel;
+    }
+
+    // 집계 값 → 응답 키 (null 은 그대로)
+    String key(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.rolling.pokerly.handlog.repo;
+
+/**
+ * (집계 기준 값, 결과 타입) 별 핸드 수 프로젝션
+ */
+public record HandLogStatsRow(
+        String bucket,
+        String resultType,
+        Long handCount,
+        Long allInCount,
+        Long reviewRequiredCount
+) {
+}
@@ -0,0 +1,26 @@
+package com.rolling.pokerly.handlog.repo;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 핸드 통계 범위 (null / 빈 값이면 조건 없음)
+ *
+ * 캐시 키로도 쓰이므로 eventIds 는 정렬 + 중복 제거된 상태로 만든다.
+ *
+ * @param from 대회 일시(event_at) 기준 시작일 (포함)
+ * @param to   대회 일시(event_at) 기준 종료일 (포함)
+ */
+public record HandLogStatsScope(
+        List<Long> eventIds,
+        LocalDate from,
+        LocalDate to
+) {
+
+    public HandLogStatsScope {
+        eventIds = eventIds == null
+                ? List.of()
+                : eventIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+    }
+}
@@ -5,95 +5,141 @@ import java.util.Objects;
 
 import org.springframework.stereotype.Service;
 
+import com.rolling.pokerly.handlog.domain.HandClass;
 import com.rolling.pokerly.handreview.dto.SimpleAnalyzeRequest;
 import com.rolling.pokerly.handreview.dto.SimpleAnalyzeResponse;
 
+/**
+ * 간단 복기 코멘트
+ *
+ * 문구는 (핸드 분류 × 포지션 × 스택 구간) 조합으로 정해지므로 클래스 로딩 시 표로 만들어 두고,
+ * 요청마다는 169 핸드 표 / 추천 표를 찾아서 핸드 문자열만 끼워 넣는다.
+ * 표에 없는 입력(랭크가 아닌 문자, 알 수 없는 포지션)은 같은 규칙으로 그때그때 만든다.
+ */
 @Service
 public class HandReviewSimpleService {
 
+    private static final String RANKS = "AKQJT98765432";
+
+    // normalizePosition 결과 중 표로 만들어 두는 값 (그 외는 입력 그대로라 표 밖)
+    private static final String[] POSITIONS = {"UTG+1", "UTG", "LJ", "HJ", "CO", "BTN", "SB", "BB", "UNKNOWN"};
+
+    private static final String[] STACK_LABELS = {
+            "숏스택(≤15bb)",
+            "미들스택(16~30bb)",
+            "딥스택(31~50bb)",
+            "슈퍼 딥스택(>50bb)"
+    };
+
+    private static final String NO_HAND_TITLE = "정보 부족";
+    private static final String NO_HAND_DETAIL = "핸드 정보가 부족해 명확한 프리플랍 추천을 하기 어렵습니다.";
+
+    private static final String NO_STREET_COMMENT = "플랍/턴 태그가 없어 프리플랍 기준 가이드만 제공합니다.";
+    private static final String MISSING_TAGS_COMMENT =
+            "플랍/턴 상황 태그가 충분히 입력되지 않아, 자세한 스팟 코멘트 대신 프리플랍 기준으로만 판단합니다.";
+    private static final String DEFAULT_SPOT_COMMENT =
+            "입력한 태그 조합은 특별히 위험한 스팟은 아니며, 상대 스타일에 따라 전략이 크게 달라질 수 있습니다.";
+    private static final String DRY_STRONG_HU_CBET_COMMENT =
+            "헤즈업 드라이 보드에서 강한 메이드 핸드로 c-bet 하는 것은 표준적인 라인입니다. "
+                    + "1/3~1/2 사이즈로 넓게 압박하는 방향이 좋습니다.";
+
+    private static final String OVERALL_WITH_SPOT = "플랍/턴 태그를 기반으로 한 스팟 코멘트를 참고해 라인을 조정해 보세요. ";
+    private static final String OVERALL_WITHOUT_SPOT =
+            "이번 핸드는 플랍/턴 태그 정보가 부족하므로 프리플랍 레인지 구성 규칙을 중심으로 복기하는 것이 좋습니다. ";
+    private static final String OVERALL_CLOSING =
+            "전체적으로는 '큰 실수를 줄이는 것'을 우선순위로 두면서 스택 구조에 맞춰 공격적 선택을 늘리는 방향이 좋습니다.";
+
+    private static final String NO_HAND_OVERALL_WITH_SPOT = overall(NO_HAND_TITLE, true);
+    private static final String NO_HAND_OVERALL_WITHOUT_SPOT = overall(NO_HAND_TITLE, false);
+
+    // HandClass 코드(0~168) → 분류
+    private static final HandCategory[] CATEGORY_BY_CLASS = buildCategoryTable();
+
+    // [분류][포지션][스택 구간] → 추천 문구
+    private static final Recommendation[][][] RECOMMENDATIONS = buildRecommendationTable();
+
     public SimpleAnalyzeResponse analyze(SimpleAnalyzeRequest req) {
-        var pre = buildPreflopRecommendation(req);
         String postflop = buildPostflopComment(req);
-        String overall = buildOverallComment(pre, postflop);
+        boolean hasSpotComment = !postflop.startsWith("플랍/턴 태그가") && !postflop.startsWith("플랍/턴 상황");
+
+        String hand = safeUpper(req.getHeroHand());
+
+        if (hand == null || hand.length() < 2) {
+            return SimpleAnalyzeResponse.builder()
+                    .preflopRecommendation(NO_HAND_TITLE)
+                    .preflopDetail(NO_HAND_DETAIL)
+                    .postflopComment(postflop)
+                    .overallSimpleComment(hasSpotComment ? NO_HAND_OVERALL_WITH_SPOT : NO_HAND_OVERALL_WITHOUT_SPOT)
+                    .build();
+        }
+
+        HandCategory category = categorizeHand(hand);
+        int bb = Objects.requireNonNullElse(req.getStackBb(), 40);
+        var rec = recommendation(category, normalizePosition(req.getPosition()), stackBucket(bb));
 
         return SimpleAnalyzeResponse.builder()
-                .preflopRecommendation(pre.title)
-                .preflopDetail(pre.detail)
+                .preflopRecommendation(category.title)
+                .preflopDetail(rec.detail(hand))
                 .postflopComment(postflop)
-                .overallSimpleComment(overall)
+                .overallSimpleComment(hasSpotComment ? category.overallWithSpot : category.overallWithoutSpot)
                 .build();
     }
 
     /* ==================== 프리플랍 로직 ==================== */
 
-    private static class PreflopResult {
+    private enum HandCategory {
+        PREMIUM("강한 오픈/3벳 핸드"),
+        STRONG("일반적인 오픈 핸드"),
+        MEDIUM("포지션 의존 핸드"),
+        SPECULATIVE("스펙 핸드 (상황 의존)"),
+        TRASH("폴드 추천 핸드");
+
         final String title;
-        final String detail;
+        final String overallWithSpot;
+        final String overallWithoutSpot;
 
-        PreflopResult(String title, String detail) {
+        HandCategory(String title) {
             this.title = title;
-            this.detail = detail;
+            this.overallWithSpot = overall(title, true);
+            this.overallWithoutSpot = overall(title, false);
         }
     }
 
-    private PreflopResult buildPreflopRecommendation(SimpleAnalyzeRequest req) {
-        String hand = safeUpper(req.getHeroHand());
-        String pos = normalizePosition(req.getPosition());
-        int bb = Objects.requireNonNullElse(req.getStackBb(), 40);
+    /**
+     * 프리플랍 상세 문구 = prefix + 핸드 + suffix (suffix 가 null 이면 prefix 만)
+     */
+    private record Recommendation(String prefix, String suffix) {
 
-        if (hand == null || hand.length() < 2) {
-            return new PreflopResult(
-                    "정보 부족",
-                    "핸드 정보가 부족해 명확한 프리플랍 추천을 하기 어렵습니다."
-            );
+        String detail(String hand) {
+            return suffix == null ? prefix : prefix + hand + suffix;
         }
+    }
 
-        HandCategory handCat = categorizeHand(hand);
-        String stackLabel = stackLabel(bb);
-
-        String title;
-        String detail;
+    // 대문자 + trim 된 핸드. 공백을 건너뛴 앞 두 글자가 랭크, 마지막 글자가 'S' 면 수딧
+    private HandCategory categorizeHand(String hand) {
+        char r1 = 0;
+        char r2 = 0;
+        int found = 0;
 
-        switch (handCat) {
-            case PREMIUM -> {
-                title = "강한 오픈/3벳 핸드";
-                detail = premiumDetail(pos, stackLabel);
-            }
-            case STRONG -> {
-                title = "일반적인 오픈 핸드";
-                detail = strongDetail(hand, pos, stackLabel);
-            }
-            case MEDIUM -> {
-                title = "포지션 의존 핸드";
-                detail = mediumDetail(hand, pos, stackLabel);
-            }
-            case SPECULATIVE -> {
-                title = "스펙 핸드 (상황 의존)";
-                detail = speculativeDetail(hand, pos, stackLabel);
-            }
-            case TRASH -> {
-                title = "폴드 추천 핸드";
-                detail = trashDetail(hand, pos, stackLabel);
-            }
-            default -> {
-                title = "정보 부족";
-                detail = "핸드 타입을 인식하지 못해 보수적으로 폴드 쪽을 권장합니다.";
-            }
+        for (int i = 0; i < hand.length() && found < 2; i++) {
+            char c = hand.charAt(i);
+            if (isWhitespace(c)) continue;
+            if (found++ == 0) r1 = c; else r2 = c;
         }
 
-        return new PreflopResult(title, detail);
-    }
+        boolean suited = hand.charAt(hand.length() - 1) == 'S';
 
-    private enum HandCategory {
-        PREMIUM, STRONG, MEDIUM, SPECULATIVE, TRASH
-    }
+        int i1 = HandClass.rankIndex(r1);
+        int i2 = HandClass.rankIndex(r2);
+        if (i1 >= 0 && i2 >= 0) {
+            return CATEGORY_BY_CLASS[HandClass.code(i1, i2, suited)];
+        }
 
-    private HandCategory categorizeHand(String heroHand) {
-        String h = heroHand.toUpperCase(Locale.ROOT).replaceAll("\\s+", "");
-        char r1 = h.charAt(0);
-        char r2 = h.charAt(1);
-        boolean suited = h.endsWith("S");
+        return categorizeByRule(r1, r2, suited);
+    }
 
+    // 분류 규칙 (표 생성 + 표 밖 입력에 사용)
+    private static HandCategory categorizeByRule(char r1, char r2, boolean suited) {
         boolean pair = (r1 == r2);
 
         int v1 = rankToValue(r1);
@@ -129,7 +175,7 @@ public class HandReviewSimpleService {
         return HandCategory.TRASH;
     }
 
-    private int rankToValue(char r) {
+    private static int rankToValue(char r) {
         return switch (r) {
             case 'A' -> 14;
             case 'K' -> 13;
@@ -140,11 +186,16 @@ public class HandReviewSimpleService {
         };
     }
 
-    private String stackLabel(int bb) {
-        if (bb <= 15) return "숏스택(≤15bb)";
-        if (bb <= 30) return "미들스택(16~30bb)";
-        if (bb <= 50) return "딥스택(31~50bb)";
-        return "슈퍼 딥스택(>50bb)";
+    // 정규식 \s 와 같은 범위
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int stackBucket(int bb) {
+        if (bb <= 15) return 0;
+        if (bb <= 30) return 1;
+        if (bb <= 50) return 2;
+        return 3;
     }
 
     private String normalizePosition(String pos) {
@@ -161,137 +212,135 @@ public class HandReviewSimpleService {
         return p;
     }
 
-    /* ==================== 플랍/턴/라인 코멘트 ==================== */
-
-    private String buildPostflopComment(SimpleAnalyzeRequest req) {
-        String street = safeUpper(req.getSimpleMainStreet());
-        if (street == null || street.equals("PREFLOP")) {
-            return "플랍/턴 태그가 없어 프리플랍 기준 가이드만 제공합니다.";
-        }
-
-        String board = safeUpper(req.getSimpleBoardTexture());
-        String strength = safeUpper(req.getSimpleHeroStrength());
-        String potType = safeUpper(req.getSimplePotType());
-        String line = safeUpper(req.getSimpleHeroLine());
-
-        if (board == null || strength == null || potType == null || line == null) {
-            return "플랍/턴 상황 태그가 충분히 입력되지 않아, 자세한 스팟 코멘트 대신 프리플랍 기준으로만 판단합니다.";
+    private static Recommendation recommendation(HandCategory category, String pos, int stackBucket) {
+        for (int i = 0; i < POSITIONS.length; i++) {
+            if (POSITIONS[i].equals(pos)) {
+                return RECOMMENDATIONS[category.ordinal()][i][stackBucket];
+            }
         }
+        return buildRecommendation(category, pos, STACK_LABELS[stackBucket]);
+    }
 
-        StringBuilder sb = new StringBuilder();
+    /* ==================== 표 생성 (클래스 로딩 시 1번) ==================== */
 
-        if (street.equals("FLOP")) sb.append("[플랍 스팟 요약] ");
-        if (street.equals("TURN")) sb.append("[턴 스팟 요약] ");
+    private static HandCategory[] buildCategoryTable() {
+        var table = new HandCategory[HandClass.COUNT];
 
-        // 예시 조건들 그대로 유지 (너가 준 방식)
-        if (board.equals("DRY") && strength.equals("STRONG_MADE") && potType.equals("HU")) {
-            if (line.equals("CBET")) {
-                sb.append("헤즈업 드라이 보드에서 강한 메이드 핸드로 c-bet 하는 것은 표준적인 라인입니다. ");
-                sb.append("1/3~1/2 사이즈로 넓게 압박하는 방향이 좋습니다.");
+        for (int i1 = 0; i1 < RANKS.length(); i1++) {
+            for (int i2 = 0; i2 < RANKS.length(); i2++) {
+                for (boolean suited : new boolean[]{false, true}) {
+                    table[HandClass.code(i1, i2, suited)] =
+                            categorizeByRule(RANKS.charAt(i1), RANKS.charAt(i2), suited);
+                }
             }
         }
-
-        if (sb.length() == 0) {
-            sb.append("입력한 태그 조합은 특별히 위험한 스팟은 아니며, 상대 스타일에 따라 전략이 크게 달라질 수 있습니다.");
-        }
-
-        return sb.toString();
+        return table;
     }
 
-    /* ==================== 전체 요약 ==================== */
-
-    private String buildOverallComment(PreflopResult preflop, String postflop) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("프리플랍 기준으로는 [")
-          .append(preflop.title)
-          .append("]에 해당하는 핸드입니다. ");
+    private static Recommendation[][][] buildRecommendationTable() {
+        var categories = HandCategory.values();
+        var table = new Recommendation[categories.length][POSITIONS.length][STACK_LABELS.length];
 
-        if (!postflop.startsWith("플랍/턴 태그가") && !postflop.startsWith("플랍/턴 상황")) {
-            sb.append("플랍/턴 태그를 기반으로 한 스팟 코멘트를 참고해 라인을 조정해 보세요. ");
-        } else {
-            sb.append("이번 핸드는 플랍/턴 태그 정보가 부족하므로 프리플랍 레인지 구성 규칙을 중심으로 복기하는 것이 좋습니다. ");
+        for (var category : categories) {
+            for (int p = 0; p < POSITIONS.length; p++) {
+                for (int s = 0; s < STACK_LABELS.length; s++) {
+                    table[category.ordinal()][p][s] = buildRecommendation(category, POSITIONS[p], STACK_LABELS[s]);
+                }
+            }
         }
-
-        sb.append("전체적으로는 '큰 실수를 줄이는 것'을 우선순위로 두면서 스택 구조에 맞춰 공격적 선택을 늘리는 방향이 좋습니다.");
-
-        return sb.toString();
+        return table;
     }
 
-    private String premiumDetail(String pos, String stackLabel) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(stackLabel)
-        .append(" 기준 ")
-        .append(pos)
-        .append("에서 프리미엄 핸드는 거의 항상 오픈/3벳으로 플레이하는 것이 기본입니다. ");
-        sb.append("특별히 ICM이 강하게 걸려 있지 않다면, 상대 스타일에 맞춰 공격적으로 칩을 쌓는 스팟입니다.");
-        return sb.toString();
+    private static Recommendation buildRecommendation(HandCategory category, String pos, String stackLabel) {
+        String head = stackLabel + " 기준 " + pos + "에서 ";
+
+        return switch (category) {
+            case PREMIUM -> new Recommendation(
+                    head + "프리미엄 핸드는 거의 항상 오픈/3벳으로 플레이하는 것이 기본입니다. "
+                            + "특별히 ICM이 강하게 걸려 있지 않다면, 상대 스타일에 맞춰 공격적으로 칩을 쌓는 스팟입니다.",
+                    null);
+            case STRONG -> new Recommendation(head, strongSuffix(pos));
+            case MEDIUM -> new Recommendation(head, mediumSuffix(pos));
+            case SPECULATIVE -> new Recommendation(head, speculativeSuffix(stackLabel));
+            case TRASH -> new Recommendation(
+                    head,
+                    "는 대부분의 상황에서 폴드가 권장되는 핸드입니다. "
+                            + "특별한 상황(블라인드 vs 블라인드 등)이 아니라면 굳이 싸움을 만들 필요는 없습니다.");
+        };
     }
 
-    private String strongDetail(String hand, String pos, String stackLabel) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(stackLabel)
-        .append(" 기준 ")
-        .append(pos)
-        .append("에서 ")
-        .append(hand)
-        .append("는 대부분 상황에서 오픈 가능한 핸드입니다. ");
+    private static String strongSuffix(String pos) {
+        String base = "는 대부분 상황에서 오픈 가능한 핸드입니다. ";
 
         if (pos.startsWith("UTG")) {
-            sb.append("초반 포지션에서는 너무 루즈하게 3벳/콜을 넓히기보다는 기본 오픈 라인 위주로 플레이하는 것이 좋습니다.");
+            return base + "초반 포지션에서는 너무 루즈하게 3벳/콜을 넓히기보다는 기본 오픈 라인 위주로 플레이하는 것이 좋습니다.";
         } else if (pos.equals("CO") || pos.equals("BTN")) {
-            sb.append("후반 포지션이라면 3벳 블러프나 조금 더 루즈한 오픈도 허용되는 구간입니다.");
-        } else {
-            sb.append("상대들의 스타일에 따라 3벳/콜 레인지 조절이 필요합니다.");
+            return base + "후반 포지션이라면 3벳 블러프나 조금 더 루즈한 오픈도 허용되는 구간입니다.";
         }
-        return sb.toString();
+        return base + "상대들의 스타일에 따라 3벳/콜 레인지 조절이 필요합니다.";
     }
 
-    private String mediumDetail(String hand, String pos, String stackLabel) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(stackLabel)
-        .append(" 기준 ")
-        .append(pos)
-        .append("에서 ")
-        .append(hand)
-        .append("는 포지션과 상황에 따라 오픈/폴드가 갈릴 수 있는 핸드입니다. ");
+    private static String mediumSuffix(String pos) {
+        String base = "는 포지션과 상황에 따라 오픈/폴드가 갈릴 수 있는 핸드입니다. ";
 
         if (pos.startsWith("UTG") || pos.equals("LJ")) {
-            sb.append("전반적으로는 폴드 쪽이 무난하며, 테이블이 매우 타이트할 때만 선택적으로 오픈을 고려할 수 있습니다.");
+            return base + "전반적으로는 폴드 쪽이 무난하며, 테이블이 매우 타이트할 때만 선택적으로 오픈을 고려할 수 있습니다.";
         } else if (pos.equals("HJ") || pos.equals("CO")) {
-            sb.append("중후반 포지션이라면 오픈을 섞어도 괜찮지만, 블라인드 디펜스가 강하면 폴드 빈도를 높이는 것이 좋습니다.");
+            return base + "중후반 포지션이라면 오픈을 섞어도 괜찮지만, 블라인드 디펜스가 강하면 폴드 빈도를 높이는 것이 좋습니다.";
         } else if (pos.equals("BTN") || pos.equals("SB") || pos.equals("BB")) {
-            sb.append("블라인드 싸움/스틸 상황이면 조금 더 공격적으로 사용해도 되는 핸드입니다.");
+            return base + "블라인드 싸움/스틸 상황이면 조금 더 공격적으로 사용해도 되는 핸드입니다.";
         }
-        return sb.toString();
+        return base;
     }
 
-    private String speculativeDetail(String hand, String pos, String stackLabel) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(stackLabel)
-        .append(" 기준 ")
-        .append(pos)
-        .append("에서 ")
-        .append(hand)
-        .append("는 스펙 핸드로, 깊은 스택/후반 포지션일수록 가치가 올라갑니다. ");
+    private static String speculativeSuffix(String stackLabel) {
+        String base = "는 스펙 핸드로, 깊은 스택/후반 포지션일수록 가치가 올라갑니다. ";
 
         if (stackLabel.startsWith("숏스택")) {
-            sb.append("숏스택에서는 세컨드 베스트 핸드가 되기 쉬워 대부분 폴드하는 것이 좋습니다.");
-        } else {
-            sb.append("딥스택에서 후반 포지션이라면 멀티웨이 팟을 노리는 콜/오픈 정도로 섞어도 괜찮습니다.");
+            return base + "숏스택에서는 세컨드 베스트 핸드가 되기 쉬워 대부분 폴드하는 것이 좋습니다.";
+        }
+        return base + "딥스택에서 후반 포지션이라면 멀티웨이 팟을 노리는 콜/오픈 정도로 섞어도 괜찮습니다.";
+    }
+
+    /* ==================== 플랍/턴/라인 코멘트 ==================== */
+
+    private String buildPostflopComment(SimpleAnalyzeRequest req) {
+        String street = safeUpper(req.getSimpleMainStreet());
+        if (street == null || street.equals("PREFLOP")) {
+            return NO_STREET_COMMENT;
         }
-        return sb.toString();
+
+        String board = safeUpper(req.getSimpleBoardTexture());
+        String strength = safeUpper(req.getSimpleHeroStrength());
+        String potType = safeUpper(req.getSimplePotType());
+        String line = safeUpper(req.getSimpleHeroLine());
+
+        if (board == null || strength == null || potType == null || line == null) {
+            return MISSING_TAGS_COMMENT;
+        }
+
+        String header = switch (street) {
+            case "FLOP" -> "[플랍 스팟 요약] ";
+            case "TURN" -> "[턴 스팟 요약] ";
+            default -> "";
+        };
+
+        // 예시 조건들 그대로 유지 (너가 준 방식)
+        boolean dryStrongHuCbet = board.equals("DRY") && strength.equals("STRONG_MADE")
+                && potType.equals("HU") && line.equals("CBET");
+
+        if (dryStrongHuCbet) {
+            return header + DRY_STRONG_HU_CBET_COMMENT;
+        }
+        return header.isEmpty() ? DEFAULT_SPOT_COMMENT : header;
     }
 
-    private String trashDetail(String hand, String pos, String stackLabel) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(stackLabel)
-        .append(" 기준 ")
-        .append(pos)
-        .append("에서 ")
-        .append(hand)
-        .append("는 대부분의 상황에서 폴드가 권장되는 핸드입니다. ");
-        sb.append("특별한 상황(블라인드 vs 블라인드 등)이 아니라면 굳이 싸움을 만들 필요는 없습니다.");
-        return sb.toString();
+    /* ==================== 전체 요약 ==================== */
+
+    private static String overall(String preflopTitle, boolean hasSpotComment) {
+        return "프리플랍 기준으로는 [" + preflopTitle + "]에 해당하는 핸드입니다. "
+                + (hasSpotComment ? OVERALL_WITH_SPOT : OVERALL_WITHOUT_SPOT)
+                + OVERALL_CLOSING;
     }
 
     private String safeUpper(String s) {
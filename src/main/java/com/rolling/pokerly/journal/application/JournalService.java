@@ -8,7 +8,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.cache.UserCacheEvictor;
 import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.core.outbox.OutboxEvents;
+import com.rolling.pokerly.core.outbox.OutboxPublisher;
 import com.rolling.pokerly.journal.domain.GameJournal;
 import com.rolling.pokerly.journal.dto.JournalCalendarItemResponse;
 import com.rolling.pokerly.journal.dto.JournalRequest;
@@ -25,6 +29,8 @@ public class JournalService {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
 
     private final GameJournalRepository gameJournalRepository;
+    private final UserCacheEvictor userCacheEvictor;
+    private final OutboxPublisher outboxPublisher;
 
     @Transactional
     public JournalResponse create(Long userId, JournalRequest req) {
@@ -53,6 +59,8 @@ public class JournalService {
                 .build();
 
         var saved = gameJournalRepository.save(journal);
+        userCacheEvictor.evict(userId, CacheNames.JOURNAL_DEPENDENT);
+        outboxPublisher.publish(userId, OutboxEvents.JOURNAL, saved.getId(), OutboxEvents.JOURNAL_CREATED);
         return toResponse(saved);
     }
 
@@ -85,6 +93,8 @@ public class JournalService {
         journal.setTiltScore(req.tiltScore());
         journal.setEnergyScore(req.energyScore());
         journal.setTags(req.tags());
+        userCacheEvictor.evict(userId, CacheNames.JOURNAL_DEPENDENT);
+        outboxPublisher.publish(userId, OutboxEvents.JOURNAL, id, OutboxEvents.JOURNAL_UPDATED);
 
         return toResponse(journal);
     }
@@ -93,6 +103,8 @@ public class JournalService {
     public void delete(Long userId, Long id) {
         var journal = getOwnedJournal(userId, id);
         gameJournalRepository.delete(journal);
+        userCacheEvictor.evict(userId, CacheNames.JOURNAL_DEPENDENT);
+        outboxPublisher.publish(userId, OutboxEvents.JOURNAL, id, OutboxEvents.JOURNAL_DELETED);
     }
 
     public List<JournalCalendarItemResponse> getMonthly(Long userId, int year, int month) {
@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.rolling.pokerly.journal.domain.GameJournal;
 
@@ -15,4 +17,43 @@ public interface GameJournalRepository extends JpaRepository<GameJournal, Long>
     List<GameJournal> findByUserIdAndJournalDateBetween(Long userId, LocalDate start, LocalDate end);
 
     List<GameJournal> findByUserId(Long userId);
+
+    /**
+     * 일지 날짜 = 세션 날짜 기준으로 하루 손익/바인을 붙여서
+     * 점수(기분/집중/에너지/틸트)별 일지 수와 손익/바인 합계를 구한다.
+     * 세션이 없는 날의 일지는 손익 0 으로 포함. content 는 읽지 않는다.
+     */
+    @Query(value = """
+        WITH daily AS (
+            SELECT play_date,
+                   COALESCE(SUM(net_profit), 0) AS profit,
+                   COALESCE(SUM(total_buy_in), 0) AS buy_in
+            FROM game_sessions
+            WHERE user_id = :userId
+              AND play_date IS NOT NULL
+            GROUP BY play_date
+        ),
+        scored AS (
+            SELECT j.mood_score, j.focus_score, j.energy_score, j.tilt_score,
+                   COALESCE(d.profit, 0) AS profit,
+                   COALESCE(d.buy_in, 0) AS buy_in
+            FROM game_journals j
+            LEFT JOIN daily d ON d.play_date = j.journal_date
+            WHERE j.user_id = :userId
+        )
+        SELECT 'MOOD' AS metric, mood_score AS score, COUNT(*) AS journalCount,
+               SUM(profit) AS profitSum, SUM(buy_in) AS buyInSum
+        FROM scored WHERE mood_score IS NOT NULL GROUP BY mood_score
+        UNION ALL
+        SELECT 'FOCUS', focus_score, COUNT(*), SUM(profit), SUM(buy_in)
+        FROM scored WHERE focus_score IS NOT NULL GROUP BY focus_score
+        UNION ALL
+        SELECT 'ENERGY', energy_score, COUNT(*), SUM(profit), SUM(buy_in)
+        FROM scored WHERE energy_score IS NOT NULL GROUP BY energy_score
+        UNION ALL
+        SELECT 'TILT', tilt_score, COUNT(*), SUM(profit), SUM(buy_in)
+        FROM scored WHERE tilt_score IS NOT NULL GROUP BY tilt_score
+        ORDER BY metric, score
+        """, nativeQuery = true)
+    List<JournalConditionRow> aggregateConditionByUserId(@Param("userId") Long userId);
 }
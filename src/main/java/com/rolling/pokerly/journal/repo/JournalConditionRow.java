@@ -0,0 +1,19 @@
+package com.rolling.pokerly.journal.repo;
+
+/**
+ * 일지 점수별 하루 손익 합계 (native 조회 결과)
+ *
+ * metric: MOOD / FOCUS / ENERGY / TILT
+ */
+public interface JournalConditionRow {
+
+    String getMetric();
+
+    Integer getScore();
+
+    Long getJournalCount();
+
+    Long getProfitSum();
+
+    Long getBuyInSum();
+}
@@ -1,5 +1,9 @@
 package com.rolling.pokerly.statistics.api;
 
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -7,9 +11,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.rolling.pokerly.statistics.application.MonthlyStatisticsService;
+import com.rolling.pokerly.statistics.application.MonthlyTrendService;
 import com.rolling.pokerly.statistics.application.StatisticsSessionService;
 import com.rolling.pokerly.statistics.application.VenueStatsService;
+import com.rolling.pokerly.statistics.dto.DistributionOptions;
 import com.rolling.pokerly.statistics.dto.MonthlyStatisticsResponse;
+import com.rolling.pokerly.statistics.dto.MonthlyTrendResponse;
 import com.rolling.pokerly.statistics.dto.StatisticsSessionResponse;
 import com.rolling.pokerly.statistics.dto.VenueStatsResponse;
 
@@ -21,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class StatisticsController {
 
     private final MonthlyStatisticsService monthlyStatisticsService;
+    private final MonthlyTrendService monthlyTrendService;
     private final StatisticsSessionService sessionService;
     private final VenueStatsService venueStatsService;
 
@@ -34,9 +42,39 @@ public class StatisticsController {
         return monthlyStatisticsService.getMonthlyStatistics(userId, year, month);
     }
 
+    /**
+     * 손익 분포는 기본으로 분위수 + 자동 폭 히스토그램만 내려간다.
+     * - bucketWidth: 고정 폭 히스토그램 (정확한 세션 수)
+     * - buckets: 자동 폭일 때 최대 구간 수 (기본 20, 스케치 기반 근사)
+     * - includeRawProfits=true: 세션별 손익 원본 목록 포함
+     */
     @GetMapping("/sessions")
-    public StatisticsSessionResponse getSessionStats(@AuthenticationPrincipal(expression = "userId") Long userId) {
-        return sessionService.getSessionStats(userId);
+    public StatisticsSessionResponse getSessionStats(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestParam(value = "bucketWidth", required = false) Long bucketWidth,
+            @RequestParam(value = "buckets", defaultValue = "20") int buckets,
+            @RequestParam(value = "includeRawProfits", defaultValue = "false") boolean includeRawProfits
+    ) {
+        var options = new DistributionOptions(bucketWidth, buckets, includeRawProfits);
+        return sessionService.getSessionStats(userId, options);
+    }
+
+    /**
+     * 월별 추세 (기본: 이번 달 포함 최근 12개월, 최대 120개월)
+     *
+     * 예)
+     *  GET /api/statistics/trend?from=2023-01&to=2025-12
+     */
+    @GetMapping("/trend")
+    public MonthlyTrendResponse getMonthlyTrend(
+            @AuthenticationPrincipal(expression = "userId") Long userId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to
+    ) {
+        YearMonth end = (to != null) ? to : YearMonth.now(ZoneId.of("Asia/Seoul"));
+        YearMonth start = (from != null) ? from : end.minusMonths(11);
+
+        return monthlyTrendService.getTrend(userId, start, end);
     }
 
     @GetMapping("/venues")
@@ -0,0 +1,74 @@
+package com.rolling.pokerly.statistics.application;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.cache.UserCacheEvictor;
+import com.rolling.pokerly.core.outbox.DomainOutboxEvent;
+import com.rolling.pokerly.core.outbox.OutboxEventHandler;
+import com.rolling.pokerly.core.outbox.OutboxEvents;
+import com.rolling.pokerly.journal.repo.GameJournalRepository;
+import com.rolling.pokerly.statistics.domain.UserConditionStats;
+import com.rolling.pokerly.statistics.repo.UserConditionStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 컨디션 분석 읽기 모델(user_condition_stats) 재계산
+ *
+ * 일지 점수뿐 아니라 그날 세션 손익이 바뀌어도 결과가 달라지므로 일지 / 세션 이벤트 모두 받는다.
+ * 날짜별 세션 합계와 일지를 조인하는 쿼리(aggregateConditionByUserId) 한 번으로 유저 단위로 다시 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionStatsProjectionHandler implements OutboxEventHandler {
+
+    private final SessionStatsAggregateService aggregateService;
+    private final GameJournalRepository journalRepository;
+    private final UserConditionStatsRepository conditionStatsRepository;
+    private final UserCacheEvictor userCacheEvictor;
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(
+                OutboxEvents.JOURNAL_CREATED,
+                OutboxEvents.JOURNAL_UPDATED,
+                OutboxEvents.JOURNAL_DELETED,
+                OutboxEvents.SESSION_CREATED,
+                OutboxEvents.SESSION_UPDATED,
+                OutboxEvents.SESSION_DELETED,
+                OutboxEvents.SESSIONS_IMPORTED
+        );
+    }
+
+    @Override
+    public void handle(DomainOutboxEvent event) {
+        Long userId = event.getUserId();
+
+        // 같은 유저 세션 쓰기 / 다른 디스패처의 재계산과 순서를 맞춘다 (첫 문장)
+        aggregateService.lock(userId);
+
+        var rows = journalRepository.aggregateConditionByUserId(userId);
+
+        conditionStatsRepository.deleteByUserId(userId);
+        conditionStatsRepository.saveAll(rows.stream()
+                .map(r -> UserConditionStats.builder()
+                        .userId(userId)
+                        .metric(r.getMetric())
+                        .score(r.getScore())
+                        .journalCount(nz(r.getJournalCount()))
+                        .profitSum(nz(r.getProfitSum()))
+                        .buyInSum(nz(r.getBuyInSum()))
+                        .build())
+                .toList());
+
+        userCacheEvictor.evict(userId, List.of(CacheNames.STATISTICS_SESSIONS));
+    }
+
+    private long nz(Long v) {
+        return v != null ? v : 0L;
+    }
+}
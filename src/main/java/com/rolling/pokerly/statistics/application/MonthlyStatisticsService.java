@@ -2,64 +2,92 @@ package com.rolling.pokerly.statistics.application;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.rolling.pokerly.gamesession.domain.GameSession;
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.gamesession.repo.DailySessionAggregate;
 import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
+import com.rolling.pokerly.gamesession.repo.SessionPrizeRow;
+import com.rolling.pokerly.statistics.domain.UserMonthlyRollup;
 import com.rolling.pokerly.statistics.dto.MonthlyDailyItem;
 import com.rolling.pokerly.statistics.dto.MonthlyHighlights;
 import com.rolling.pokerly.statistics.dto.MonthlyStatisticsResponse;
 import com.rolling.pokerly.statistics.dto.MonthlySummary;
+import com.rolling.pokerly.statistics.repo.UserMonthlyRollupRepository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 월간 통계
+ *
+ * 요약은 월별 롤업(user_monthly_rollups) 한 행에서 읽는다 - 세션 쓰기 / 가져오기 트랜잭션이 함께 갱신.
+ * 롤업 행이 없으면 그 달 세션이 없으므로 원본은 읽지 않는다.
+ * 일별 목록 / 최고·최저 손익은 DB GROUP BY 프로젝션, 연속 ITM 은 (id, play_date, prize) 최소 컬럼으로 계산한다.
+ * GameSession 엔티티는 로딩하지 않는다.
+ */
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MonthlyStatisticsService {
 
     private final GameSessionRepository gameSessionRepository;
+    private final UserMonthlyRollupRepository rollupRepository;
 
+    @Cacheable(cacheNames = CacheNames.STATISTICS_MONTHLY, key = "{#userId, #year, #month}")
     public MonthlyStatisticsResponse getMonthlyStatistics(Long userId, int year, int month) {
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate start = yearMonth.atDay(1);
         LocalDate end = yearMonth.atEndOfMonth();
 
-        List<GameSession> sessions = gameSessionRepository
-                .findByUserIdAndPlayDateBetweenOrderByPlayDateAsc(userId, start, end);
+        var rollup = rollupRepository.findByUserIdAndYm(userId, UserMonthlyRollup.toYm(yearMonth))
+                .filter(r -> r.getSessions() > 0);
+
+        // 이번 달 세션 없음
+        if (rollup.isEmpty()) {
+            return new MonthlyStatisticsResponse(
+                    year,
+                    month,
+                    buildSummary(0L, 0L, 0L, 0L, 0L, 0L),
+                    List.of(),
+                    new MonthlyHighlights(null, null, null)
+            );
+        }
+
+        MonthlySummary summary = buildSummary(rollup.get());
 
-        MonthlySummary summary = buildSummary(sessions);
-        List<MonthlyDailyItem> daily = buildDailyItems(sessions);
-        MonthlyHighlights highlights = buildHighlights(sessions);
+        List<DailySessionAggregate> dailyRows = gameSessionRepository
+                .aggregateDailyByUserIdAndPlayDateBetween(userId, start, end);
+        List<MonthlyDailyItem> daily = dailyRows.stream()
+                .map(this::toDailyItem)
+                .toList();
+        MonthlyHighlights highlights = buildHighlights(userId, start, end, summary, dailyRows);
 
         return new MonthlyStatisticsResponse(year, month, summary, daily, highlights);
     }
 
-    private MonthlySummary buildSummary(List<GameSession> sessions) {
-        long totalSessions = sessions.size();
-
-        long totalBuyIn = sessions.stream()
-                .mapToLong(this::getBuyIn)
-                .sum();
-
-        long totalPrize = sessions.stream()
-                .mapToLong(this::getPrize)
-                .sum();
-
-        long totalProfit = sessions.stream()
-                .mapToLong(this::getProfit)
-                .sum();
-
-        long itmCount = sessions.stream()
-                .filter(s -> getPrize(s) > 0L)
-                .count();
+    private MonthlySummary buildSummary(UserMonthlyRollup r) {
+        return buildSummary(
+                r.getSessions(),
+                r.getTotalBuyIn(),
+                r.getTotalPrize(),
+                r.getTotalProfit(),
+                r.getItmCount(),
+                r.getItmPrize()
+        );
+    }
 
+    private MonthlySummary buildSummary(
+            long totalSessions,
+            long totalBuyIn,
+            long totalPrize,
+            long totalProfit,
+            long itmCount,
+            long itmPrize
+    ) {
         double roi = 0.0;
         if (totalBuyIn > 0L) {
             roi = totalProfit * 100.0 / totalBuyIn; // %
@@ -77,12 +105,7 @@ public class MonthlyStatisticsService {
 
         double avgPrize = 0.0;
         if (itmCount > 0L) {
-            long totalItmPrize = sessions.stream()
-                    .filter(s -> getPrize(s) > 0L)
-                    .mapToLong(this::getPrize)
-                    .sum();
-
-            avgPrize = totalItmPrize * 1.0 / itmCount;
+            avgPrize = itmPrize * 1.0 / itmCount;
         }
 
         return new MonthlySummary(
@@ -98,92 +121,56 @@ public class MonthlyStatisticsService {
         );
     }
 
-    private List<MonthlyDailyItem> buildDailyItems(List<GameSession> sessions) {
-        Map<LocalDate, List<GameSession>> byDate = sessions.stream()
-                .collect(Collectors.groupingBy(GameSession::getPlayDate));
-
-        return byDate.entrySet().stream()
-                .map(entry -> {
-                    LocalDate date = entry.getKey();
-                    List<GameSession> list = entry.getValue();
-
-                    long count = list.size();
-                    long buyIn = list.stream().mapToLong(this::getBuyIn).sum();
-                    long prize = list.stream().mapToLong(this::getPrize).sum();
-                    long profit = list.stream().mapToLong(this::getProfit).sum();
-
-                    return new MonthlyDailyItem(date, count, buyIn, prize, profit);
-                })
-                .sorted(Comparator.comparing(MonthlyDailyItem::date))
-                .toList();
+    // play_date 오름차순으로 내려옴
+    private MonthlyDailyItem toDailyItem(DailySessionAggregate row) {
+        return new MonthlyDailyItem(
+                row.playDate(),
+                nz(row.sessionCount()),
+                nz(row.buyIn()),
+                nz(row.prize()),
+                nz(row.profit()),
+                nz(row.itmCount())
+        );
     }
 
-    private MonthlyHighlights buildHighlights(List<GameSession> sessions) {
-        if (sessions.isEmpty()) {
+    private MonthlyHighlights buildHighlights(
+            Long userId,
+            LocalDate start,
+            LocalDate end,
+            MonthlySummary summary,
+            List<DailySessionAggregate> dailyRows
+    ) {
+        if (dailyRows.isEmpty()) {
             return new MonthlyHighlights(null, null, null);
         }
 
-        Comparator<GameSession> profitComparator =
-                Comparator.comparingLong(this::getProfit);
-
-        Long best = sessions.stream()
-                .max(profitComparator)
-                .map(this::getProfit)
-                .orElse(null);
-
-        Long worst = sessions.stream()
-                .min(profitComparator)
-                .map(this::getProfit)
-                .orElse(null);
+        // 날짜별 최고/최저 세션 손익 중 최고/최저
+        long best = Long.MIN_VALUE;
+        long worst = Long.MAX_VALUE;
+        for (DailySessionAggregate row : dailyRows) {
+            best = Math.max(best, nz(row.maxProfit()));
+            worst = Math.min(worst, nz(row.minProfit()));
+        }
 
-        Integer maxConsecutiveItm = calcMaxConsecutiveItm(sessions);
+        // ITM 이 한 번도 없으면 연속 기록 조회 생략
+        Integer maxConsecutiveItm = summary.itmCount() == 0L
+                ? 0
+                : calcMaxConsecutiveItm(
+                        gameSessionRepository.findPrizeRowsByUserIdAndPlayDateBetween(userId, start, end));
 
         return new MonthlyHighlights(best, worst, maxConsecutiveItm);
     }
 
-    private Integer calcMaxConsecutiveItm(List<GameSession> sessions) {
-        if (sessions.isEmpty()) {
-            return null;
-        }
-
-        // 날짜 + id 기준 정렬
-        List<GameSession> sorted = sessions.stream()
-                .sorted(Comparator
-                        .comparing(GameSession::getPlayDate)
-                        .thenComparing(GameSession::getId))
-                .toList();
-
-        int maxStreak = 0;
-        int currentStreak = 0;
-
-        for (GameSession s : sorted) {
-            if (getPrize(s) > 0L) {
-                currentStreak++;
-                if (currentStreak > maxStreak) {
-                    maxStreak = currentStreak;
-                }
-            } else {
-                currentStreak = 0;
-            }
+    // 날짜 + id 기준 정렬된 상태로 내려옴
+    private Integer calcMaxConsecutiveItm(List<SessionPrizeRow> rows) {
+        SessionStatsAccumulator acc = SessionStatsAccumulator.create();
+        for (SessionPrizeRow row : rows) {
+            acc.acceptItm(nz(row.prize()) > 0L);
         }
-
-        return maxStreak;
-    }
-
-    // ---- 안전한 값 읽기 헬퍼들 ----
-
-    private long getBuyIn(GameSession s) {
-        Long v = s.getTotalBuyIn();
-        return v != null ? v : 0L;
-    }
-
-    private long getPrize(GameSession s) {
-        Long v = s.getPrize();
-        return v != null ? v : 0L;
+        return acc.maxItmStreak();
     }
 
-    private long getProfit(GameSession s) {
-        Long v = s.getNetProfit();
+    private long nz(Long v) {
         return v != null ? v : 0L;
     }
 }
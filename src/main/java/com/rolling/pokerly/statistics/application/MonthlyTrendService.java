@@ -0,0 +1,76 @@
+package com.rolling.pokerly.statistics.application;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.statistics.domain.UserMonthlyRollup;
+import com.rolling.pokerly.statistics.dto.MonthlyTrendResponse;
+import com.rolling.pokerly.statistics.dto.MonthlyTrendResponse.MonthlyTrendItem;
+import com.rolling.pokerly.statistics.repo.UserMonthlyRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 월별 추세 (user_monthly_rollups 범위 조회)
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MonthlyTrendService {
+
+    public static final int MAX_MONTHS = 120;
+
+    private final UserMonthlyRollupRepository rollupRepository;
+
+    public MonthlyTrendResponse getTrend(Long userId, YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_MONTH_RANGE", "시작 월이 종료 월보다 늦습니다.");
+        }
+        if (ChronoUnit.MONTHS.between(from, to) + 1 > MAX_MONTHS) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_MONTH_RANGE",
+                    "조회 기간은 최대 " + MAX_MONTHS + "개월입니다."
+            );
+        }
+
+        return new MonthlyTrendResponse(from.toString(), to.toString(), getMonths(userId, from, to));
+    }
+
+    /**
+     * from ~ to 월별 합계 (세션 없는 달은 0)
+     */
+    public List<MonthlyTrendItem> getMonths(Long userId, YearMonth from, YearMonth to) {
+        Map<Integer, UserMonthlyRollup> byYm = rollupRepository
+                .findByUserIdAndYmBetweenOrderByYmAsc(userId, UserMonthlyRollup.toYm(from), UserMonthlyRollup.toYm(to))
+                .stream()
+                .collect(Collectors.toMap(UserMonthlyRollup::getYm, Function.identity()));
+
+        List<MonthlyTrendItem> result = new ArrayList<>();
+        for (YearMonth ym = from; !ym.isAfter(to); ym = ym.plusMonths(1)) {
+            var r = byYm.get(UserMonthlyRollup.toYm(ym));
+            result.add(r == null
+                    ? new MonthlyTrendItem(ym.getYear(), ym.getMonthValue(), 0L, 0L, 0L, 0L, 0L)
+                    : new MonthlyTrendItem(
+                            ym.getYear(),
+                            ym.getMonthValue(),
+                            r.getSessions(),
+                            r.getTotalBuyIn(),
+                            r.getTotalPrize(),
+                            r.getTotalProfit(),
+                            r.getItmCount()
+                    ));
+        }
+        return result;
+    }
+}
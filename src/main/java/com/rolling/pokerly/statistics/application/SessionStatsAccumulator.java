@@ -0,0 +1,171 @@
+package com.rolling.pokerly.statistics.application;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.rolling.pokerly.gamesession.domain.GameSession;
+
+import lombok.Getter;
+
+/**
+ * 세션 통계 단일 패스 누적기
+ *
+ * 세션 목록을 한 번만 돌면서 합계 / ITM 연속 기록 / 그룹별(타입, 매장, 월) 합계를 함께 계산한다.
+ * 필요한 그룹만 켜서 쓰고, 값은 모두 primitive 로 누적한다.
+ *
+ * - 누적 집계 재계산(SessionStatsAggregateService), 대시보드 이번 달 KPI / 매장 랭킹(DashboardService),
+ *   월간 통계 ITM 연속 기록(MonthlyStatisticsService)이 같이 쓴다.
+ * - 연속 기록은 (play_date, id) 순서로 넣었을 때만 의미가 있다.
+ * - 스레드 안전하지 않다. 요청 하나 안에서만 사용.
+ */
+public final class SessionStatsAccumulator implements Consumer<GameSession> {
+
+    private final Bucket totals = new Bucket();
+
+    // ITM 연속 기록
+    private int currentItmStreak = 0;
+    private int maxItmStreak = 0;
+
+    // 그룹별 합계 (켜진 것만 non-null)
+    private Map<String, Bucket> byType;
+    private Map<Long, Bucket> byVenue;
+    private Map<YearMonth, Bucket> byMonth;
+
+    public static SessionStatsAccumulator create() {
+        return new SessionStatsAccumulator();
+    }
+
+    private SessionStatsAccumulator() {
+    }
+
+    // =========================
+    // 옵션
+    // =========================
+
+    public SessionStatsAccumulator groupByType() {
+        this.byType = new LinkedHashMap<>();
+        return this;
+    }
+
+    public SessionStatsAccumulator groupByVenue() {
+        this.byVenue = new HashMap<>();
+        return this;
+    }
+
+    public SessionStatsAccumulator groupByMonth() {
+        this.byMonth = new HashMap<>();
+        return this;
+    }
+
+    // =========================
+    // 누적
+    // =========================
+
+    @Override
+    public void accept(GameSession s) {
+        long buyIn = safe(s.getTotalBuyIn());
+        long prize = safe(s.getPrize());
+        long profit = safe(s.getNetProfit());
+
+        totals.add(buyIn, prize, profit);
+        acceptItm(prize > 0);
+
+        if (byType != null) {
+            bucket(byType, typeKey(s.getSessionType())).add(buyIn, prize, profit);
+        }
+        if (byVenue != null && s.getVenueId() != null) {
+            bucket(byVenue, s.getVenueId()).add(buyIn, prize, profit);
+        }
+        if (byMonth != null && s.getPlayDate() != null) {
+            bucket(byMonth, YearMonth.from(s.getPlayDate())).add(buyIn, prize, profit);
+        }
+    }
+
+    /** 연속 기록만 갱신 (프로젝션 행 등) */
+    public void acceptItm(boolean itm) {
+        if (itm) {
+            currentItmStreak++;
+            if (currentItmStreak > maxItmStreak) maxItmStreak = currentItmStreak;
+        } else {
+            currentItmStreak = 0;
+        }
+    }
+
+    // =========================
+    // 결과
+    // =========================
+
+    public Bucket totals() {
+        return totals;
+    }
+
+    public boolean isEmpty() {
+        return totals.sessions == 0;
+    }
+
+    public int maxItmStreak() {
+        return maxItmStreak;
+    }
+
+    public Map<String, Bucket> byType() {
+        return byType != null ? byType : Map.of();
+    }
+
+    public Map<Long, Bucket> byVenue() {
+        return byVenue != null ? byVenue : Map.of();
+    }
+
+    public Map<YearMonth, Bucket> byMonth() {
+        return byMonth != null ? byMonth : Map.of();
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private static <K> Bucket bucket(Map<K, Bucket> map, K key) {
+        Bucket b = map.get(key);
+        if (b == null) {
+            b = new Bucket();
+            map.put(key, b);
+        }
+        return b;
+    }
+
+    private static String typeKey(String sessionType) {
+        return (sessionType == null || sessionType.isBlank())
+                ? SessionStatsAggregateService.UNKNOWN_TYPE
+                : sessionType;
+    }
+
+    private static long safe(Long v) {
+        return v == null ? 0L : v;
+    }
+
+    /**
+     * 그룹 하나의 합계
+     */
+    @Getter
+    public static final class Bucket {
+        private long sessions;
+        private long totalBuyIn;
+        private long totalPrize;
+        private long totalProfit;
+        private long itmCount;
+        private long itmPrize;
+
+        void add(long buyIn, long prize, long profit) {
+            sessions++;
+            totalBuyIn += buyIn;
+            totalPrize += prize;
+            totalProfit += profit;
+            if (prize > 0) {
+                itmCount++;
+                itmPrize += prize;
+            }
+        }
+    }
+}
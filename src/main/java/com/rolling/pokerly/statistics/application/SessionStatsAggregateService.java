@@ -0,0 +1,460 @@
+package com.rolling.pokerly.statistics.application;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.gamesession.domain.GameSession;
+import com.rolling.pokerly.gamesession.domain.GameSessionSnapshot;
+import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
+import com.rolling.pokerly.statistics.domain.ProfitSketch;
+import com.rolling.pokerly.statistics.domain.UserMonthlyRollup;
+import com.rolling.pokerly.statistics.domain.UserProfitSketchBin;
+import com.rolling.pokerly.statistics.domain.UserSessionStats;
+import com.rolling.pokerly.statistics.domain.UserSessionTypeStats;
+import com.rolling.pokerly.statistics.repo.UserMonthlyRollupRepository;
+import com.rolling.pokerly.statistics.repo.UserProfitSketchBinRepository;
+import com.rolling.pokerly.statistics.repo.UserSessionStatsRepository;
+import com.rolling.pokerly.statistics.repo.UserSessionTypeStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저별 세션 누적 집계 유지/조회
+ *
+ * - GameSessionService 의 생성/수정/삭제, GameSessionImportService 의 가져오기 트랜잭션 안에서 호출되어 증분 갱신
+ * - 월별 롤업(user_monthly_rollups), 손익 스케치 버킷(user_profit_sketch_bins)도 같은 시점에 함께 갱신
+ * - 쓰기 트랜잭션은 세션을 읽기 전에 lock(userId) 부터 호출한다
+ * - 연속 기록은 이어붙일 수 있을 때만 바로 갱신하고, 나머지는 표시만 해 두고 아웃박스 핸들러가 다시 계산
+ * - 집계 행이 없으면(기존 유저, 최초 조회) game_sessions 기준으로 재계산
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SessionStatsAggregateService {
+
+    public static final String UNKNOWN_TYPE = "UNKNOWN";
+
+    // 버킷 위치 계산 전용 (값은 넣지 않음)
+    private static final ProfitSketch SKETCH = ProfitSketch.create();
+
+    private final UserSessionStatsRepository statsRepository;
+    private final UserSessionTypeStatsRepository typeStatsRepository;
+    private final UserMonthlyRollupRepository monthlyRollupRepository;
+    private final UserProfitSketchBinRepository sketchBinRepository;
+    private final GameSessionRepository gameSessionRepository;
+    private final SessionStreamReader sessionStreamReader;
+
+    public record Aggregate(
+            UserSessionStats stats,
+            List<UserSessionTypeStats> types
+    ) {}
+
+    // =========================
+    // 조회
+    // =========================
+
+    public Aggregate load(Long userId) {
+        var stats = statsRepository.findById(userId)
+                .orElseGet(() -> lockOrRebuild(userId));
+
+        var types = typeStatsRepository.findByUserId(userId).stream()
+                .filter(t -> t.getSessions() > 0)
+                .toList();
+
+        return new Aggregate(stats, types);
+    }
+
+    /**
+     * 저장된 스케치 버킷으로 손익 스케치 복원 (O(버킷 수))
+     * min / max 는 정확한 값이 필요해서 호출하는 쪽이 넘긴다 (Top / Worst 세션).
+     */
+    @Transactional(readOnly = true)
+    public ProfitSketch loadSketch(Long userId, long min, long max) {
+        var bins = sketchBinRepository.findByUserId(userId).stream()
+                .map(UserProfitSketchBin::toStoredBin)
+                .toList();
+        return ProfitSketch.restore(bins, min, max);
+    }
+
+    // =========================
+    // 잠금 (세션 쓰기 트랜잭션의 첫 문장)
+    // =========================
+
+    /**
+     * 세션을 읽기 전에 유저 집계 행을 잠근다.
+     *
+     * REPEATABLE READ 의 읽기 스냅샷은 트랜잭션의 첫 일반 SELECT 시점에 잡힌다.
+     * 잠금보다 세션 조회가 먼저면 (1) 수정/삭제 전 값(before)이 다른 트랜잭션 커밋 이전 값일 수 있고
+     * (2) 연속 기록 재계산이 잠금 대기 중에 커밋된 세션을 못 본다.
+     * 잠금을 먼저 잡으면 같은 유저의 쓰기는 순서대로 처리되고, 이후 읽기는 직전 커밋까지 모두 본다.
+     */
+    public void lock(Long userId) {
+        lockStats(userId);
+    }
+
+    // =========================
+    // 증분 갱신 (세션 쓰기 트랜잭션 안에서 호출)
+    // =========================
+
+    public void onCreated(GameSessionSnapshot s) {
+        var stats = lockStats(s.userId());
+        if (needsRebuild(stats)) {
+            rebuildLocked(stats);
+            return;
+        }
+
+        stats.apply(1, s.totalBuyIn(), s.prize(), s.netProfit());
+        applyType(s, 1);
+        applyMonth(s, 1);
+        applySketch(s, 1);
+
+        if (!stats.isStreaksStale() && stats.isAfterLast(s.playDate(), s.id())) {
+            stats.extendStreak(s.isItm(), s.playDate(), s.id());
+        } else {
+            // 과거 날짜 세션이 끼어든 경우: 연속 기록은 커밋 뒤 SESSION_CREATED 핸들러가 다시 계산
+            stats.markStreaksStale();
+        }
+    }
+
+    public void onUpdated(GameSessionSnapshot before, GameSessionSnapshot after) {
+        var stats = lockStats(after.userId());
+        if (needsRebuild(stats)) {
+            rebuildLocked(stats);
+            return;
+        }
+
+        stats.apply(-1, before.totalBuyIn(), before.prize(), before.netProfit());
+        applyType(before, -1);
+        applyMonth(before, -1);
+
+        stats.apply(1, after.totalBuyIn(), after.prize(), after.netProfit());
+        applyType(after, 1);
+        applyMonth(after, 1);
+
+        if (before.netProfit() != after.netProfit()) {
+            applySketch(before, -1);
+            applySketch(after, 1);
+        }
+
+        boolean streakAffected = before.isItm() != after.isItm()
+                || !Objects.equals(before.playDate(), after.playDate());
+
+        if (streakAffected) {
+            stats.markStreaksStale();
+        }
+    }
+
+    public void onDeleted(GameSessionSnapshot s) {
+        var stats = lockStats(s.userId());
+        if (needsRebuild(stats)) {
+            rebuildLocked(stats);
+            return;
+        }
+
+        stats.apply(-1, s.totalBuyIn(), s.prize(), s.netProfit());
+        applyType(s, -1);
+        applyMonth(s, -1);
+        applySketch(s, -1);
+
+        // 삭제로 끊겨 있던 연속 기록이 이어질 수 있으므로 다시 계산 (SESSION_DELETED 핸들러)
+        stats.markStreaksStale();
+    }
+
+    /**
+     * 대량 가져오기 증분 - 가져온 세션 합계를 타입별 / 월별 / 스케치 버킷 단위로 한 번에 더한다.
+     * 연속 기록은 가져온 행 순서가 (play_date, id) 순서가 아니라서 여기서 이어붙일 수 없다.
+     * 다시 계산 표시만 하고, 커밋 뒤 SESSIONS_IMPORTED 이벤트로 refreshStreaks 가 계산한다.
+     */
+    public void onImported(Long userId, ImportDelta delta) {
+        var stats = lockStats(userId);
+        if (delta.isEmpty()) return;
+        if (needsRebuild(stats)) {
+            // 방금 넣은 행도 같은 트랜잭션이라 재계산에 포함된다
+            rebuildLocked(stats);
+            return;
+        }
+
+        var t = delta.acc.totals();
+        stats.addAll(t.getSessions(), t.getTotalBuyIn(), t.getTotalPrize(), t.getTotalProfit(), t.getItmCount(), delta.sumSq);
+        stats.markStreaksStale();
+
+        delta.acc.byType().forEach((type, b) -> {
+            var typeStats = typeStatsRepository.findByUserIdAndSessionType(userId, type)
+                    .orElseGet(() -> UserSessionTypeStats.builder()
+                            .userId(userId)
+                            .sessionType(type)
+                            .build());
+            typeStats.addAll(b.getSessions(), b.getTotalBuyIn(), b.getTotalPrize(), b.getTotalProfit(), b.getItmCount());
+            typeStatsRepository.save(typeStats);
+        });
+
+        delta.acc.byMonth().forEach((month, b) -> {
+            int ym = UserMonthlyRollup.toYm(month);
+            var rollup = monthlyRollupRepository.findByUserIdAndYm(userId, ym)
+                    .orElseGet(() -> UserMonthlyRollup.builder()
+                            .userId(userId)
+                            .ym(ym)
+                            .build());
+            rollup.addAll(
+                    b.getSessions(),
+                    b.getTotalBuyIn(),
+                    b.getTotalPrize(),
+                    b.getTotalProfit(),
+                    b.getItmCount(),
+                    b.getItmPrize()
+            );
+            monthlyRollupRepository.save(rollup);
+        });
+
+        for (var bin : delta.sketch.storedBins()) {
+            sketchBinRepository.addCount(userId, bin.sign(), bin.index(), bin.count());
+        }
+        statsRepository.save(stats);
+    }
+
+    /**
+     * 표시된 연속 기록만 다시 계산 (아웃박스 핸들러용)
+     * 표시가 없으면 잠금만 잡고 끝나고, 있으면 O(세션 수). 같은 이벤트가 다시 와도 결과는 같다.
+     */
+    public void refreshStreaks(Long userId) {
+        var stats = lockStats(userId);
+        if (needsRebuild(stats)) {
+            rebuildLocked(stats);
+            return;
+        }
+        if (stats.isStreaksStale()) {
+            recomputeStreaks(stats);
+        }
+    }
+
+    // =========================
+    // 재계산
+    // =========================
+
+    /**
+     * game_sessions 기준으로 해당 유저 집계를 처음부터 다시 만든다.
+     */
+    public UserSessionStats rebuild(Long userId) {
+        return rebuildLocked(lockStats(userId));
+    }
+
+    /**
+     * 잠금 순서는 항상 user_session_stats 행 → 타입별 / 월별 행.
+     * 증분 갱신과 재계산(배치, 가져오기)이 같은 순서로 잠가서 서로 교착되지 않는다.
+     */
+    private UserSessionStats lockStats(Long userId) {
+        statsRepository.insertIfAbsent(userId);
+        return statsRepository.findForUpdate(userId).orElseThrow();
+    }
+
+    private UserSessionStats lockOrRebuild(Long userId) {
+        var stats = lockStats(userId);
+        return needsRebuild(stats) ? rebuildLocked(stats) : stats;
+    }
+
+    /**
+     * 방금 만든 빈 행(기존 유저의 첫 접근)은 세션 0건 행과 구분하지 않고 재계산한다.
+     * 세션이 정말 0건이면 재계산도 읽을 행이 없어서 비용이 거의 없다.
+     */
+    private boolean needsRebuild(UserSessionStats stats) {
+        return stats.getTotalSessions() == 0;
+    }
+
+    private UserSessionStats rebuildLocked(UserSessionStats stats) {
+        Long userId = stats.getUserId();
+        typeStatsRepository.deleteByUserId(userId);
+        monthlyRollupRepository.deleteByUserId(userId);
+        sketchBinRepository.deleteByUserId(userId);
+
+        // (play_date, id) 순서로 스트리밍하면서 한 번에 누적
+        var pass = new RebuildPass();
+        sessionStreamReader.forEachSessionOrdered(userId, pass);
+
+        var totals = pass.acc.totals();
+        stats.replaceTotals(
+                totals.getSessions(),
+                totals.getTotalBuyIn(),
+                totals.getTotalPrize(),
+                totals.getTotalProfit(),
+                totals.getItmCount(),
+                pass.sumSq
+        );
+        pass.streaks.writeTo(stats);
+
+        var types = pass.acc.byType().entrySet().stream()
+                .map(e -> UserSessionTypeStats.builder()
+                        .userId(userId)
+                        .sessionType(e.getKey())
+                        .sessions(e.getValue().getSessions())
+                        .totalBuyIn(e.getValue().getTotalBuyIn())
+                        .totalPrize(e.getValue().getTotalPrize())
+                        .totalProfit(e.getValue().getTotalProfit())
+                        .itmCount(e.getValue().getItmCount())
+                        .build())
+                .toList();
+
+        var months = pass.acc.byMonth().entrySet().stream()
+                .map(e -> UserMonthlyRollup.builder()
+                        .userId(userId)
+                        .ym(UserMonthlyRollup.toYm(e.getKey()))
+                        .sessions(e.getValue().getSessions())
+                        .totalBuyIn(e.getValue().getTotalBuyIn())
+                        .totalPrize(e.getValue().getTotalPrize())
+                        .totalProfit(e.getValue().getTotalProfit())
+                        .itmCount(e.getValue().getItmCount())
+                        .itmPrize(e.getValue().getItmPrize())
+                        .build())
+                .toList();
+
+        var saved = statsRepository.save(stats);
+        typeStatsRepository.saveAll(types);
+        monthlyRollupRepository.saveAll(months);
+        for (var bin : pass.sketch.storedBins()) {
+            sketchBinRepository.addCount(userId, bin.sign(), bin.index(), bin.count());
+        }
+        return saved;
+    }
+
+    // =========================
+    // 내부 유틸
+    // =========================
+
+    private void applyType(GameSessionSnapshot s, int sign) {
+        var type = typeKey(s.sessionType());
+
+        var typeStats = typeStatsRepository.findByUserIdAndSessionType(s.userId(), type)
+                .orElseGet(() -> UserSessionTypeStats.builder()
+                        .userId(s.userId())
+                        .sessionType(type)
+                        .build());
+
+        typeStats.apply(sign, s.totalBuyIn(), s.prize(), s.netProfit());
+
+        if (typeStats.getSessions() <= 0) {
+            if (typeStats.getId() != null) {
+                typeStatsRepository.delete(typeStats);
+            }
+            return;
+        }
+        typeStatsRepository.save(typeStats);
+    }
+
+    private void applyMonth(GameSessionSnapshot s, int sign) {
+        if (s.playDate() == null) return;
+        int ym = UserMonthlyRollup.toYm(s.playDate());
+
+        var rollup = monthlyRollupRepository.findByUserIdAndYm(s.userId(), ym)
+                .orElseGet(() -> UserMonthlyRollup.builder()
+                        .userId(s.userId())
+                        .ym(ym)
+                        .build());
+
+        rollup.apply(sign, s.totalBuyIn(), s.prize(), s.netProfit());
+
+        if (rollup.getSessions() <= 0) {
+            if (rollup.getId() != null) {
+                monthlyRollupRepository.delete(rollup);
+            }
+            return;
+        }
+        monthlyRollupRepository.save(rollup);
+    }
+
+    private void applySketch(GameSessionSnapshot s, int sign) {
+        var bin = SKETCH.locate(s.netProfit());
+        sketchBinRepository.addCount(s.userId(), bin.sign(), bin.index(), sign);
+    }
+
+    /**
+     * 연속 기록 전체 재계산 - 유저 전체 (id, play_date, prize) 를 읽으므로 O(세션 수).
+     *
+     * 최대 연속 기록은 앞쪽 이력 전체에 걸려 있어서 변경 지점 뒤만 읽어서는 구할 수 없다.
+     * 마지막 세션 뒤에 붙는 생성(가장 흔한 경우)은 요청 안에서 extendStreak 로 O(1) 이고,
+     * 과거 날짜 추가 / ITM·날짜가 바뀐 수정 / 삭제 / 가져오기는 refreshStreaks(아웃박스)로 여기 온다.
+     */
+    private void recomputeStreaks(UserSessionStats stats) {
+        var streaks = new Streaks();
+        for (var row : gameSessionRepository.findPrizeRowsByUserId(stats.getUserId())) {
+            boolean itm = row.prize() != null && row.prize() > 0;
+            streaks.accept(itm, row.playDate(), row.id());
+        }
+        streaks.writeTo(stats);
+    }
+
+    private String typeKey(String sessionType) {
+        return (sessionType == null || sessionType.isBlank()) ? UNKNOWN_TYPE : sessionType;
+    }
+
+    /** 재계산 1회 패스: 합계/타입별은 누적기, 제곱합은 정확한 값으로 따로 */
+    private static class RebuildPass implements Consumer<GameSession> {
+        final SessionStatsAccumulator acc = SessionStatsAccumulator.create().groupByType().groupByMonth();
+        final ProfitSketch sketch = ProfitSketch.create();
+        final Streaks streaks = new Streaks();
+        BigDecimal sumSq = BigDecimal.ZERO;
+
+        @Override
+        public void accept(GameSession session) {
+            var s = GameSessionSnapshot.from(session);
+            acc.accept(session);
+            sketch.add(s.netProfit());
+            sumSq = sumSq.add(BigDecimal.valueOf(s.netProfit()).multiply(BigDecimal.valueOf(s.netProfit())));
+            streaks.accept(s.isItm(), s.playDate(), s.id());
+        }
+    }
+
+    /**
+     * 가져오기 한 번의 증분. 가져온 세션을 accept 로 넣고 onImported 에 넘긴다.
+     * 합계 / 타입별 / 월별은 누적기, 제곱합과 스케치 버킷은 따로 모은다 (메모리는 그룹 수만큼)
+     */
+    public static final class ImportDelta implements Consumer<GameSession> {
+        private final SessionStatsAccumulator acc = SessionStatsAccumulator.create().groupByType().groupByMonth();
+        private final ProfitSketch sketch = ProfitSketch.create();
+        private BigDecimal sumSq = BigDecimal.ZERO;
+
+        @Override
+        public void accept(GameSession session) {
+            long profit = session.getNetProfit() != null ? session.getNetProfit() : 0L;
+            acc.accept(session);
+            sketch.add(profit);
+            sumSq = sumSq.add(BigDecimal.valueOf(profit).multiply(BigDecimal.valueOf(profit)));
+        }
+
+        public boolean isEmpty() {
+            return acc.isEmpty();
+        }
+    }
+
+    /** (play_date, id) 순서로 들어오는 ITM 여부로 연속 기록 계산 */
+    private static class Streaks {
+        int currentItm = 0;
+        int currentLose = 0;
+        int maxItm = 0;
+        int maxLose = 0;
+        LocalDate lastPlayDate = null;
+        Long lastSessionId = null;
+
+        void accept(boolean itm, LocalDate playDate, Long sessionId) {
+            if (itm) {
+                currentItm++;
+                maxItm = Math.max(maxItm, currentItm);
+                currentLose = 0;
+            } else {
+                currentLose++;
+                maxLose = Math.max(maxLose, currentLose);
+                currentItm = 0;
+            }
+            lastPlayDate = playDate;
+            lastSessionId = sessionId;
+        }
+
+        void writeTo(UserSessionStats stats) {
+            stats.replaceStreaks(currentItm, currentLose, maxItm, maxLose, lastPlayDate, lastSessionId);
+        }
+    }
+}
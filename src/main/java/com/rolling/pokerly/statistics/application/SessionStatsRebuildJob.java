@@ -0,0 +1,48 @@
+package com.rolling.pokerly.statistics.application;
+
+import java.util.TreeSet;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
+import com.rolling.pokerly.statistics.repo.UserSessionStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 유저별 세션 집계 재계산 배치
+ *
+ * 증분 갱신이 어긋났을 때(수동 DB 수정 등)를 대비해
+ * 하루 한 번 game_sessions 기준으로 전체 유저 집계를 다시 만든다.
+ * 유저 단위로 트랜잭션을 나눠서 한 명이 실패해도 나머지는 진행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionStatsRebuildJob {
+
+    private final SessionStatsAggregateService aggregateService;
+    private final GameSessionRepository gameSessionRepository;
+    private final UserSessionStatsRepository statsRepository;
+
+    @Scheduled(cron = "${pokerly.statistics.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void rebuildAll() {
+        // 세션이 있는 유저 + 세션을 전부 지운 유저(집계 행만 남은 경우)
+        var userIds = new TreeSet<Long>(gameSessionRepository.findDistinctUserIds());
+        userIds.addAll(statsRepository.findAllUserIds());
+
+        int failed = 0;
+        for (Long userId : userIds) {
+            try {
+                aggregateService.rebuild(userId);
+            } catch (Exception e) {
+                failed++;
+                log.warn("[STATS] 세션 집계 재계산 실패 userId={} - {}", userId, e.getMessage());
+            }
+        }
+
+        log.info("[STATS] 세션 집계 재계산 완료 users={}, failed={}", userIds.size(), failed);
+    }
+}
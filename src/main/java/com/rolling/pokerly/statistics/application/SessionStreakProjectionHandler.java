@@ -0,0 +1,47 @@
+package com.rolling.pokerly.statistics.application;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.cache.UserCacheEvictor;
+import com.rolling.pokerly.core.outbox.DomainOutboxEvent;
+import com.rolling.pokerly.core.outbox.OutboxEventHandler;
+import com.rolling.pokerly.core.outbox.OutboxEvents;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 세션 변경 / 대량 가져오기 후 연속 기록 재계산
+ *
+ * 합계 / 타입별 / 월별 롤업은 쓰기 트랜잭션에서 이미 반영되어 있다.
+ * 연속 기록은 이어붙일 수 없는 변경(과거 날짜 추가, ITM·날짜 수정, 삭제, 가져오기)이면
+ * 전체 이력을 (play_date, id) 순서로 다시 읽어야 해서, 쓰기 때는 표시만 하고 여기서 계산한다.
+ * 표시가 없으면(마지막 세션 뒤에 붙은 생성 등) 잠금만 잡고 끝난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionStreakProjectionHandler implements OutboxEventHandler {
+
+    private final SessionStatsAggregateService aggregateService;
+    private final UserCacheEvictor userCacheEvictor;
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(
+                OutboxEvents.SESSION_CREATED,
+                OutboxEvents.SESSION_UPDATED,
+                OutboxEvents.SESSION_DELETED,
+                OutboxEvents.SESSIONS_IMPORTED
+        );
+    }
+
+    @Override
+    public void handle(DomainOutboxEvent event) {
+        aggregateService.refreshStreaks(event.getUserId());
+        // 연속 기록은 세션 통계 탭에만 나간다
+        userCacheEvictor.evict(event.getUserId(), List.of(CacheNames.STATISTICS_SESSIONS));
+    }
+}
@@ -0,0 +1,43 @@
+package com.rolling.pokerly.statistics.application;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.gamesession.domain.GameSession;
+import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전체 이력 세션 스트리밍 조회
+ *
+ * fetch size 단위로 커서를 읽으면서 한 건씩 넘기고 바로 detach 한다.
+ * 영속성 컨텍스트에 세션이 쌓이지 않아서 이력이 길어도 메모리 사용량이 일정하다.
+ * 넘겨받은 엔티티는 detach 된 상태이므로 값 읽기 용도로만 사용할 것.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SessionStreamReader {
+
+    private final GameSessionRepository gameSessionRepository;
+    private final EntityManager entityManager;
+
+    /** (play_date, id) 순서 보장 */
+    public void forEachSessionOrdered(Long userId, Consumer<GameSession> consumer) {
+        consume(gameSessionRepository.streamByUserIdOrderByPlayDateAscIdAsc(userId), consumer);
+    }
+
+    private void consume(Stream<GameSession> stream, Consumer<GameSession> consumer) {
+        try (stream) {
+            stream.forEach(s -> {
+                consumer.accept(s);
+                entityManager.detach(s);
+            });
+        }
+    }
+}
@@ -1,93 +1,103 @@
 package com.rolling.pokerly.statistics.application;
 
-import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.exception.ApiException;
 import com.rolling.pokerly.gamesession.domain.GameSession;
 import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
-import com.rolling.pokerly.journal.domain.GameJournal;
-import com.rolling.pokerly.journal.repo.GameJournalRepository;
+import com.rolling.pokerly.gamesession.repo.ProfitBucketRow;
+import com.rolling.pokerly.statistics.domain.ProfitSketch;
+import com.rolling.pokerly.statistics.domain.UserConditionStats;
+import com.rolling.pokerly.statistics.domain.UserSessionTypeStats;
+import com.rolling.pokerly.statistics.dto.DistributionOptions;
 import com.rolling.pokerly.statistics.dto.StatisticsSessionResponse;
+import com.rolling.pokerly.statistics.repo.UserConditionStatsRepository;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 세션 통계 탭
+ *
+ * 세션 전체를 읽지 않는다. 요약 / 타입별 / 연속 기록 / 표준편차는 누적 집계,
+ * 분위수 / 자동 히스토그램은 저장된 손익 스케치 버킷, Top·Worst 는 손익 인덱스에서 읽는다.
+ * 컨디션 분석은 ConditionStatsProjectionHandler 가 유지하는 user_condition_stats 에서 읽는다.
+ * 세션 수에 비례하는 조회는 요청 옵션(원본 손익 목록, 고정 폭 히스토그램)으로 켰을 때만.
+ */
 @Service
 @RequiredArgsConstructor
 public class StatisticsSessionService {
 
-    private final GameSessionRepository sessionRepository;
-    private final GameJournalRepository journalRepository;
+    private final GameSessionRepository gameSessionRepository;
+    private final UserConditionStatsRepository conditionStatsRepository;
+    private final SessionStatsAggregateService aggregateService;
 
-    public StatisticsSessionResponse getSessionStats(Long userId) {
+    @Cacheable(cacheNames = CacheNames.STATISTICS_SESSIONS, key = "{#userId, #options}")
+    public StatisticsSessionResponse getSessionStats(Long userId, DistributionOptions options) {
+        validate(options);
 
-        List<GameSession> list = sessionRepository.findByUserId(userId);
-        if (list.isEmpty()) {
+        // 요약 / 타입별 성과 / 연속 기록 / 표준편차는 누적 집계 테이블에서 바로 읽는다.
+        var aggregate = aggregateService.load(userId);
+        var stats = aggregate.stats();
+        if (stats.getTotalSessions() == 0) {
             return emptyResponse();
         }
 
         // 1) Summary
-        long totalSessions = list.size();
-        long totalBuyIn = list.stream().mapToLong(s -> safe(s.getTotalBuyIn())).sum();
-        long totalPrize = list.stream().mapToLong(s -> safe(s.getPrize())).sum();
-        long totalProfit = list.stream().mapToLong(s -> safe(s.getNetProfit())).sum();
+        long totalSessions = stats.getTotalSessions();
+        long totalBuyIn = stats.getTotalBuyIn();
+        long totalProfit = stats.getTotalProfit();
         double roi = totalBuyIn == 0 ? 0 : (double) totalProfit / totalBuyIn * 100;
 
-        long itmCount = list.stream().filter(s -> safe(s.getPrize()) > 0).count();
-        double itmRatio = totalSessions == 0 ? 0 : (double) itmCount / totalSessions;
+        long itmCount = stats.getItmCount();
+        double itmRatio = (double) itmCount / totalSessions;
 
         var summary = new StatisticsSessionResponse.Summary(
                 totalSessions,
                 totalBuyIn,
-                totalPrize,
+                stats.getTotalPrize(),
                 totalProfit,
                 roi,
                 itmCount,
                 itmRatio
         );
 
-        // 2) 타입별 성과 (✅ sessionType null-safe)
-        var byType = list.stream()
-                .collect(Collectors.groupingBy(s -> {
-                    String t = s.getSessionType();
-                    return (t == null || t.isBlank()) ? "UNKNOWN" : t;
-                }))
-                .entrySet()
-                .stream()
-                .map(e -> buildTypeStat(e.getKey(), e.getValue()))
+        // 2) 타입별 성과
+        var byType = aggregate.types().stream()
+                .map(this::toTypeStat)
                 .toList();
 
-        // 3) ITM 패턴 (✅ playDate null-safe sort)
-        var itmPattern = buildItmPattern(list);
+        // Top / Worst 3 (idx_gs_user_net_profit 앞뒤 3건) - 최대/최소 손익도 여기서
+        List<GameSession> topSessions = gameSessionRepository.findTop3ByUserIdOrderByNetProfitDescIdDesc(userId);
+        List<GameSession> worstSessions = gameSessionRepository.findTop3ByUserIdOrderByNetProfitAscIdAsc(userId);
+        long maxProfit = topSessions.isEmpty() ? 0L : safe(topSessions.get(0).getNetProfit());
+        long minProfit = worstSessions.isEmpty() ? 0L : safe(worstSessions.get(0).getNetProfit());
+
+        // 3) ITM 패턴
+        var itmPattern = new StatisticsSessionResponse.ItmPattern(
+                stats.getMaxItmStreak(),
+                stats.getMaxLoseStreak()
+        );
 
         // 4) 손익 분포
-        var distribution = buildDistribution(list);
+        var distribution = buildDistribution(userId, minProfit, maxProfit, stats.profitStddev(), options);
 
         // 5) 컨디션 분석 (일지 + 하루 손익)
-        var condition = buildConditionAnalysis(userId, list);
+        var condition = buildConditionAnalysis(userId);
 
         // 6) Top / Worst 세션 (venueName은 그대로 "기타"만 사용)
-        var top = list.stream()
-                .sorted(Comparator.comparing(
-                        GameSession::getNetProfit,
-                        Comparator.nullsLast(Comparator.naturalOrder())
-                ).reversed())
-                .limit(3)
+        var top = topSessions.stream()
                 .map(this::simpleSession)
                 .toList();
 
-        var worst = list.stream()
-                .sorted(Comparator.comparing(
-                        GameSession::getNetProfit,
-                        Comparator.nullsLast(Comparator.naturalOrder())
-                ))
-                .limit(3)
+        var worst = worstSessions.stream()
                 .map(this::simpleSession)
                 .toList();
 
@@ -105,17 +115,17 @@ public class StatisticsSessionService {
 
     // ===================== Helper builders =====================
 
-    private StatisticsSessionResponse.TypeStat buildTypeStat(String type, List<GameSession> list) {
-        long sessions = list.size();
-        long totalBuyIn = list.stream().mapToLong(s -> safe(s.getTotalBuyIn())).sum();
-        long profit = list.stream().mapToLong(s -> safe(s.getNetProfit())).sum();
-        long itm = list.stream().filter(s -> safe(s.getPrize()) > 0).count();
+    private StatisticsSessionResponse.TypeStat toTypeStat(UserSessionTypeStats t) {
+        long sessions = t.getSessions();
+        long totalBuyIn = t.getTotalBuyIn();
+        long profit = t.getTotalProfit();
+        long itm = t.getItmCount();
 
         double roi = totalBuyIn == 0 ? 0 : (double) profit / totalBuyIn * 100;
         double itmRatio = sessions == 0 ? 0 : (double) itm / sessions;
 
         return new StatisticsSessionResponse.TypeStat(
-                type,
+                t.getSessionType(),
                 sessions,
                 totalBuyIn,
                 profit,
@@ -125,135 +135,190 @@ public class StatisticsSessionService {
         );
     }
 
-    private StatisticsSessionResponse.ItmPattern buildItmPattern(List<GameSession> list) {
-        int maxItm = 0, maxLose = 0;
-        int curItm = 0, curLose = 0;
-
-        for (GameSession s : list.stream()
-                .sorted(Comparator.comparing(
-                        GameSession::getPlayDate,
-                        Comparator.nullsLast(Comparator.naturalOrder())
-                ))
-                .toList()) {
-
-            if (safe(s.getPrize()) > 0) {
-                curItm++;
-                maxItm = Math.max(maxItm, curItm);
-                curLose = 0;
-            } else {
-                curLose++;
-                maxLose = Math.max(maxLose, curLose);
-                curItm = 0;
-            }
-        }
-
-        return new StatisticsSessionResponse.ItmPattern(maxItm, maxLose);
-    }
-
-    private StatisticsSessionResponse.ProfitDistribution buildDistribution(List<GameSession> list) {
-        List<Long> profits = list.stream()
-                .map(s -> safe(s.getNetProfit()))
-                .toList();
+    private StatisticsSessionResponse.ProfitDistribution buildDistribution(
+            Long userId,
+            long minProfit,
+            long maxProfit,
+            double stddev,
+            DistributionOptions options
+    ) {
+        ProfitSketch sketch = aggregateService.loadSketch(userId, minProfit, maxProfit);
+
+        var quantiles = new StatisticsSessionResponse.ProfitDistribution.Quantiles(
+                sketch.quantile(0.05),
+                sketch.quantile(0.25),
+                sketch.quantile(0.50),
+                sketch.quantile(0.75),
+                sketch.quantile(0.95)
+        );
 
-        long maxUp = profits.stream().max(Long::compareTo).orElse(0L);
-        long maxDown = profits.stream().min(Long::compareTo).orElse(0L);
+        // 폭을 지정하면 DB 에서 세션 손익 그대로 구간별로 세고(정확),
+        // 자동 폭이면 스케치 버킷 대표값으로 나눈다(근사)
+        long width;
+        List<StatisticsSessionResponse.ProfitDistribution.HistogramBucket> histogram;
+        if (options.bucketWidth() != null) {
+            width = options.bucketWidth();
+            histogram = exactHistogram(userId, minProfit, maxProfit, width);
+        } else {
+            width = autoBucketWidth(sketch.min(), sketch.max(), options.buckets());
+            histogram = sketchHistogram(sketch, width);
+        }
 
-        double avg = profits.stream().mapToDouble(v -> v).average().orElse(0);
-        double variance = profits.stream()
-                .mapToDouble(v -> Math.pow(v - avg, 2))
-                .average().orElse(0);
+        List<Long> profits = options.includeRawProfits()
+                ? gameSessionRepository.findNetProfitsByUserId(userId)
+                : List.of();
 
         return new StatisticsSessionResponse.ProfitDistribution(
                 profits,
-                Math.sqrt(variance),
-                maxUp,
-                maxDown
+                stddev,
+                maxProfit,
+                minProfit,
+                quantiles,
+                width,
+                histogram
         );
     }
 
     /**
-     * 일지 + 하루 손익/바인을 이용해서
-     * 점수별 횟수, 평균 손익, 평균 ROI를 계산한다.
+     * DB 가 센 정확한 구간별 세션 수를 [from, to) 고정 폭 구간 목록으로 (빈 구간 포함)
+     *
+     * 구간 수는 최소/최대 손익(Top·Worst)으로 먼저 구해서, MAX_BUCKETS 를 넘으면 세션을 세기 전에 거절한다.
+     * 통과하면 구간 수가 정해져 있으므로 고정 크기 배열에 바로 담는다.
      */
-    private StatisticsSessionResponse.ConditionAnalysis buildConditionAnalysis(
+    private List<StatisticsSessionResponse.ProfitDistribution.HistogramBucket> exactHistogram(
             Long userId,
-            List<GameSession> sessions
+            long minProfit,
+            long maxProfit,
+            long width
     ) {
-        var sessionsWithDate = sessions.stream()
-                .filter(s -> s.getPlayDate() != null)
-                .toList();
-
-        Map<LocalDate, Long> profitByDate = sessionsWithDate.stream()
-                .collect(Collectors.groupingBy(
-                        GameSession::getPlayDate,
-                        Collectors.summingLong(s -> safe(s.getNetProfit()))
-                ));
-
-        Map<LocalDate, Long> buyInByDate = sessionsWithDate.stream()
-                .collect(Collectors.groupingBy(
-                        GameSession::getPlayDate,
-                        Collectors.summingLong(s -> safe(s.getTotalBuyIn()))
-                ));
-
-        List<GameJournal> journals = journalRepository.findByUserId(userId);
-        if (journals.isEmpty()) {
-            return new StatisticsSessionResponse.ConditionAnalysis(
-                    List.of(), List.of(), List.of()
+        long size = bucketCount(minProfit, maxProfit, width);
+        if (size > DistributionOptions.MAX_BUCKETS) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_BUCKET_WIDTH",
+                    "구간 폭이 너무 작습니다. 구간 수는 최대 " + DistributionOptions.MAX_BUCKETS + "개입니다."
             );
         }
 
-        var byCondition = aggregateScore(journals, profitByDate, buyInByDate, GameJournal::getMoodScore);
-        var byMental = aggregateScore(journals, profitByDate, buyInByDate, GameJournal::getFocusScore);
-        var byFatigue = aggregateScore(journals, profitByDate, buyInByDate, GameJournal::getEnergyScore);
+        long first = Math.floorDiv(minProfit, width);
+        long[] counts = new long[(int) size];
+        for (ProfitBucketRow row : gameSessionRepository.countByProfitBucket(userId, width)) {
+            long i = row.getBucketIndex() - first;
+            // 최소/최대 조회와 구간 집계 사이에 들어온 세션은 범위 밖이면 버린다 (캐시 무효화로 다음 요청에 반영)
+            if (i >= 0 && i < size) {
+                counts[(int) i] = row.getSessionCount();
+            }
+        }
+        return toBuckets(first, width, counts);
+    }
 
-        return new StatisticsSessionResponse.ConditionAnalysis(
-                byCondition,
-                byMental,
-                byFatigue
-        );
+    /**
+     * 스케치 버킷을 [from, to) 고정 폭 구간으로 다시 묶는다. 구간 경계는 width 의 배수.
+     * 스케치 대표값 기준이라 구간 경계 근처(상대오차 1% 이내) 세션은 옆 구간에 들어갈 수 있다.
+     */
+    private List<StatisticsSessionResponse.ProfitDistribution.HistogramBucket> sketchHistogram(
+            ProfitSketch sketch,
+            long width
+    ) {
+        if (sketch.isEmpty()) return List.of();
+
+        long first = Math.floorDiv(sketch.min(), width);
+        long[] counts = new long[(int) bucketCount(sketch.min(), sketch.max(), width)];
+        for (ProfitSketch.Bin bin : sketch.bins()) {
+            counts[(int) (Math.floorDiv(bin.value(), width) - first)] += bin.count();
+        }
+        return toBuckets(first, width, counts);
     }
 
-    private List<StatisticsSessionResponse.ConditionAnalysis.ConditionEntry> aggregateScore(
-            List<GameJournal> journals,
-            Map<LocalDate, Long> profitByDate,
-            Map<LocalDate, Long> buyInByDate,
-            Function<GameJournal, Integer> getter
+    private List<StatisticsSessionResponse.ProfitDistribution.HistogramBucket> toBuckets(
+            long firstIndex,
+            long width,
+            long[] counts
     ) {
-        Map<Integer, long[]> acc = new HashMap<>(); // [0]=count, [1]=profitSum, [2]=buyInSum
+        List<StatisticsSessionResponse.ProfitDistribution.HistogramBucket> result = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            long from = (firstIndex + i) * width;
+            result.add(new StatisticsSessionResponse.ProfitDistribution.HistogramBucket(from, from + width, counts[i]));
+        }
+        return result;
+    }
 
-        for (GameJournal j : journals) {
-            Integer score = getter.apply(j);
-            if (score == null) continue;
+    /**
+     * (max - min) / buckets 를 1, 2, 5 x 10^n 단위로 올린 폭.
+     * 경계를 width 배수로 맞추면 구간이 하나 늘 수 있어서, buckets 개 안에 들어올 때까지 한 단계씩 더 올린다.
+     * (폭이 범위보다 커지면 구간은 최대 2개 - buckets = 1 이고 0 을 걸치는 경우만 2개)
+     */
+    private long autoBucketWidth(long min, long max, int buckets) {
+        long range = max - min;
+        if (range <= 0) return 1L;
+
+        double raw = (double) range / Math.max(1, buckets);
+        double magnitude = Math.pow(10, Math.floor(Math.log10(raw)));
+        double nice;
+        if (raw <= magnitude) nice = magnitude;
+        else if (raw <= 2 * magnitude) nice = 2 * magnitude;
+        else if (raw <= 5 * magnitude) nice = 5 * magnitude;
+        else nice = 10 * magnitude;
+
+        long width = Math.max(1L, (long) nice);
+        while (bucketCount(min, max, width) > buckets && width <= range) {
+            width = nextNiceWidth(width);
+        }
+        return width;
+    }
 
-            long profit = profitByDate.getOrDefault(j.getJournalDate(), 0L);
-            long buyIn = buyInByDate.getOrDefault(j.getJournalDate(), 0L);
+    private static long bucketCount(long min, long max, long width) {
+        return Math.floorDiv(max, width) - Math.floorDiv(min, width) + 1;
+    }
 
-            long[] v = acc.computeIfAbsent(score, k -> new long[3]);
-            v[0]++;
-            v[1] += profit;
-            v[2] += buyIn;
+    // 1, 2, 5 x 10^n 순서에서 width 다음 값
+    private static long nextNiceWidth(long width) {
+        long magnitude = 1L;
+        while (magnitude <= width / 10) {
+            magnitude *= 10;
         }
+        long lead = width / magnitude;
+        if (lead < 2) return 2 * magnitude;
+        if (lead < 5) return 5 * magnitude;
+        return 10 * magnitude;
+    }
 
-        return acc.entrySet()
-                .stream()
-                .sorted(Map.Entry.comparingByKey())
-                .map(e -> {
-                    int score = e.getKey();
-                    long count = e.getValue()[0];
-                    long sumProfit = e.getValue()[1];
-                    long sumBuyIn = e.getValue()[2];
-
-                    long avgProfit = count == 0 ? 0 : sumProfit / count;
-                    double avgRoi = (sumBuyIn == 0) ? 0.0 : (double) sumProfit / sumBuyIn * 100;
-
-                    return new StatisticsSessionResponse.ConditionAnalysis.ConditionEntry(
-                            score,
-                            count,
-                            avgProfit,
-                            avgRoi
-                    );
-                })
-                .toList();
+    /**
+     * 일지 + 하루 손익/바인을 이용해서
+     * 점수별 횟수, 평균 손익, 평균 ROI를 계산한다.
+     * (점수별 합계는 읽기 모델에 이미 있음 - 점수 개수만큼만 읽는다)
+     */
+    private StatisticsSessionResponse.ConditionAnalysis buildConditionAnalysis(Long userId) {
+        Map<String, List<StatisticsSessionResponse.ConditionAnalysis.ConditionEntry>> byMetric = new HashMap<>();
+
+        // metric, score 순으로 정렬되어 내려옴
+        for (UserConditionStats row : conditionStatsRepository.findByUserIdOrderByMetricAscScoreAsc(userId)) {
+            byMetric.computeIfAbsent(row.getMetric(), k -> new ArrayList<>())
+                    .add(toConditionEntry(row));
+        }
+
+        return new StatisticsSessionResponse.ConditionAnalysis(
+                byMetric.getOrDefault("MOOD", List.of()),
+                byMetric.getOrDefault("FOCUS", List.of()),
+                byMetric.getOrDefault("ENERGY", List.of()),
+                byMetric.getOrDefault("TILT", List.of())
+        );
+    }
+
+    private StatisticsSessionResponse.ConditionAnalysis.ConditionEntry toConditionEntry(UserConditionStats row) {
+        long count = row.getJournalCount();
+        long sumProfit = row.getProfitSum();
+        long sumBuyIn = row.getBuyInSum();
+
+        long avgProfit = count == 0 ? 0 : sumProfit / count;
+        double avgRoi = (sumBuyIn == 0) ? 0.0 : (double) sumProfit / sumBuyIn * 100;
+
+        return new StatisticsSessionResponse.ConditionAnalysis.ConditionEntry(
+                row.getScore(),
+                count,
+                avgProfit,
+                avgRoi
+        );
     }
 
     private StatisticsSessionResponse.SimpleSession simpleSession(GameSession s) {
@@ -282,6 +347,19 @@ public class StatisticsSessionService {
 
     // ===================== 기타 =====================
 
+    private void validate(DistributionOptions options) {
+        if (options.bucketWidth() != null && options.bucketWidth() <= 0) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "INVALID_BUCKET_WIDTH", "구간 폭은 1 이상이어야 합니다.");
+        }
+        if (options.buckets() < 1 || options.buckets() > DistributionOptions.MAX_BUCKETS) {
+            throw new ApiException(
+                    HttpStatus.BAD_REQUEST,
+                    "INVALID_BUCKETS",
+                    "구간 수는 1 ~ " + DistributionOptions.MAX_BUCKETS + " 사이여야 합니다."
+            );
+        }
+    }
+
     private long safe(Long v) {
         return v == null ? 0 : v;
     }
@@ -291,8 +369,13 @@ public class StatisticsSessionService {
                 new StatisticsSessionResponse.Summary(0, 0, 0, 0, 0, 0, 0),
                 List.of(),
                 new StatisticsSessionResponse.ItmPattern(0, 0),
-                new StatisticsSessionResponse.ProfitDistribution(List.of(), 0, 0, 0),
-                new StatisticsSessionResponse.ConditionAnalysis(List.of(), List.of(), List.of()),
+                new StatisticsSessionResponse.ProfitDistribution(
+                        List.of(), 0, 0, 0,
+                        new StatisticsSessionResponse.ProfitDistribution.Quantiles(0, 0, 0, 0, 0),
+                        0,
+                        List.of()
+                ),
+                new StatisticsSessionResponse.ConditionAnalysis(List.of(), List.of(), List.of(), List.of()),
                 List.of(),
                 List.of()
         );
@@ -0,0 +1,88 @@
+package com.rolling.pokerly.statistics.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.cache.UserCacheEvictor;
+import com.rolling.pokerly.core.outbox.DomainOutboxEvent;
+import com.rolling.pokerly.core.outbox.OutboxEventHandler;
+import com.rolling.pokerly.core.outbox.OutboxEvents;
+import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
+import com.rolling.pokerly.gamesession.repo.VenueSessionAggregate;
+import com.rolling.pokerly.statistics.domain.UserVenueStats;
+import com.rolling.pokerly.statistics.repo.UserVenueStatsRepository;
+import com.rolling.pokerly.venue.application.VenueDirectoryService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매장 통계 읽기 모델(user_venue_stats) 재계산
+ *
+ * 세션 변경이면 합계가, 매장 변경이면 이름이 바뀌므로 둘 다 유저 단위로 지우고 다시 채운다.
+ * GROUP BY venue_id 한 번 + 이름 조회 한 번. 순서와 무관하게 마지막 실행이 최신 상태가 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VenueStatsProjectionHandler implements OutboxEventHandler {
+
+    private final SessionStatsAggregateService aggregateService;
+    private final GameSessionRepository gameSessionRepository;
+    private final VenueDirectoryService venueDirectoryService;
+    private final UserVenueStatsRepository venueStatsRepository;
+    private final UserCacheEvictor userCacheEvictor;
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(
+                OutboxEvents.SESSION_CREATED,
+                OutboxEvents.SESSION_UPDATED,
+                OutboxEvents.SESSION_DELETED,
+                OutboxEvents.SESSIONS_IMPORTED,
+                OutboxEvents.VENUE_CREATED,
+                OutboxEvents.VENUE_UPDATED,
+                OutboxEvents.VENUE_DELETED
+        );
+    }
+
+    @Override
+    public void handle(DomainOutboxEvent event) {
+        Long userId = event.getUserId();
+
+        // 같은 유저 세션 쓰기 / 다른 디스패처의 재계산과 순서를 맞춘다 (첫 문장)
+        aggregateService.lock(userId);
+
+        List<VenueSessionAggregate> rows = gameSessionRepository.aggregateVenueSessionsByUserId(userId);
+
+        // 이름은 캐시가 아니라 DB 에서 (매장 변경 직후 디렉터리 캐시는 옛 값일 수 있다)
+        Map<Long, String> names = venueDirectoryService.resolveNames(
+                Map.of(),
+                rows.stream().map(VenueSessionAggregate::venueId).toList()
+        );
+
+        venueStatsRepository.deleteByUserId(userId);
+        venueStatsRepository.saveAll(rows.stream()
+                .map(r -> UserVenueStats.builder()
+                        .userId(userId)
+                        .venueId(r.venueId())
+                        .venueName(names.get(r.venueId()))
+                        .sessions(nz(r.sessionCount()))
+                        .totalBuyIn(nz(r.buyIn()))
+                        .totalPrize(nz(r.prize()))
+                        .totalProfit(nz(r.profit()))
+                        .itmCount(nz(r.itmCount()))
+                        .entrySamples(nz(r.entrySamples()))
+                        .entrySum(nz(r.entrySum()))
+                        .build())
+                .toList());
+
+        userCacheEvictor.evict(userId, List.of(CacheNames.STATISTICS_VENUES));
+    }
+
+    private long nz(Long v) {
+        return v != null ? v : 0L;
+    }
+}
@@ -1,103 +1,69 @@
 package com.rolling.pokerly.statistics.application;
 
+import com.rolling.pokerly.core.cache.CacheNames;
 import com.rolling.pokerly.statistics.dto.VenueStatsResponse;
 import com.rolling.pokerly.statistics.dto.VenueStatsResponse.SummarySection;
 import com.rolling.pokerly.statistics.dto.VenueStatsResponse.TopVenueSection;
 import com.rolling.pokerly.statistics.dto.VenueStatsResponse.VenueRank;
 import com.rolling.pokerly.statistics.dto.VenueStatsResponse.VenueStat;
-import com.rolling.pokerly.gamesession.domain.GameSession;
-import com.rolling.pokerly.venue.domain.Venue;
-import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
-import com.rolling.pokerly.venue.repo.VenueRepository;
+import com.rolling.pokerly.statistics.domain.UserVenueStats;
+import com.rolling.pokerly.statistics.repo.UserVenueStatsRepository;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 매장 통계
+ *
+ * 매장별 합계 / 이름은 VenueStatsProjectionHandler 가 유지하는 user_venue_stats 에서 읽는다.
+ * 세션 / 매장 변경 직후에는 핸들러가 돌 때까지 이전 값이 보일 수 있다.
+ */
 @Service
 @Transactional(readOnly = true)
 public class VenueStatsService {
 
-    private final GameSessionRepository gameSessionRepository;
-    private final VenueRepository venueRepository;
+    private final UserVenueStatsRepository venueStatsRepository;
 
-    public VenueStatsService(
-            GameSessionRepository gameSessionRepository,
-            VenueRepository venueRepository
-    ) {
-        this.gameSessionRepository = gameSessionRepository;
-        this.venueRepository = venueRepository;
+    public VenueStatsService(UserVenueStatsRepository venueStatsRepository) {
+        this.venueStatsRepository = venueStatsRepository;
     }
 
+    @Cacheable(cacheNames = CacheNames.STATISTICS_VENUES, key = "{#userId}")
     public VenueStatsResponse getVenueStats(Long userId) {
-        // 1) 해당 유저의 "매장(VENUE) 세션"만 가져오기 (venueId NOT NULL)
-        List<GameSession> sessions = gameSessionRepository.findVenueSessionsByUserId(userId);
+        // 1) 해당 유저의 매장별 합계 (읽기 모델, 매장 수만큼)
+        List<UserVenueStats> rows = venueStatsRepository.findByUserId(userId);
 
-        if (sessions.isEmpty()) {
+        if (rows.isEmpty()) {
             SummarySection emptySummary = new SummarySection(
                     0, 0L, 0L, 0L, 0.0, 0
             );
             return new VenueStatsResponse(emptySummary, List.of(), new TopVenueSection(null, null, null));
         }
 
-        // 2) 사용된 venueId 전체 모아서 한 번에 매장 정보 로딩
-        Set<Long> venueIds = sessions.stream()
-                .map(GameSession::getVenueId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        Map<Long, Venue> venueMap = venueRepository.findAllById(venueIds).stream()
-                .collect(Collectors.toMap(Venue::getId, v -> v));
-
-        // 3) venueId 기준으로 세션 그룹핑
-        Map<Long, List<GameSession>> byVenueId = sessions.stream()
-                .filter(s -> s.getVenueId() != null)
-                .collect(Collectors.groupingBy(GameSession::getVenueId));
-
-        // 4) VenueStat 리스트 생성 (profit 기준 내림차순 정렬)
-        List<VenueStat> venueStats = byVenueId.entrySet().stream()
-                .map(entry -> {
-                    Long venueId = entry.getKey();
-                    List<GameSession> venueSessions = entry.getValue();
-                    Venue venue = venueMap.get(venueId);
-
-                    String venueName = (venue != null) ? venue.getName() : "알 수 없는 매장";
-
-                    return toVenueStat(venueId, venueName, venueSessions);
-                })
+        // 2) VenueStat 리스트 생성 (profit 기준 내림차순 정렬)
+        List<VenueStat> venueStats = rows.stream()
+                .map(this::toVenueStat)
                 .sorted(Comparator.comparing(VenueStat::totalProfit).reversed())
                 .collect(Collectors.toList());
 
-        // 5) 전체 Summary 계산
+        // 3) 전체 Summary 계산
         SummarySection summary = buildSummary(venueStats);
 
-        // 6) Top / Worst 매장 계산
+        // 4) Top / Worst 매장 계산
         TopVenueSection topVenueSection = buildTopVenueSection(venueStats);
 
         return new VenueStatsResponse(summary, venueStats, topVenueSection);
     }
 
-    private VenueStat toVenueStat(Long venueId, String venueName, List<GameSession> sessions) {
-        int sessionCount = sessions.size();
-
-        long totalBuyIn = sessions.stream()
-                .mapToLong(s -> Optional.ofNullable(s.getTotalBuyIn()).orElse(0L))
-                .sum();
-
-        long totalPrize = sessions.stream()
-                .mapToLong(s -> Optional.ofNullable(s.getPrize()).orElse(0L))
-                .sum();
-
-        // netProfit 필드가 이미 있으므로 써도 되고, 안전하게 다시 계산해도 됨
-        long totalProfit = sessions.stream()
-                .mapToLong(s -> Optional.ofNullable(s.getNetProfit()).orElse(0L))
-                .sum();
-
-        int itmCount = (int) sessions.stream()
-                .filter(s -> Optional.ofNullable(s.getPrize()).orElse(0L) > 0L)
-                .count();
+    private VenueStat toVenueStat(UserVenueStats row) {
+        int sessionCount = (int) row.getSessions();
+        long totalBuyIn = row.getTotalBuyIn();
+        long totalProfit = row.getTotalProfit();
+        int itmCount = (int) row.getItmCount();
 
         double itmRatio = sessionCount == 0
                 ? 0.0
@@ -110,29 +76,21 @@ public class VenueStatsService {
         // 🔹 평균 엔트리(fieldEntries) 계산:
         // "토너 전체 엔트리 수"가 기록된 세션만 대상으로 함.
         // 예: 세션 5개 중 fieldEntries가 3개만 있으면 분모는 3
-        List<Integer> entries = sessions.stream()
-                .map(GameSession::getFieldEntries)   // Integer, nullable
-                .filter(Objects::nonNull)
-                .filter(e -> e > 0)
-                .collect(Collectors.toList());
-
-        int entrySampleCount = entries.size();
+        int entrySampleCount = (int) row.getEntrySamples();
 
         Integer avgEntry = null;
         if (entrySampleCount > 0) {
-            double avg = entries.stream()
-                    .mapToInt(Integer::intValue)
-                    .average()
-                    .orElse(0.0);
-            avgEntry = (int) Math.round(avg);
+            avgEntry = (int) Math.round((double) row.getEntrySum() / entrySampleCount);
         }
 
+        String venueName = (row.getVenueName() != null) ? row.getVenueName() : "알 수 없는 매장";
+
         return new VenueStat(
-                venueId,
+                row.getVenueId(),
                 venueName,
                 sessionCount,
                 totalBuyIn,
-                totalPrize,
+                row.getTotalPrize(),
                 totalProfit,
                 roi,
                 itmCount,
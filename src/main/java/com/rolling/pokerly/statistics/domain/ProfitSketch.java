@@ -0,0 +1,188 @@
+package com.rolling.pokerly.statistics.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 세션 손익 분포 스케치 (DDSketch 방식 로그 버킷)
+ *
+ * - |v| 를 gamma^i 단위 로그 버킷에 넣어서 분위수를 상대오차 relativeAccuracy 이내로 근사
+ * - 양수 / 음수 / 0 을 따로 센다
+ * - 같은 정확도끼리는 merge 가능 (월별 스케치를 합쳐도 세션을 다시 읽을 필요 없음)
+ * - 버킷 위치(StoredBin)로 저장해 두었다가 restore 로 다시 만들 수 있다 (user_profit_sketch_bins)
+ */
+public final class ProfitSketch {
+
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+
+    private final TreeMap<Integer, Long> positive = new TreeMap<>();
+    private final TreeMap<Integer, Long> negative = new TreeMap<>();
+    private long zeroCount = 0;
+
+    private long count = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    public static ProfitSketch create() {
+        return new ProfitSketch(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    public ProfitSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("relativeAccuracy must be in (0, 1)");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /** 저장된 버킷 목록 + 정확한 최소/최대값으로 스케치를 다시 만든다. 세션 수는 버킷 합계 */
+    public static ProfitSketch restore(Iterable<StoredBin> bins, long min, long max) {
+        var sketch = create();
+        for (StoredBin bin : bins) {
+            if (bin.count() <= 0) continue;
+
+            if (bin.sign() > 0) {
+                sketch.positive.merge(bin.index(), bin.count(), Long::sum);
+            } else if (bin.sign() < 0) {
+                sketch.negative.merge(bin.index(), bin.count(), Long::sum);
+            } else {
+                sketch.zeroCount += bin.count();
+            }
+            sketch.count += bin.count();
+        }
+        if (sketch.count > 0) {
+            sketch.min = min;
+            sketch.max = max;
+        }
+        return sketch;
+    }
+
+    /** value 가 들어갈 버킷 위치 (count 는 1) */
+    public StoredBin locate(long value) {
+        if (value > 0) return new StoredBin(1, index(value), 1L);
+        if (value < 0) return new StoredBin(-1, index(-(double) value), 1L);
+        return new StoredBin(0, 0, 1L);
+    }
+
+    /** 저장용 버킷 목록 (sign: 1 양수 / -1 음수 / 0 영) */
+    public List<StoredBin> storedBins() {
+        List<StoredBin> result = new ArrayList<>(negative.size() + positive.size() + 1);
+        negative.forEach((i, c) -> result.add(new StoredBin(-1, i, c)));
+        if (zeroCount > 0) {
+            result.add(new StoredBin(0, 0, zeroCount));
+        }
+        positive.forEach((i, c) -> result.add(new StoredBin(1, i, c)));
+        return result;
+    }
+
+    public void add(long value) {
+        if (value > 0) {
+            positive.merge(index(value), 1L, Long::sum);
+        } else if (value < 0) {
+            negative.merge(index(-(double) value), 1L, Long::sum);
+        } else {
+            zeroCount++;
+        }
+
+        count++;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /** other 의 값을 이 스케치에 합친다. */
+    public ProfitSketch merge(ProfitSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("relativeAccuracy mismatch");
+        }
+        if (other.count == 0) return this;
+
+        other.positive.forEach((i, c) -> positive.merge(i, c, Long::sum));
+        other.negative.forEach((i, c) -> negative.merge(i, c, Long::sum));
+        zeroCount += other.zeroCount;
+
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /** 세션이 없으면 0 */
+    public long min() {
+        return count == 0 ? 0L : min;
+    }
+
+    /** 세션이 없으면 0 */
+    public long max() {
+        return count == 0 ? 0L : max;
+    }
+
+    /**
+     * q 분위수 (0.0 ~ 1.0), 세션이 없으면 0
+     */
+    public long quantile(double q) {
+        if (count == 0) return 0L;
+        if (q <= 0) return min;
+        if (q >= 1) return max;
+
+        long rank = (long) Math.floor(q * (count - 1));
+        long seen = 0;
+        for (Bin bin : bins()) {
+            seen += bin.count();
+            if (seen > rank) {
+                return bin.value();
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 값 오름차순 버킷 목록 (대표값은 min/max 범위로 보정)
+     */
+    public List<Bin> bins() {
+        List<Bin> result = new ArrayList<>(negative.size() + positive.size() + 1);
+
+        // 음수: 절대값이 큰 쪽(더 작은 값)부터
+        for (Map.Entry<Integer, Long> e : negative.descendingMap().entrySet()) {
+            result.add(new Bin(clamp(-Math.round(representative(e.getKey()))), e.getValue()));
+        }
+        if (zeroCount > 0) {
+            result.add(new Bin(0L, zeroCount));
+        }
+        for (Map.Entry<Integer, Long> e : positive.entrySet()) {
+            result.add(new Bin(clamp(Math.round(representative(e.getKey()))), e.getValue()));
+        }
+        return result;
+    }
+
+    private int index(double absValue) {
+        return (int) Math.ceil(Math.log(absValue) / logGamma);
+    }
+
+    // 버킷 (gamma^(i-1), gamma^i] 안에서 상대오차가 가장 작은 값
+    private double representative(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    private long clamp(long v) {
+        return Math.max(min, Math.min(max, v));
+    }
+
+    public record Bin(long value, long count) {}
+
+    public record StoredBin(int sign, int index, long count) {}
+}
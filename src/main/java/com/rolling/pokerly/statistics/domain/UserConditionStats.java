@@ -0,0 +1,49 @@
+package com.rolling.pokerly.statistics.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저 × 일지 점수별 하루 손익 합계 (user_condition_stats)
+ *
+ * metric: MOOD / FOCUS / ENERGY / TILT
+ * 일지 / 세션 변경 이벤트를 받은 ConditionStatsProjectionHandler 가 유저 단위로 지우고 다시 채운다.
+ */
+@Entity
+@Table(name = "user_condition_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserConditionStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 10)
+    private String metric;
+
+    @Column(nullable = false)
+    private int score;
+
+    @Column(name = "journal_count", nullable = false)
+    private long journalCount;
+
+    @Column(name = "profit_sum", nullable = false)
+    private long profitSum;
+
+    @Column(name = "buy_in_sum", nullable = false)
+    private long buyInSum;
+}
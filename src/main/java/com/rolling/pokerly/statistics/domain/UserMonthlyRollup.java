@@ -0,0 +1,97 @@
+package com.rolling.pokerly.statistics.domain;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저 × 월 세션 롤업 (user_monthly_rollups)
+ *
+ * ym 은 yyyymm 정수 (예: 202512)
+ */
+@Entity
+@Table(name = "user_monthly_rollups")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserMonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int ym;
+
+    @Column(nullable = false)
+    private long sessions;
+
+    @Column(name = "total_buy_in", nullable = false)
+    private long totalBuyIn;
+
+    @Column(name = "total_prize", nullable = false)
+    private long totalPrize;
+
+    @Column(name = "total_profit", nullable = false)
+    private long totalProfit;
+
+    @Column(name = "itm_count", nullable = false)
+    private long itmCount;
+
+    @Column(name = "itm_prize", nullable = false)
+    private long itmPrize;
+
+    /**
+     * 세션 1건을 더하거나(sign = 1) 뺀다(sign = -1).
+     */
+    public void apply(int sign, long buyIn, long prize, long profit) {
+        this.sessions += sign;
+        this.totalBuyIn += sign * buyIn;
+        this.totalPrize += sign * prize;
+        this.totalProfit += sign * profit;
+        if (prize > 0) {
+            this.itmCount += sign;
+            this.itmPrize += sign * prize;
+        }
+    }
+
+    /** 여러 세션 합계를 한 번에 더한다 (대량 가져오기) */
+    public void addAll(long sessions, long buyIn, long prize, long profit, long itmCount, long itmPrize) {
+        this.sessions += sessions;
+        this.totalBuyIn += buyIn;
+        this.totalPrize += prize;
+        this.totalProfit += profit;
+        this.itmCount += itmCount;
+        this.itmPrize += itmPrize;
+    }
+
+    public YearMonth yearMonth() {
+        return toYearMonth(ym);
+    }
+
+    public static int toYm(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    public static int toYm(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    public static YearMonth toYearMonth(int ym) {
+        return YearMonth.of(ym / 100, ym % 100);
+    }
+}
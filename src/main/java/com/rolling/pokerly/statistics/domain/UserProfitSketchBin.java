@@ -0,0 +1,44 @@
+package com.rolling.pokerly.statistics.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 세션 손익 스케치 버킷 (user_profit_sketch_bins)
+ *
+ * ProfitSketch 의 로그 버킷 위치(sign, bin_index)별 세션 수.
+ * 세션 쓰기 트랜잭션에서 증감(upsert)으로만 갱신하므로 엔티티는 읽기용.
+ */
+@Entity
+@Table(name = "user_profit_sketch_bins")
+@Getter
+@NoArgsConstructor
+public class UserProfitSketchBin {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 1 양수 / -1 음수 / 0 영
+    @Column(nullable = false)
+    private int sign;
+
+    @Column(name = "bin_index", nullable = false)
+    private int binIndex;
+
+    @Column(nullable = false)
+    private long cnt;
+
+    public ProfitSketch.StoredBin toStoredBin() {
+        return new ProfitSketch.StoredBin(sign, binIndex, cnt);
+    }
+}
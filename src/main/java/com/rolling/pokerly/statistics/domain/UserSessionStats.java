@@ -0,0 +1,196 @@
+package com.rolling.pokerly.statistics.domain;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 세션 누적 집계 (user_session_stats)
+ *
+ * 합계/건수/제곱합은 세션 생성·수정·삭제 시 증감으로 유지하고,
+ * 연속 기록(streak)은 마지막 세션 뒤에 붙는 경우에만 이어서 갱신한다.
+ * 그 외(과거 날짜 추가, 수정, 삭제, 가져오기)는 streaksStale 로 표시만 하고
+ * 아웃박스 핸들러가 다시 계산해 덮어쓴다.
+ */
+@Entity
+@Table(name = "user_session_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSessionStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "total_sessions", nullable = false)
+    private long totalSessions;
+
+    @Column(name = "total_buy_in", nullable = false)
+    private long totalBuyIn;
+
+    @Column(name = "total_prize", nullable = false)
+    private long totalPrize;
+
+    @Column(name = "total_profit", nullable = false)
+    private long totalProfit;
+
+    @Column(name = "itm_count", nullable = false)
+    private long itmCount;
+
+    // Σ(netProfit²) - long 범위를 넘을 수 있어 DECIMAL 로 보관
+    @Column(name = "profit_sum_sq", nullable = false, precision = 38, scale = 0)
+    private BigDecimal profitSumSq;
+
+    @Column(name = "current_itm_streak", nullable = false)
+    private int currentItmStreak;
+
+    @Column(name = "current_lose_streak", nullable = false)
+    private int currentLoseStreak;
+
+    @Column(name = "max_itm_streak", nullable = false)
+    private int maxItmStreak;
+
+    @Column(name = "max_lose_streak", nullable = false)
+    private int maxLoseStreak;
+
+    @Column(name = "last_play_date")
+    private LocalDate lastPlayDate;
+
+    @Column(name = "last_session_id")
+    private Long lastSessionId;
+
+    // 연속 기록을 다시 계산해야 하는 상태 (SessionStreakProjectionHandler 가 처리)
+    @Column(name = "streaks_stale", nullable = false)
+    private boolean streaksStale;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 세션 1건을 더하거나(sign = 1) 뺀다(sign = -1).
+     */
+    public void apply(int sign, long buyIn, long prize, long profit) {
+        this.totalSessions += sign;
+        this.totalBuyIn += sign * buyIn;
+        this.totalPrize += sign * prize;
+        this.totalProfit += sign * profit;
+        if (prize > 0) {
+            this.itmCount += sign;
+        }
+
+        var sq = BigDecimal.valueOf(profit).multiply(BigDecimal.valueOf(profit));
+        this.profitSumSq = sign > 0 ? profitSumSq.add(sq) : profitSumSq.subtract(sq);
+    }
+
+    /** 여러 세션 합계를 한 번에 더한다 (대량 가져오기) */
+    public void addAll(long sessions, long buyIn, long prize, long profit, long itmCount, BigDecimal sumSq) {
+        this.totalSessions += sessions;
+        this.totalBuyIn += buyIn;
+        this.totalPrize += prize;
+        this.totalProfit += profit;
+        this.itmCount += itmCount;
+        this.profitSumSq = profitSumSq.add(sumSq);
+    }
+
+    /**
+     * (playDate, id) 순서상 마지막 세션 뒤에 붙는 세션인지 여부
+     */
+    public boolean isAfterLast(LocalDate playDate, Long sessionId) {
+        if (lastPlayDate == null) return true;
+        if (playDate == null) return false;
+
+        int cmp = playDate.compareTo(lastPlayDate);
+        if (cmp != 0) return cmp > 0;
+        return lastSessionId == null || (sessionId != null && sessionId > lastSessionId);
+    }
+
+    /** 마지막 세션 뒤에 붙는 세션으로 연속 기록을 이어간다. */
+    public void extendStreak(boolean itm, LocalDate playDate, Long sessionId) {
+        if (itm) {
+            currentItmStreak++;
+            maxItmStreak = Math.max(maxItmStreak, currentItmStreak);
+            currentLoseStreak = 0;
+        } else {
+            currentLoseStreak++;
+            maxLoseStreak = Math.max(maxLoseStreak, currentLoseStreak);
+            currentItmStreak = 0;
+        }
+        this.lastPlayDate = playDate;
+        this.lastSessionId = sessionId;
+    }
+
+    /** 연속 기록을 이어갈 수 없는 변경 - 다시 계산할 때까지 extendStreak 도 하지 않는다. */
+    public void markStreaksStale() {
+        this.streaksStale = true;
+    }
+
+    /** 다시 계산한 연속 기록으로 덮어쓴다. */
+    public void replaceStreaks(
+            int currentItm,
+            int currentLose,
+            int maxItm,
+            int maxLose,
+            LocalDate lastPlayDate,
+            Long lastSessionId) {
+        this.currentItmStreak = currentItm;
+        this.currentLoseStreak = currentLose;
+        this.maxItmStreak = maxItm;
+        this.maxLoseStreak = maxLose;
+        this.lastPlayDate = lastPlayDate;
+        this.lastSessionId = lastSessionId;
+        this.streaksStale = false;
+    }
+
+    /** 재계산 결과로 합계 전체를 덮어쓴다. */
+    public void replaceTotals(
+            long totalSessions,
+            long totalBuyIn,
+            long totalPrize,
+            long totalProfit,
+            long itmCount,
+            BigDecimal profitSumSq) {
+        this.totalSessions = totalSessions;
+        this.totalBuyIn = totalBuyIn;
+        this.totalPrize = totalPrize;
+        this.totalProfit = totalProfit;
+        this.itmCount = itmCount;
+        this.profitSumSq = profitSumSq;
+    }
+
+    /**
+     * 모표준편차 = sqrt( (nΣx² - (Σx)²) / n² )
+     * 분자를 정수로 계산해서 누적 오차 없이 구한다.
+     */
+    public double profitStddev() {
+        if (totalSessions <= 0) return 0.0;
+
+        var n = BigInteger.valueOf(totalSessions);
+        var sum = BigInteger.valueOf(totalProfit);
+        var numerator = n.multiply(profitSumSq.toBigInteger()).subtract(sum.multiply(sum));
+        if (numerator.signum() <= 0) return 0.0;
+
+        double variance = numerator.doubleValue() / n.multiply(n).doubleValue();
+        return Math.sqrt(variance);
+    }
+
+    @PrePersist
+    @PreUpdate
+    @SuppressWarnings("unused")
+    void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+}
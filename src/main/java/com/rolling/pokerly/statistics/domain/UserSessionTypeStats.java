@@ -0,0 +1,71 @@
+package com.rolling.pokerly.statistics.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저 × 세션 타입별 누적 집계 (user_session_type_stats)
+ */
+@Entity
+@Table(name = "user_session_type_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSessionTypeStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "session_type", nullable = false, length = 30)
+    private String sessionType;
+
+    @Column(nullable = false)
+    private long sessions;
+
+    @Column(name = "total_buy_in", nullable = false)
+    private long totalBuyIn;
+
+    @Column(name = "total_prize", nullable = false)
+    private long totalPrize;
+
+    @Column(name = "total_profit", nullable = false)
+    private long totalProfit;
+
+    @Column(name = "itm_count", nullable = false)
+    private long itmCount;
+
+    /**
+     * 세션 1건을 더하거나(sign = 1) 뺀다(sign = -1).
+     */
+    public void apply(int sign, long buyIn, long prize, long profit) {
+        this.sessions += sign;
+        this.totalBuyIn += sign * buyIn;
+        this.totalPrize += sign * prize;
+        this.totalProfit += sign * profit;
+        if (prize > 0) {
+            this.itmCount += sign;
+        }
+    }
+
+    /** 여러 세션 합계를 한 번에 더한다 (대량 가져오기) */
+    public void addAll(long sessions, long buyIn, long prize, long profit, long itmCount) {
+        this.sessions += sessions;
+        this.totalBuyIn += buyIn;
+        this.totalPrize += prize;
+        this.totalProfit += profit;
+        this.itmCount += itmCount;
+    }
+}
@@ -0,0 +1,62 @@
+package com.rolling.pokerly.statistics.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저 × 매장 세션 합계 (user_venue_stats)
+ *
+ * 매장(VENUE) 세션만 대상. 세션 / 매장 변경 이벤트를 받은 VenueStatsProjectionHandler 가
+ * 유저 단위로 지우고 다시 채운다. 매장 이름도 그 시점 이름으로 같이 둔다.
+ */
+@Entity
+@Table(name = "user_venue_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserVenueStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "venue_id", nullable = false)
+    private Long venueId;
+
+    @Column(name = "venue_name", length = 100)
+    private String venueName;
+
+    @Column(nullable = false)
+    private long sessions;
+
+    @Column(name = "total_buy_in", nullable = false)
+    private long totalBuyIn;
+
+    @Column(name = "total_prize", nullable = false)
+    private long totalPrize;
+
+    @Column(name = "total_profit", nullable = false)
+    private long totalProfit;
+
+    @Column(name = "itm_count", nullable = false)
+    private long itmCount;
+
+    // fieldEntries > 0 인 세션 수
+    @Column(name = "entry_samples", nullable = false)
+    private long entrySamples;
+
+    @Column(name = "entry_sum", nullable = false)
+    private long entrySum;
+}
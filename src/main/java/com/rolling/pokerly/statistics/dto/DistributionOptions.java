@@ -0,0 +1,22 @@
+package com.rolling.pokerly.statistics.dto;
+
+/**
+ * 세션 통계 손익 분포 옵션
+ *
+ * @param bucketWidth       고정 히스토그램 폭 - 세션 손익 그대로 센 정확한 값 (null 이면 buckets 개수 기준 자동)
+ * @param buckets           자동 모드일 때 최대 버킷 수 - 스케치 기반이라 구간 경계 근처 세션은 근사
+ * @param includeRawProfits 세션별 손익 원본 목록 포함 여부 (기본 false)
+ */
+public record DistributionOptions(
+        Long bucketWidth,
+        int buckets,
+        boolean includeRawProfits
+) {
+
+    public static final int DEFAULT_BUCKETS = 20;
+    public static final int MAX_BUCKETS = 200;
+
+    public static DistributionOptions defaults() {
+        return new DistributionOptions(null, DEFAULT_BUCKETS, false);
+    }
+}
@@ -7,6 +7,7 @@ public record MonthlyDailyItem(
         long sessionCount,
         long buyIn,
         long prize,
-        long profit          // 해당 날짜 합산 netProfit
+        long profit,         // 해당 날짜 합산 netProfit
+        long itmCount        // 해당 날짜 ITM 세션 수
 ) {
 }
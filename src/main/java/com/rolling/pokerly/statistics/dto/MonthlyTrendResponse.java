@@ -0,0 +1,21 @@
+package com.rolling.pokerly.statistics.dto;
+
+import java.util.List;
+
+public record MonthlyTrendResponse(
+        String from,            // yyyy-MM
+        String to,              // yyyy-MM
+        List<MonthlyTrendItem> months
+) {
+
+    // 세션이 없는 달도 0 으로 채워서 내려간다
+    public record MonthlyTrendItem(
+            int year,
+            int month,
+            long sessions,
+            long buyIn,
+            long prize,
+            long profit,
+            long itmCount
+    ) {}
+}
@@ -41,17 +41,36 @@ public record StatisticsSessionResponse(
 
     // 손익 분포
     public record ProfitDistribution(
-            List<Long> profits,
+            List<Long> profits,               // includeRawProfits=true 일 때만, 아니면 빈 리스트
             double stddev,
             long maxUp,
-            long maxDown
-    ) { }
+            long maxDown,
+            Quantiles quantiles,              // 스케치 기반 근사값 (상대오차 1%)
+            long bucketWidth,
+            List<HistogramBucket> histogram
+    ) {
+        public record Quantiles(
+                long p5,
+                long p25,
+                long p50,
+                long p75,
+                long p95
+        ) { }
+
+        // [from, to) 구간 세션 수
+        public record HistogramBucket(
+                long from,
+                long to,
+                long count
+        ) { }
+    }
 
     // 컨디션 분석
     public record ConditionAnalysis(
             List<ConditionEntry> byCondition,
             List<ConditionEntry> byMental,
-            List<ConditionEntry> byFatigue
+            List<ConditionEntry> byFatigue,
+            List<ConditionEntry> byTilt
     ) {
         public record ConditionEntry(
                 int score,
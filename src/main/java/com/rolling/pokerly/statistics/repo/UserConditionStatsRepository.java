@@ -0,0 +1,21 @@
+package com.rolling.pokerly.statistics.repo;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rolling.pokerly.statistics.domain.UserConditionStats;
+
+public interface UserConditionStatsRepository extends JpaRepository<UserConditionStats, Long> {
+
+    // uk_user_condition_stats (user_id, metric, score) 순서 그대로
+    List<UserConditionStats> findByUserIdOrderByMetricAscScoreAsc(Long userId);
+
+    // 재계산용. 호출 트랜잭션의 영속성 컨텍스트는 비우지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("delete from UserConditionStats c where c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,24 @@
+package com.rolling.pokerly.statistics.repo;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rolling.pokerly.statistics.domain.UserMonthlyRollup;
+
+public interface UserMonthlyRollupRepository extends JpaRepository<UserMonthlyRollup, Long> {
+
+    Optional<UserMonthlyRollup> findByUserIdAndYm(Long userId, int ym);
+
+    // uk_user_monthly_rollups (user_id, ym) 범위 조회
+    List<UserMonthlyRollup> findByUserIdAndYmBetweenOrderByYmAsc(Long userId, int fromYm, int toYm);
+
+    // 재계산용. 호출 트랜잭션의 영속성 컨텍스트는 비우지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("delete from UserMonthlyRollup r where r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
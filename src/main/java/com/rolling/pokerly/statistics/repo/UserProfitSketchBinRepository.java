@@ -0,0 +1,39 @@
+package com.rolling.pokerly.statistics.repo;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rolling.pokerly.statistics.domain.UserProfitSketchBin;
+
+public interface UserProfitSketchBinRepository extends JpaRepository<UserProfitSketchBin, Long> {
+
+    // uk_user_profit_sketch_bins (user_id, sign, bin_index) 범위 조회
+    @Query("select b from UserProfitSketchBin b where b.userId = :userId and b.cnt > 0")
+    List<UserProfitSketchBin> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * 버킷 세션 수를 delta 만큼 증감 (행이 없으면 만든다).
+     * user_session_stats 잠금을 잡은 트랜잭션에서만 호출한다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_profit_sketch_bins (user_id, sign, bin_index, cnt)
+        VALUES (:userId, :sign, :binIndex, :delta)
+        ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)
+        """, nativeQuery = true)
+    int addCount(
+            @Param("userId") Long userId,
+            @Param("sign") int sign,
+            @Param("binIndex") int binIndex,
+            @Param("delta") long delta
+    );
+
+    // 재계산용. 호출 트랜잭션의 영속성 컨텍스트는 비우지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("delete from UserProfitSketchBin b where b.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
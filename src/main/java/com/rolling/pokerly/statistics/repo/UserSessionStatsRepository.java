@@ -0,0 +1,39 @@
+package com.rolling.pokerly.statistics.repo;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rolling.pokerly.statistics.domain.UserSessionStats;
+
+import jakarta.persistence.LockModeType;
+
+public interface UserSessionStatsRepository extends JpaRepository<UserSessionStats, Long> {
+
+    // 같은 유저의 동시 세션 쓰기가 증분을 덮어쓰지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserSessionStats s where s.userId = :userId")
+    Optional<UserSessionStats> findForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 행이 없으면 빈 행(0)을 만들고, 있으면 그대로 둔다.
+     *
+     * 어느 쪽이든 이 트랜잭션이 행 X 잠금을 잡는다 (ON DUPLICATE KEY UPDATE 는 중복 행에 X 잠금).
+     * 같은 유저의 첫 쓰기/조회가 동시에 들어와도 PK 충돌 없이 순서대로 처리된다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO user_session_stats (user_id)
+        VALUES (:userId)
+        ON DUPLICATE KEY UPDATE user_id = user_id
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    @Query("select s.userId from UserSessionStats s")
+    List<Long> findAllUserIds();
+}
@@ -0,0 +1,23 @@
+package com.rolling.pokerly.statistics.repo;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rolling.pokerly.statistics.domain.UserSessionTypeStats;
+
+public interface UserSessionTypeStatsRepository extends JpaRepository<UserSessionTypeStats, Long> {
+
+    List<UserSessionTypeStats> findByUserId(Long userId);
+
+    Optional<UserSessionTypeStats> findByUserIdAndSessionType(Long userId, String sessionType);
+
+    // 재계산용. 호출 트랜잭션의 영속성 컨텍스트는 비우지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("delete from UserSessionTypeStats t where t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
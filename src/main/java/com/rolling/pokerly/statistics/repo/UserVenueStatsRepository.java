@@ -0,0 +1,22 @@
+package com.rolling.pokerly.statistics.repo;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.rolling.pokerly.statistics.domain.UserVenueStats;
+
+public interface UserVenueStatsRepository extends JpaRepository<UserVenueStats, Long> {
+
+    // uk_user_venue_stats (user_id, venue_id) 범위 조회
+    @Query("select v from UserVenueStats v where v.userId = :userId and v.sessions > 0")
+    List<UserVenueStats> findByUserId(@Param("userId") Long userId);
+
+    // 재계산용. 호출 트랜잭션의 영속성 컨텍스트는 비우지 않는다
+    @Modifying(flushAutomatically = true)
+    @Query("delete from UserVenueStats v where v.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
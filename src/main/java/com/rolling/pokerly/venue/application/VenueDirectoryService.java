@@ -0,0 +1,75 @@
+package com.rolling.pokerly.venue.application;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.venue.domain.Venue;
+import com.rolling.pokerly.venue.dto.VenueSummary;
+import com.rolling.pokerly.venue.repo.VenueRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저별 매장 디렉터리 (venueId → 이름 / 타입 / 포인트)
+ *
+ * 유저 매장 전체를 쿼리 1번으로 읽어 캐시에 두고,
+ * 세션 옵션 / 대시보드에서 매장 이름을 찾을 때 같이 쓴다.
+ * VenueService 생성/수정/삭제 시 VENUE_DEPENDENT 무효화로 함께 지워진다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class VenueDirectoryService {
+
+    private final VenueRepository venueRepository;
+
+    /**
+     * 유저 매장 전체 (이름순, 수정 불가 맵)
+     */
+    @Cacheable(cacheNames = CacheNames.VENUE_DIRECTORY, key = "{#userId}")
+    public Map<Long, VenueSummary> getDirectory(Long userId) {
+        Map<Long, VenueSummary> directory = new LinkedHashMap<>();
+        for (Venue v : venueRepository.findByCreatedByUserIdOrderByNameAsc(userId)) {
+            directory.put(v.getId(), VenueSummary.from(v));
+        }
+        return Collections.unmodifiableMap(directory);
+    }
+
+    /**
+     * venueId → 이름
+     *
+     * directory 는 getDirectory() 결과를 넘긴다 (같은 빈 안에서 부르면 캐시를 타지 않으므로).
+     * 디렉터리에 없는 id(지워진 매장 등)만 한 번에 추가 조회한다.
+     */
+    public Map<Long, String> resolveNames(Map<Long, VenueSummary> directory, Collection<Long> venueIds) {
+        Map<Long, String> names = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+
+        for (Long id : venueIds) {
+            if (id == null) continue;
+            VenueSummary v = directory.get(id);
+            if (v != null) {
+                names.put(id, v.name());
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (Venue v : venueRepository.findByIdIn(missing)) {
+                names.put(v.getId(), v.getName());
+            }
+        }
+        return names;
+    }
+}
@@ -7,7 +7,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.cache.UserCacheEvictor;
 import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.core.outbox.OutboxEvents;
+import com.rolling.pokerly.core.outbox.OutboxPublisher;
 import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
 import com.rolling.pokerly.venue.domain.Venue;
 import com.rolling.pokerly.venue.dto.VenueRequest;
@@ -23,6 +27,8 @@ public class VenueService {
 
     private final VenueRepository venueRepository;
     private final GameSessionRepository gameSessionRepository;
+    private final UserCacheEvictor userCacheEvictor;
+    private final OutboxPublisher outboxPublisher;
 
     public List<VenueResponse> getMyVenues(Long userId) {
         return venueRepository.findByCreatedByUserIdOrderByNameAsc(userId).stream()
@@ -55,6 +61,8 @@ public class VenueService {
                 .build();
 
         var saved = venueRepository.save(venue);
+        userCacheEvictor.evict(userId, CacheNames.VENUE_DEPENDENT);
+        outboxPublisher.publish(userId, OutboxEvents.VENUE, saved.getId(), OutboxEvents.VENUE_CREATED);
         return VenueResponse.from(saved);
     }
 
@@ -71,6 +79,8 @@ public class VenueService {
         long safePoint = Objects.requireNonNullElse(req.pointBalance(), 0L);
 
         venue.update(req.name(), req.location(), req.notes(), safePoint);
+        userCacheEvictor.evict(userId, CacheNames.VENUE_DEPENDENT);
+        outboxPublisher.publish(userId, OutboxEvents.VENUE, venueId, OutboxEvents.VENUE_UPDATED);
         return VenueResponse.from(venue);
     }
 
@@ -91,5 +101,7 @@ public class VenueService {
         }
 
         venueRepository.delete(venue);
+        userCacheEvictor.evict(userId, CacheNames.VENUE_DEPENDENT);
+        outboxPublisher.publish(userId, OutboxEvents.VENUE, venueId, OutboxEvents.VENUE_DELETED);
     }
 }
@@ -0,0 +1,22 @@
+package com.rolling.pokerly.venue.dto;
+
+import com.rolling.pokerly.venue.domain.Venue;
+
+/**
+ * 매장 디렉터리 항목 (캐시에 올라가는 불변 값)
+ */
+public record VenueSummary(
+        Long id,
+        String name,
+        String type,
+        Long pointBalance
+) {
+    public static VenueSummary from(Venue v) {
+        return new VenueSummary(
+                v.getId(),
+                v.getName(),
+                v.getType(),
+                v.getPointBalance()
+        );
+    }
+}
@@ -0,0 +1,47 @@
+-- V17: 유저별 세션 누적 집계 테이블
+-- 이유: 세션 통계 탭이 매 요청마다 전체 세션을 다시 읽지 않도록
+--       GameSessionService 쓰기 시점에 같은 트랜잭션에서 증분 갱신한다.
+--       (재계산은 SessionStatsRebuildJob 이 game_sessions 기준으로 수행)
+
+CREATE TABLE user_session_stats (
+  user_id             BIGINT         NOT NULL,
+
+  total_sessions      BIGINT         NOT NULL DEFAULT 0,
+  total_buy_in        BIGINT         NOT NULL DEFAULT 0,
+  total_prize         BIGINT         NOT NULL DEFAULT 0,
+  total_profit        BIGINT         NOT NULL DEFAULT 0,
+  itm_count           BIGINT         NOT NULL DEFAULT 0,
+
+  -- 표준편차 계산용 Σ(netProfit²)
+  profit_sum_sq       DECIMAL(38, 0) NOT NULL DEFAULT 0,
+
+  -- ITM / 미입상 연속 기록 (play_date, id 순서 기준)
+  current_itm_streak  INT            NOT NULL DEFAULT 0,
+  current_lose_streak INT            NOT NULL DEFAULT 0,
+  max_itm_streak      INT            NOT NULL DEFAULT 0,
+  max_lose_streak     INT            NOT NULL DEFAULT 0,
+
+  -- 연속 기록을 이어붙일 수 있는지 판단하기 위한 마지막 세션 위치
+  last_play_date      DATE           NULL,
+  last_session_id     BIGINT         NULL,
+
+  updated_at          DATETIME       NOT NULL DEFAULT CURRENT_TIMESTAMP
+                                     ON UPDATE CURRENT_TIMESTAMP,
+
+  PRIMARY KEY (user_id)
+);
+
+CREATE TABLE user_session_type_stats (
+  id             BIGINT      NOT NULL AUTO_INCREMENT,
+  user_id        BIGINT      NOT NULL,
+  session_type   VARCHAR(30) NOT NULL,
+
+  sessions       BIGINT      NOT NULL DEFAULT 0,
+  total_buy_in   BIGINT      NOT NULL DEFAULT 0,
+  total_prize    BIGINT      NOT NULL DEFAULT 0,
+  total_profit   BIGINT      NOT NULL DEFAULT 0,
+  itm_count      BIGINT      NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (id),
+  CONSTRAINT uk_user_session_type_stats UNIQUE (user_id, session_type)
+);
@@ -0,0 +1,3 @@
+-- 매장 통계 GROUP BY venue_id 용 (user_id, session_type = 'VENUE' 범위 조회)
+CREATE INDEX idx_gs_user_type_venue
+  ON game_sessions (user_id, session_type, venue_id);
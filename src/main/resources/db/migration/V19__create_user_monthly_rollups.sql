@@ -0,0 +1,35 @@
+-- V19: 유저 × 월 세션 롤업
+-- 이유: 대시보드 추세 / 월간 요약 / 장기 추세 차트가 원본 세션을 다시 읽지 않도록
+--       GameSessionService 쓰기 시점에 user_session_stats 와 같은 트랜잭션에서 증분 갱신한다.
+-- ym: play_date 의 연월 (yyyymm, 예: 202512)
+
+CREATE TABLE user_monthly_rollups (
+  id             BIGINT   NOT NULL AUTO_INCREMENT,
+  user_id        BIGINT   NOT NULL,
+  ym             INT      NOT NULL,
+
+  sessions       BIGINT   NOT NULL DEFAULT 0,
+  total_buy_in   BIGINT   NOT NULL DEFAULT 0,
+  total_prize    BIGINT   NOT NULL DEFAULT 0,
+  total_profit   BIGINT   NOT NULL DEFAULT 0,
+  itm_count      BIGINT   NOT NULL DEFAULT 0,
+  itm_prize      BIGINT   NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (id),
+  CONSTRAINT uk_user_monthly_rollups UNIQUE (user_id, ym)
+);
+
+-- 기존 세션 백필
+INSERT INTO user_monthly_rollups
+  (user_id, ym, sessions, total_buy_in, total_prize, total_profit, itm_count, itm_prize)
+SELECT user_id,
+       YEAR(play_date) * 100 + MONTH(play_date),
+       COUNT(*),
+       COALESCE(SUM(total_buy_in), 0),
+       COALESCE(SUM(prize), 0),
+       COALESCE(SUM(net_profit), 0),
+       SUM(CASE WHEN prize > 0 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN prize > 0 THEN prize ELSE 0 END)
+FROM game_sessions
+WHERE play_date IS NOT NULL
+GROUP BY user_id, YEAR(play_date) * 100 + MONTH(play_date);
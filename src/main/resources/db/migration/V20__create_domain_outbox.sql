@@ -0,0 +1,24 @@
+-- V20: 도메인 변경 아웃박스
+-- 이유: 세션 / 매장 / 일지 변경을 같은 트랜잭션에서 기록해 두고,
+--       무거운 파생 계산(집계 재계산 등)은 백그라운드 디스패처가 처리한다.
+-- status: PENDING → DONE (성공) / DEAD (재시도 한도 초과)
+
+CREATE TABLE domain_outbox (
+  id               BIGINT       NOT NULL AUTO_INCREMENT,
+  user_id          BIGINT       NOT NULL,
+  aggregate_type   VARCHAR(30)  NOT NULL,
+  aggregate_id     BIGINT       NULL,
+  event_type       VARCHAR(50)  NOT NULL,
+
+  status           VARCHAR(10)  NOT NULL DEFAULT 'PENDING',
+  attempts         INT          NOT NULL DEFAULT 0,
+  next_attempt_at  DATETIME(3)  NOT NULL,
+  last_error       VARCHAR(500) NULL,
+
+  created_at       DATETIME(3)  NOT NULL,
+  processed_at     DATETIME(3)  NULL,
+
+  PRIMARY KEY (id),
+  INDEX idx_domain_outbox_status_next (status, next_attempt_at, id),
+  INDEX idx_domain_outbox_user_status (user_id, status, id)
+);
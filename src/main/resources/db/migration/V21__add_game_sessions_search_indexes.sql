@@ -0,0 +1,19 @@
+-- V21: 세션 검색(/api/game-sessions/search)용 복합 인덱스
+-- 모든 검색은 user_id = ? 로 시작하고 (play_date desc, id desc) 로 정렬한다.
+-- 기존: idx_gs_user_date (user_id, play_date)
+--       idx_game_session_month_collab (user_id, play_date, session_type, is_collab, venue_id)
+--       idx_gs_user_type_venue (user_id, session_type, venue_id)
+
+-- 게임 타입 조건 + 날짜 정렬/범위 (예: GTD 만)
+CREATE INDEX idx_gs_user_game_type_date
+  ON game_sessions (user_id, game_type, play_date);
+
+-- 매장 조건 + 날짜 정렬/범위 (예: 특정 매장 기록)
+CREATE INDEX idx_gs_user_venue_date
+  ON game_sessions (user_id, venue_id, play_date);
+
+-- 바이인 범위 조건 (예: 10만 이상)
+-- (user_id, total_buy_in) 순서면 기간 조건 / play_date 정렬에 못 쓰므로 날짜를 앞에 두고
+-- 바이인 조건은 인덱스 안에서(ICP) 거른다.
+CREATE INDEX idx_gs_user_date_buy_in
+  ON game_sessions (user_id, play_date, total_buy_in);
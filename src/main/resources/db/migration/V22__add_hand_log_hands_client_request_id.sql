@@ -0,0 +1,8 @@
+-- V22: 핸드 일괄 기록(/hands/batch) 멱등 키
+-- 클라이언트가 핸드마다 만든 키. 같은 유저의 같은 키는 한 번만 저장된다 (재전송 시 중복 방지)
+-- 단건 API 로 만든 핸드는 NULL (UNIQUE 에서 NULL 은 중복 허용)
+ALTER TABLE hand_log_hands
+  ADD COLUMN client_request_id VARCHAR(64) NULL AFTER blind_level_id;
+
+CREATE UNIQUE INDEX uk_hand_log_hands_user_client_request
+  ON hand_log_hands (user_id, client_request_id);
@@ -0,0 +1,37 @@
+-- V23: 스타팅 핸드 169 분류 코드 (HandClass)
+-- 0 ~ 168 = row * 13 + col, 랭크 순서 AKQJT98765432
+-- 페어는 대각선, 수딧은 row < col, 오프수트는 row > col. 랭크를 알 수 없으면 NULL
+ALTER TABLE hand_log_hands
+  ADD COLUMN hand_class TINYINT UNSIGNED NULL AFTER suited;
+
+-- 백필: first/second rank 우선, 없으면 hole_cards 앞 두 글자 (HandClass.of 와 같은 규칙)
+-- 같은 테이블을 읽으면서 UPDATE 할 수 없으므로 임시 테이블에 랭크 인덱스를 먼저 뽑는다
+CREATE TEMPORARY TABLE tmp_hand_class AS
+SELECT hand_id,
+       LOCATE(r1, 'AKQJT98765432') - 1 AS i1,
+       LOCATE(r2, 'AKQJT98765432') - 1 AS i2,
+       is_suited
+  FROM (
+    SELECT hand_id,
+           UPPER(IF(CHAR_LENGTH(TRIM(first_rank)) = 1, TRIM(first_rank), SUBSTRING(TRIM(hole_cards), 1, 1))) AS r1,
+           UPPER(IF(CHAR_LENGTH(TRIM(second_rank)) = 1, TRIM(second_rank), SUBSTRING(TRIM(hole_cards), 2, 1))) AS r2,
+           (suited = 1 OR (CHAR_LENGTH(TRIM(hole_cards)) = 3 AND LOWER(RIGHT(TRIM(hole_cards), 1)) = 's')) AS is_suited
+      FROM hand_log_hands
+  ) raw
+ WHERE CHAR_LENGTH(r1) = 1
+   AND CHAR_LENGTH(r2) = 1;
+
+UPDATE hand_log_hands h
+  JOIN tmp_hand_class c ON c.hand_id = h.hand_id
+   SET h.hand_class = CASE
+         WHEN c.i1 = c.i2 THEN c.i1 * 13 + c.i1
+         WHEN c.is_suited THEN LEAST(c.i1, c.i2) * 13 + GREATEST(c.i1, c.i2)
+         ELSE GREATEST(c.i1, c.i2) * 13 + LEAST(c.i1, c.i2)
+       END
+ WHERE c.i1 >= 0
+   AND c.i2 >= 0;
+
+DROP TEMPORARY TABLE tmp_hand_class;
+
+CREATE INDEX idx_hand_log_hands_user_class
+  ON hand_log_hands (user_id, hand_class);
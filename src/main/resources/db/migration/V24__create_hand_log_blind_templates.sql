@@ -0,0 +1,32 @@
+-- V24: 블라인드 구조 템플릿
+-- user_id 가 NULL 이면 시스템(공용) 템플릿 → 모든 유저가 조회 / 적용 가능, 수정 / 삭제 불가
+CREATE TABLE hand_log_blind_templates (
+  template_id BIGINT NOT NULL AUTO_INCREMENT,
+  user_id BIGINT NULL,
+
+  name VARCHAR(100) NOT NULL,
+  level_count INT NOT NULL DEFAULT 0,
+
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at DATETIME NULL DEFAULT NULL ON UPDATE CURRENT_TIMESTAMP,
+
+  PRIMARY KEY (template_id),
+  INDEX idx_hand_log_blind_templates_user (user_id, created_at)
+);
+
+CREATE TABLE hand_log_blind_template_levels (
+  template_level_id BIGINT NOT NULL AUTO_INCREMENT,
+  template_id BIGINT NOT NULL,
+
+  level_no INT NOT NULL,
+  small_blind INT NOT NULL DEFAULT 0,
+  big_blind INT NOT NULL DEFAULT 0,
+  ante INT NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (template_level_id),
+  INDEX idx_hand_log_blind_template_levels_template (template_id, level_no),
+  CONSTRAINT fk_hand_log_blind_template_levels_template
+    FOREIGN KEY (template_id)
+    REFERENCES hand_log_blind_templates (template_id)
+    ON DELETE CASCADE
+);
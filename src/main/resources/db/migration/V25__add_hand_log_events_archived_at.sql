@@ -0,0 +1,7 @@
+-- V25: 대회 보관 (archived_at 이 있으면 목록에서 숨김, 행은 그대로)
+ALTER TABLE hand_log_events
+  ADD COLUMN archived_at DATETIME NULL DEFAULT NULL AFTER venue_id;
+
+-- 목록: user_id = ? AND archived_at IS NULL ORDER BY event_at DESC, created_at DESC
+CREATE INDEX idx_hand_log_events_user_archived_event_at
+  ON hand_log_events (user_id, archived_at, event_at, created_at);
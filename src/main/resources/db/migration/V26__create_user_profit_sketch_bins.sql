@@ -0,0 +1,23 @@
+-- V26: 세션 통계 탭을 전체 세션 스캔 없이 만들기 위한 테이블 / 인덱스
+-- 이유: 분위수 / 자동 히스토그램은 손익 스케치 버킷에서, Top·Worst 는 손익 인덱스에서 바로 읽는다.
+--       버킷은 user_session_stats 와 같은 트랜잭션에서 증감으로 유지한다.
+
+CREATE TABLE user_profit_sketch_bins (
+  id         BIGINT     NOT NULL AUTO_INCREMENT,
+  user_id    BIGINT     NOT NULL,
+  -- 1 양수 / -1 음수 / 0 영 (ProfitSketch 로그 버킷 위치)
+  sign       TINYINT    NOT NULL,
+  bin_index  INT        NOT NULL,
+  cnt        BIGINT     NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (id),
+  CONSTRAINT uk_user_profit_sketch_bins UNIQUE (user_id, sign, bin_index)
+);
+
+-- Top / Worst 세션 (user_id = ? ORDER BY net_profit LIMIT 3)
+CREATE INDEX idx_gs_user_net_profit
+  ON game_sessions (user_id, net_profit);
+
+-- 기존 집계 행은 비워서 다음 접근 때 스케치 버킷까지 포함해 재계산되게 한다
+-- (SessionStatsAggregateService.needsRebuild: 세션 0건 행 = 재계산 대상)
+DELETE FROM user_session_stats;
@@ -0,0 +1,97 @@
+-- V27: 아웃박스 핸들러가 유지하는 읽기 모델
+-- 이유: 매장 통계 / 컨디션 분석 / 연속 기록 재계산은 유저 세션 전체를 읽는 계산이라
+--       요청 경로에서 빼고, 세션 / 매장 / 일지 변경 이벤트를 받은 핸들러가 다시 만든다.
+
+-- 매장별 세션 합계 (VenueStatsProjectionHandler)
+CREATE TABLE user_venue_stats (
+  id             BIGINT       NOT NULL AUTO_INCREMENT,
+  user_id        BIGINT       NOT NULL,
+  venue_id       BIGINT       NOT NULL,
+  venue_name     VARCHAR(100) NULL,
+  sessions       BIGINT       NOT NULL DEFAULT 0,
+  total_buy_in   BIGINT       NOT NULL DEFAULT 0,
+  total_prize    BIGINT       NOT NULL DEFAULT 0,
+  total_profit   BIGINT       NOT NULL DEFAULT 0,
+  itm_count      BIGINT       NOT NULL DEFAULT 0,
+  -- field_entries > 0 인 세션 수 / 합계 (평균 엔트리용)
+  entry_samples  BIGINT       NOT NULL DEFAULT 0,
+  entry_sum      BIGINT       NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (id),
+  CONSTRAINT uk_user_venue_stats UNIQUE (user_id, venue_id)
+);
+
+-- 일지 점수별 하루 손익 합계 (ConditionStatsProjectionHandler)
+CREATE TABLE user_condition_stats (
+  id             BIGINT       NOT NULL AUTO_INCREMENT,
+  user_id        BIGINT       NOT NULL,
+  -- MOOD / FOCUS / ENERGY / TILT
+  metric         VARCHAR(10)  NOT NULL,
+  score          INT          NOT NULL,
+  journal_count  BIGINT       NOT NULL DEFAULT 0,
+  profit_sum     BIGINT       NOT NULL DEFAULT 0,
+  buy_in_sum     BIGINT       NOT NULL DEFAULT 0,
+
+  PRIMARY KEY (id),
+  CONSTRAINT uk_user_condition_stats UNIQUE (user_id, metric, score)
+);
+
+-- 연속 기록 재계산이 필요한 상태 (과거 날짜 추가 / ITM·날짜 수정 / 삭제 / 가져오기)
+-- 1 이면 SessionStreakProjectionHandler 가 다시 계산하고 0 으로 되돌린다.
+ALTER TABLE user_session_stats
+  ADD COLUMN streaks_stale TINYINT(1) NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기
+INSERT INTO user_venue_stats
+  (user_id, venue_id, venue_name, sessions, total_buy_in, total_prize, total_profit,
+   itm_count, entry_samples, entry_sum)
+SELECT s.user_id,
+       s.venue_id,
+       v.name,
+       COUNT(*),
+       COALESCE(SUM(s.total_buy_in), 0),
+       COALESCE(SUM(s.prize), 0),
+       COALESCE(SUM(s.net_profit), 0),
+       SUM(CASE WHEN s.prize > 0 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN s.field_entries > 0 THEN 1 ELSE 0 END),
+       COALESCE(SUM(CASE WHEN s.field_entries > 0 THEN s.field_entries ELSE 0 END), 0)
+FROM game_sessions s
+LEFT JOIN venues v ON v.id = s.venue_id
+WHERE s.session_type = 'VENUE'
+  AND s.venue_id IS NOT NULL
+GROUP BY s.user_id, s.venue_id, v.name;
+
+INSERT INTO user_condition_stats
+  (user_id, metric, score, journal_count, profit_sum, buy_in_sum)
+SELECT x.user_id, x.metric, x.score, COUNT(*), SUM(x.profit), SUM(x.buy_in)
+FROM (
+  SELECT sc.user_id,
+         m.metric,
+         CASE m.metric
+           WHEN 'MOOD'   THEN sc.mood_score
+           WHEN 'FOCUS'  THEN sc.focus_score
+           WHEN 'ENERGY' THEN sc.energy_score
+           ELSE sc.tilt_score
+         END AS score,
+         sc.profit,
+         sc.buy_in
+  FROM (
+    SELECT j.user_id, j.mood_score, j.focus_score, j.energy_score, j.tilt_score,
+           COALESCE(d.profit, 0) AS profit,
+           COALESCE(d.buy_in, 0) AS buy_in
+    FROM game_journals j
+    LEFT JOIN (
+      SELECT user_id, play_date,
+             SUM(net_profit) AS profit,
+             SUM(total_buy_in) AS buy_in
+      FROM game_sessions
+      WHERE play_date IS NOT NULL
+      GROUP BY user_id, play_date
+    ) d ON d.user_id = j.user_id AND d.play_date = j.journal_date
+  ) sc
+  CROSS JOIN (
+    SELECT 'MOOD' AS metric UNION ALL SELECT 'FOCUS' UNION ALL SELECT 'ENERGY' UNION ALL SELECT 'TILT'
+  ) m
+) x
+WHERE x.score IS NOT NULL
+GROUP BY x.user_id, x.metric, x.score;
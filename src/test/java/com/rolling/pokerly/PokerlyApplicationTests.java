@@ -3,8 +3,11 @@ package com.rolling.pokerly;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import com.rolling.pokerly.support.MariaDbContainerTest;
+
+// 로컬 DB(127.0.0.1:3306) 대신 컨테이너 MariaDB + Flyway 로 컨텍스트를 띄운다 (Docker 없으면 건너뜀)
 @SpringBootTest
-class PokerlyApplicationTests {
+class PokerlyApplicationTests extends MariaDbContainerTest {
 
 	@Test
 	void contextLoads() {
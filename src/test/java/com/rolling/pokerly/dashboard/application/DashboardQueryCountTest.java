@@ -0,0 +1,131 @@
+package com.rolling.pokerly.dashboard.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.core.cache.CacheNames;
+import com.rolling.pokerly.core.config.AsyncExecutorConfig;
+import com.rolling.pokerly.core.config.CacheConfig;
+import com.rolling.pokerly.statistics.application.MonthlyTrendService;
+import com.rolling.pokerly.support.MariaDbContainerTest;
+import com.rolling.pokerly.venue.application.VenueDirectoryService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 월간 대시보드가 고정된 개수의 쿼리만 실행하는지 확인
+ *
+ * 이번 달 + 최근 3개 세션(UNION 1개) / 6개월 롤업 / 매장 디렉터리 = 최대 3개.
+ * 매장 디렉터리(이름 + 잔여 포인트)는 운영과 같은 캐시 매니저로 캐시되므로, 캐시가 찬 뒤에는 2개다.
+ * 병렬 조회 스레드는 데이터를 따로 읽으므로 테스트 트랜잭션 없이 커밋된 데이터로 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        DashboardService.class,
+        VenueDirectoryService.class,
+        MonthlyTrendService.class,
+        AsyncExecutorConfig.class,
+        CacheConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DashboardQueryCountTest extends MariaDbContainerTest {
+
+    private static final long USER_ID = 9001L;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private VenueDirectoryService venueDirectoryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        for (int v = 0; v < 5; v++) {
+            jdbcTemplate.update(
+                    "INSERT INTO venues (user_id, name, point_balance) VALUES (?, ?, ?)",
+                    USER_ID, "venue-" + v, v * 10_000L);
+        }
+        var venueIds = jdbcTemplate.queryForList("SELECT id FROM venues WHERE user_id = ?", Long.class, USER_ID);
+
+        // 6개월에 걸쳐 세션 300개
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < 300; i++) {
+            long buyIn = 10_000L * (1 + i % 20);
+            long prize = i % 4 == 0 ? buyIn * 3 : 0L;
+            jdbcTemplate.update("""
+                    INSERT INTO game_sessions
+                      (user_id, venue_id, play_date, session_type, buy_in_per_entry, entries, discount,
+                       total_buy_in, prize, net_profit)
+                    VALUES (?, ?, ?, 'VENUE', ?, 1, 0, ?, ?, ?)
+                    """,
+                    USER_ID, venueIds.get(i % venueIds.size()), start.plusDays(i % 180),
+                    buyIn, buyIn, prize, prize - buyIn);
+        }
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        // 같은 월을 다시 부르면 대시보드 캐시에서 나오므로 매번 비우고, 매장 디렉터리는 미리 채운다
+        cacheManager.getCache(CacheNames.DASHBOARD_MONTHLY).clear();
+        venueDirectoryService.getDirectory(USER_ID);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void monthlyDashboardRunsFixedNumberOfStatements() {
+        var res = dashboardService.getMonthly(USER_ID, 2026, 6);
+
+        assertThat(res.recentSessions()).hasSize(3);
+        assertThat(res.remainingPointVenues()).hasSize(4);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void emptyMonthDoesNotAddStatements() {
+        var res = dashboardService.getMonthly(USER_ID, 2025, 1);
+
+        // 이번 달 세션이 없어도 최근 3개는 같은 쿼리에서 나온다
+        assertThat(res.recentSessions()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void coldDirectoryCacheStaysWithinThreeStatements() {
+        cacheManager.getCache(CacheNames.VENUE_DIRECTORY).clear();
+
+        dashboardService.getMonthly(USER_ID, 2026, 3);
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+}
@@ -0,0 +1,114 @@
+package com.rolling.pokerly.gamesession.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.gamesession.application.SessionImportRowParser.Format;
+
+class SessionImportRowParserTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void formatFromContentType() {
+        assertThat(Format.fromContentType("text/csv; charset=UTF-8")).isEqualTo(Format.CSV);
+        assertThat(Format.fromContentType("application/x-ndjson")).isEqualTo(Format.NDJSON);
+        assertThat(Format.fromContentType("application/jsonl")).isEqualTo(Format.NDJSON);
+        assertThatThrownBy(() -> Format.fromContentType("application/json"))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getCode()).isEqualTo("UNSUPPORTED_IMPORT_FORMAT"));
+    }
+
+    @Test
+    void csvHeaderIsCaseInsensitiveAndMayHaveBom() {
+        var parser = new SessionImportRowParser(Format.CSV, objectMapper);
+
+        assertThat(parser.consumeHeader("\uFEFFPLAYDATE,SessionType,buyinperentry,Entries,prize,isCollab")).isTrue();
+        assertThat(parser.consumeHeader("2026-03-01,VENUE,1,1,0,0")).isFalse();
+
+        var req = parser.parse("2026-03-01,ONLINE,55000,2,0,yes");
+
+        assertThat(req.playDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(req.sessionType()).isEqualTo("ONLINE");
+        assertThat(req.buyInPerEntry()).isEqualTo(55_000L);
+        assertThat(req.entries()).isEqualTo(2);
+        assertThat(req.prize()).isZero();
+        assertThat(req.isCollab()).isTrue();
+        assertThat(req.venueId()).isNull();
+    }
+
+    @Test
+    void csvQuotedFieldsAndEmptyValues() {
+        var parser = new SessionImportRowParser(Format.CSV, objectMapper);
+        parser.consumeHeader("playDate,notes,prize,gameType,fieldEntries");
+
+        var req = parser.parse("2026-03-02,\"final table, \"\"deep\"\" run\",\"1,200,000\",,");
+
+        assertThat(req.notes()).isEqualTo("final table, \"deep\" run");
+        assertThat(req.prize()).isEqualTo(1_200_000L);
+        assertThat(req.gameType()).isNull();
+        assertThat(req.fieldEntries()).isNull();
+    }
+
+    @Test
+    void csvHeaderWithoutPlayDateIsRejected() {
+        var parser = new SessionImportRowParser(Format.CSV, objectMapper);
+
+        assertThatThrownBy(() -> parser.consumeHeader("sessionType,prize"))
+                .isInstanceOfSatisfying(ApiException.class,
+                        e -> assertThat(e.getCode()).isEqualTo("INVALID_IMPORT_HEADER"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-03-01,abc,0",           // 숫자 아님
+            "2026/03/01,1000,0",          // 날짜 형식
+            "2026-03-01,1000,maybe",      // boolean
+            "2026-03-01,\"1000,0",        // 닫히지 않은 따옴표
+    })
+    void csvInvalidRowsAreRejectedPerRow(String line) {
+        var parser = new SessionImportRowParser(Format.CSV, objectMapper);
+        parser.consumeHeader("playDate,buyInPerEntry,isCollab");
+
+        assertThatThrownBy(() -> parser.parse(line))
+                .isInstanceOfSatisfying(ApiException.class, e -> assertThat(e.getCode()).isEqualTo("INVALID_ROW"));
+    }
+
+    @Test
+    void csvIntOverflowIsRejected() {
+        var parser = new SessionImportRowParser(Format.CSV, objectMapper);
+        parser.consumeHeader("playDate,entries");
+
+        assertThatThrownBy(() -> parser.parse("2026-03-01,3000000000"))
+                .isInstanceOfSatisfying(ApiException.class, e -> assertThat(e.getCode()).isEqualTo("INVALID_ROW"));
+    }
+
+    @Test
+    void ndjsonLine() {
+        var parser = new SessionImportRowParser(Format.NDJSON, objectMapper);
+
+        assertThat(parser.consumeHeader("{\"playDate\":\"2026-03-01\"}")).isFalse();
+
+        var req = parser.parse("\uFEFF{\"playDate\":\"2026-03-03\",\"sessionType\":\"VENUE\",\"venueId\":3,\"prize\":100000}");
+
+        assertThat(req.playDate()).isEqualTo(LocalDate.of(2026, 3, 3));
+        assertThat(req.venueId()).isEqualTo(3L);
+        assertThat(req.prize()).isEqualTo(100_000L);
+    }
+
+    @Test
+    void ndjsonMalformedLineIsRejected() {
+        var parser = new SessionImportRowParser(Format.NDJSON, objectMapper);
+
+        assertThatThrownBy(() -> parser.parse("{\"playDate\":"))
+                .isInstanceOfSatisfying(ApiException.class, e -> assertThat(e.getCode()).isEqualTo("INVALID_ROW"));
+    }
+}
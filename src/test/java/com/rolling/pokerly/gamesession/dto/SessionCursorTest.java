@@ -0,0 +1,49 @@
+package com.rolling.pokerly.gamesession.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.rolling.pokerly.core.exception.ApiException;
+import com.rolling.pokerly.gamesession.domain.GameSession;
+
+class SessionCursorTest {
+
+    @Test
+    void roundTrip() {
+        var cursor = new SessionCursor(LocalDate.of(2026, 2, 28), 123_456L);
+
+        var encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(SessionCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(SessionCursor.decode("  " + encoded + " ")).isEqualTo(cursor);
+    }
+
+    @Test
+    void ofTakesPlayDateAndId() {
+        var session = GameSession.builder().id(7L).playDate(LocalDate.of(2026, 1, 5)).build();
+
+        assertThat(SessionCursor.of(session)).isEqualTo(new SessionCursor(LocalDate.of(2026, 1, 5), 7L));
+    }
+
+    @Test
+    void blankMeansFirstPage() {
+        assertThat(SessionCursor.decode(null)).isNull();
+        assertThat(SessionCursor.decode("")).isNull();
+        assertThat(SessionCursor.decode("   ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"%%%", "bm9wZQ", "MjAyNi0xMy0wMToxMg", "MjAyNi0wMS0wMTphYmM"})
+    void invalidCursorIsBadRequest(String raw) {
+        // 순서대로: base64 아님, 구분자 없음("nope"), 없는 날짜("2026-13-01:12"), 숫자 아닌 id("2026-01-01:abc")
+        assertThatThrownBy(() -> SessionCursor.decode(raw))
+                .isInstanceOfSatisfying(ApiException.class, e -> assertThat(e.getCode()).isEqualTo("INVALID_CURSOR"));
+    }
+}
@@ -0,0 +1,127 @@
+package com.rolling.pokerly.gamesession.repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.rolling.pokerly.support.MariaDbContainerTest;
+
+/**
+ * 세션 검색 조건별로 V21 복합 인덱스를 타는지 EXPLAIN 으로 확인
+ *
+ * 쿼리는 GameSessionSearchRepositoryImpl 이 만드는 형태 그대로 (user_id 조건 + play_date desc, id desc + LIMIT).
+ * 조건 값은 전체 행의 10~20% 정도만 걸리도록 시드해서, 정렬용 (user_id, play_date) 인덱스를 거꾸로 훑는 것보다
+ * 조건 인덱스가 싸게 나오게 한다. 실제로 고른 key 가 의도한 인덱스인지까지 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class GameSessionSearchIndexTest extends MariaDbContainerTest {
+
+    private static final long USER_ID = 7001L;
+    private static final String ORDER = " ORDER BY play_date DESC, id DESC LIMIT 21";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long venueId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO venues (user_id, name) VALUES (?, 'search-venue')", USER_ID);
+        venueId = jdbcTemplate.queryForObject("SELECT id FROM venues WHERE user_id = ?", Long.class, USER_ID);
+
+        // 유저 20명 x 200 세션 (게임 타입 / 매장 / 바이인이 고루 섞이도록)
+        String[] gameTypes = {"REGULAR", "DEEPSTACK", "TURBO"};
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int u = 0; u < 20; u++) {
+            for (int i = 0; i < 200; i++) {
+                long userId = USER_ID + u;
+                boolean venue = userId == USER_ID && i % 10 == 0;
+                long buyIn = 10_000L * (1 + (i * 7 + u) % 30);
+                long prize = i % 4 == 0 ? buyIn * 2 : 0L;
+                rows.add(new Object[] {
+                        userId,
+                        venue ? venueId : null,
+                        start.plusDays(i * 2L),
+                        venue ? "VENUE" : "ONLINE",
+                        i % 10 == 0 ? "GTD" : gameTypes[i % gameTypes.length],
+                        buyIn,
+                        buyIn,
+                        prize,
+                        prize - buyIn
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO game_sessions
+                  (user_id, venue_id, play_date, session_type, game_type, buy_in_per_entry, entries, discount,
+                   total_buy_in, prize, net_profit)
+                VALUES (?, ?, ?, ?, ?, ?, 1, 0, ?, ?, ?)
+                """, rows);
+        jdbcTemplate.execute("ANALYZE TABLE game_sessions");
+    }
+
+    @Test
+    void gameTypeUsesGameTypeDateIndex() {
+        var plan = explain("SELECT * FROM game_sessions WHERE user_id = ? AND game_type = ?" + ORDER,
+                USER_ID, "GTD");
+
+        assertIndexed(plan, "idx_gs_user_game_type_date");
+    }
+
+    @Test
+    void venueUsesVenueDateIndex() {
+        var plan = explain("SELECT * FROM game_sessions WHERE user_id = ? AND venue_id = ?" + ORDER,
+                USER_ID, venueId);
+
+        assertIndexed(plan, "idx_gs_user_venue_date");
+    }
+
+    @Test
+    void buyInRangeUsesDateBuyInIndex() {
+        var plan = explain("""
+                SELECT * FROM game_sessions
+                WHERE user_id = ? AND play_date BETWEEN ? AND ? AND total_buy_in >= ?
+                """ + ORDER,
+                USER_ID, LocalDate.of(2025, 3, 2), LocalDate.of(2025, 9, 30), 250_000L);
+
+        assertIndexed(plan, "idx_gs_user_date_buy_in");
+    }
+
+    @Test
+    void totalsQueryUsesUserIndex() {
+        var plan = explain("""
+                SELECT count(*), sum(total_buy_in), sum(prize), sum(net_profit)
+                FROM game_sessions
+                WHERE user_id = ? AND game_type = ? AND prize > 0
+                """,
+                USER_ID, "GTD");
+
+        assertIndexed(plan, "idx_gs_user_game_type_date");
+    }
+
+    private Map<String, Object> explain(String sql, Object... args) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, args).get(0);
+    }
+
+    private static void assertIndexed(Map<String, Object> plan, String expectedKey) {
+        assertThat(String.valueOf(plan.get("type"))).as("plan %s", plan).isNotEqualTo("ALL");
+        assertThat(String.valueOf(plan.get("key"))).as("plan %s", plan).isEqualTo(expectedKey);
+    }
+}
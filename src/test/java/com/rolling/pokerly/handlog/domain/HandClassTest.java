@@ -0,0 +1,65 @@
+package com.rolling.pokerly.handlog.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class HandClassTest {
+
+    @Test
+    void gridLayout() {
+        assertThat(HandClass.code(0, 0, false)).isEqualTo(0);       // AA
+        assertThat(HandClass.code(0, 1, true)).isEqualTo(1);        // AKs
+        assertThat(HandClass.code(0, 1, false)).isEqualTo(13);      // AKo
+        assertThat(HandClass.code(1, 1, false)).isEqualTo(14);      // KK
+        assertThat(HandClass.code(12, 12, true)).isEqualTo(168);    // 22 (페어는 수딧 무시)
+        assertThat(HandClass.code(12, 0, true)).isEqualTo(HandClass.code(0, 12, true));
+    }
+
+    @Test
+    void labelRoundTripCoversAll169Classes() {
+        Set<String> labels = new HashSet<>();
+        for (int code = 0; code < HandClass.COUNT; code++) {
+            String label = HandClass.label(code);
+            labels.add(label);
+
+            boolean suited = label.endsWith("s");
+            assertThat(HandClass.of(null, null, suited, label)).as(label).isEqualTo(code);
+        }
+
+        assertThat(labels).hasSize(HandClass.COUNT);
+        assertThat(HandClass.label(0)).isEqualTo("AA");
+        assertThat(HandClass.label(1)).isEqualTo("AKs");
+        assertThat(HandClass.label(13)).isEqualTo("AKo");
+        assertThat(HandClass.label(168)).isEqualTo("22");
+    }
+
+    @Test
+    void ofPrefersExplicitRanks() {
+        assertThat(HandClass.of("K", "A", true, "72o")).isEqualTo(1);
+        assertThat(HandClass.of("10", "j", false, null)).isEqualTo(HandClass.code(3, 4, false));
+        assertThat(HandClass.of(" q ", "Q", null, null)).isEqualTo(28);
+    }
+
+    @Test
+    void ofReadsHoleCardsWhenRanksMissing() {
+        assertThat(HandClass.of(null, null, null, "AKs")).isEqualTo(1);
+        assertThat(HandClass.of("", " ", false, " akS ")).isEqualTo(1);
+        assertThat(HandClass.of(null, null, null, "AKo")).isEqualTo(13);
+        assertThat(HandClass.of(null, null, null, "AK")).isEqualTo(13);
+        assertThat(HandClass.of(null, null, true, "AK")).isEqualTo(1);
+    }
+
+    @Test
+    void unknownRanksAreNull() {
+        assertThat(HandClass.of(null, null, null, null)).isNull();
+        assertThat(HandClass.of(null, null, null, "A")).isNull();
+        assertThat(HandClass.of("X", "A", null, null)).isNull();
+        assertThat(HandClass.of("AK", "Q", null, null)).isNull();
+        assertThat(HandClass.rankIndex('1')).isEqualTo(-1);
+        assertThat(HandClass.rankIndex('t')).isEqualTo(4);
+    }
+}
@@ -0,0 +1,117 @@
+package com.rolling.pokerly.statistics.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.rolling.pokerly.gamesession.repo.DailySessionAggregate;
+import com.rolling.pokerly.gamesession.repo.GameSessionRepository;
+import com.rolling.pokerly.gamesession.repo.SessionPrizeRow;
+import com.rolling.pokerly.statistics.domain.UserMonthlyRollup;
+import com.rolling.pokerly.statistics.repo.UserMonthlyRollupRepository;
+
+/**
+ * 월간 통계 요약은 월별 롤업 한 행에서, 일별 / 하이라이트는 GROUP BY 프로젝션에서 조립되는지 확인 (엔티티 조회 없음)
+ */
+class MonthlyStatisticsServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate START = LocalDate.of(2026, 3, 1);
+    private static final LocalDate END = LocalDate.of(2026, 3, 31);
+    private static final int YM = 202603;
+
+    private GameSessionRepository repository;
+    private UserMonthlyRollupRepository rollupRepository;
+    private MonthlyStatisticsService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(GameSessionRepository.class);
+        rollupRepository = mock(UserMonthlyRollupRepository.class);
+        service = new MonthlyStatisticsService(repository, rollupRepository);
+    }
+
+    @Test
+    void emptyMonthReturnsZeroSummaryWithoutSessionQueries() {
+        when(rollupRepository.findByUserIdAndYm(USER_ID, YM)).thenReturn(Optional.empty());
+
+        var res = service.getMonthlyStatistics(USER_ID, 2026, 3);
+
+        assertThat(res.summary().totalSessions()).isZero();
+        assertThat(res.daily()).isEmpty();
+        assertThat(res.highlights().bestSessionProfit()).isNull();
+        assertThat(res.highlights().maxConsecutiveITM()).isNull();
+
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void summaryComesFromRollup() {
+        when(rollupRepository.findByUserIdAndYm(USER_ID, YM)).thenReturn(Optional.of(rollup(5L, 500_000L, 500_000L, 0L, 1L, 500_000L)));
+        when(repository.aggregateDailyByUserIdAndPlayDateBetween(USER_ID, START, END)).thenReturn(List.of(
+                // date, count, buyIn, prize, profit, itmCount, itmPrize, max, min
+                new DailySessionAggregate(LocalDate.of(2026, 3, 2), 2L, 200_000L, 500_000L, 300_000L, 1L, 500_000L, 400_000L, -100_000L),
+                new DailySessionAggregate(LocalDate.of(2026, 3, 9), 3L, 300_000L, 0L, -300_000L, 0L, 0L, -50_000L, -150_000L)));
+        when(repository.findPrizeRowsByUserIdAndPlayDateBetween(USER_ID, START, END)).thenReturn(List.of(
+                new SessionPrizeRow(1L, LocalDate.of(2026, 3, 2), 500_000L),
+                new SessionPrizeRow(2L, LocalDate.of(2026, 3, 2), 0L),
+                new SessionPrizeRow(3L, LocalDate.of(2026, 3, 9), 0L)));
+
+        var res = service.getMonthlyStatistics(USER_ID, 2026, 3);
+        var summary = res.summary();
+
+        assertThat(summary.totalSessions()).isEqualTo(5L);
+        assertThat(summary.totalBuyIn()).isEqualTo(500_000L);
+        assertThat(summary.totalPrize()).isEqualTo(500_000L);
+        assertThat(summary.totalProfit()).isEqualTo(0L);
+        assertThat(summary.itmCount()).isEqualTo(1L);
+        assertThat(summary.itmRatio()).isEqualTo(0.2);
+        assertThat(summary.avgBuyIn()).isEqualTo(100_000.0);
+        assertThat(summary.avgPrize()).isEqualTo(500_000.0);
+
+        assertThat(res.daily()).hasSize(2);
+        assertThat(res.daily().get(0).date()).isEqualTo(LocalDate.of(2026, 3, 2));
+        assertThat(res.daily().get(1).profit()).isEqualTo(-300_000L);
+
+        assertThat(res.highlights().bestSessionProfit()).isEqualTo(400_000L);
+        assertThat(res.highlights().worstSessionProfit()).isEqualTo(-150_000L);
+        assertThat(res.highlights().maxConsecutiveITM()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsPrizeRowQueryWhenNoItm() {
+        when(rollupRepository.findByUserIdAndYm(USER_ID, YM)).thenReturn(Optional.of(rollup(1L, 100_000L, 0L, -100_000L, 0L, 0L)));
+        when(repository.aggregateDailyByUserIdAndPlayDateBetween(USER_ID, START, END)).thenReturn(List.of(
+                new DailySessionAggregate(LocalDate.of(2026, 3, 5), 1L, 100_000L, 0L, -100_000L, 0L, 0L, -100_000L, -100_000L)));
+
+        var res = service.getMonthlyStatistics(USER_ID, 2026, 3);
+
+        assertThat(res.highlights().maxConsecutiveITM()).isZero();
+        verify(repository, never()).findPrizeRowsByUserIdAndPlayDateBetween(eq(USER_ID), any(), any());
+    }
+
+    private static UserMonthlyRollup rollup(long sessions, long buyIn, long prize, long profit, long itmCount, long itmPrize) {
+        return UserMonthlyRollup.builder()
+                .userId(USER_ID)
+                .ym(YM)
+                .sessions(sessions)
+                .totalBuyIn(buyIn)
+                .totalPrize(prize)
+                .totalProfit(profit)
+                .itmCount(itmCount)
+                .itmPrize(itmPrize)
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.rolling.pokerly.statistics.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import com.rolling.pokerly.gamesession.domain.GameSession;
+
+/**
+ * 단일 패스 누적기 합계 / 그룹 / 연속 기록 확인
+ */
+class SessionStatsAccumulatorTest {
+
+    @Test
+    void emptyAccumulatorReturnsZeros() {
+        var acc = SessionStatsAccumulator.create().groupByType();
+
+        assertThat(acc.isEmpty()).isTrue();
+        assertThat(acc.totals().getSessions()).isZero();
+        assertThat(acc.maxItmStreak()).isZero();
+        assertThat(acc.byType()).isEmpty();
+    }
+
+    @Test
+    void totalsAndItm() {
+        var acc = SessionStatsAccumulator.create();
+        acc.accept(session(1, "VENUE", 1L, 100_000, 300_000));
+        acc.accept(session(2, "VENUE", 1L, 100_000, 0));
+        acc.accept(session(3, "ONLINE", null, 50_000, 0));
+
+        var t = acc.totals();
+        assertThat(t.getSessions()).isEqualTo(3);
+        assertThat(t.getTotalBuyIn()).isEqualTo(250_000);
+        assertThat(t.getTotalPrize()).isEqualTo(300_000);
+        assertThat(t.getTotalProfit()).isEqualTo(50_000);
+        assertThat(t.getItmCount()).isEqualTo(1);
+        assertThat(t.getItmPrize()).isEqualTo(300_000);
+    }
+
+    @Test
+    void streaksFollowInputOrder() {
+        var acc = SessionStatsAccumulator.create();
+        for (boolean itm : new boolean[] {true, true, false, false, false, true, true, true, false}) {
+            acc.acceptItm(itm);
+        }
+
+        assertThat(acc.maxItmStreak()).isEqualTo(3);
+    }
+
+    @Test
+    void groupsOnlyWhenEnabled() {
+        var acc = SessionStatsAccumulator.create().groupByType().groupByVenue().groupByMonth();
+        acc.accept(session(1, "VENUE", 1L, 100_000, 0));
+        acc.accept(session(2, null, 2L, 100_000, 0));
+        acc.accept(session(3, "VENUE", 1L, 100_000, 250_000));
+
+        assertThat(acc.byType()).containsOnlyKeys("VENUE", SessionStatsAggregateService.UNKNOWN_TYPE);
+        assertThat(acc.byType().get("VENUE").getTotalProfit()).isEqualTo(50_000);
+        assertThat(acc.byVenue().get(1L).getSessions()).isEqualTo(2);
+        assertThat(acc.byMonth()).containsOnlyKeys(YearMonth.of(2026, 3));
+
+        var venueOnly = SessionStatsAccumulator.create().groupByVenue();
+        venueOnly.accept(session(4, "VENUE", 1L, 100_000, 0));
+        assertThat(venueOnly.byType()).isEmpty();
+        assertThat(venueOnly.byMonth()).isEmpty();
+    }
+
+    private static GameSession session(long id, String type, Long venueId, long buyIn, long prize) {
+        return GameSession.builder()
+                .id(id)
+                .userId(1L)
+                .venueId(venueId)
+                .sessionType(type)
+                .playDate(LocalDate.of(2026, 3, 1).plusDays(id % 28))
+                .totalBuyIn(buyIn)
+                .prize(prize)
+                .netProfit(prize - buyIn)
+                .build();
+    }
+}
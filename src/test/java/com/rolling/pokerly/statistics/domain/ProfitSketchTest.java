@@ -0,0 +1,150 @@
+package com.rolling.pokerly.statistics.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스케치 분위수가 정확한 분위수 대비 상대오차 안에 드는지, merge 가 한 번에 넣은 것과 같은지 확인
+ */
+class ProfitSketchTest {
+
+    private static final double[] QUANTILES = {0.05, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99};
+
+    @Test
+    void emptySketchReturnsZeros() {
+        var sketch = ProfitSketch.create();
+
+        assertThat(sketch.isEmpty()).isTrue();
+        assertThat(sketch.quantile(0.5)).isZero();
+        assertThat(sketch.min()).isZero();
+        assertThat(sketch.max()).isZero();
+        assertThat(sketch.bins()).isEmpty();
+    }
+
+    @Test
+    void quantilesWithinRelativeAccuracy() {
+        long[] values = randomProfits(new Random(1), 5_000);
+        var sketch = ProfitSketch.create();
+        for (long v : values) sketch.add(v);
+
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        for (double q : QUANTILES) {
+            long exact = sorted[(int) Math.floor(q * (sorted.length - 1))];
+            long approx = sketch.quantile(q);
+            assertThat((double) Math.abs(approx - exact))
+                    .as("q=%s exact=%d approx=%d", q, exact, approx)
+                    .isLessThanOrEqualTo(Math.abs(exact) * ProfitSketch.DEFAULT_RELATIVE_ACCURACY + 1);
+        }
+        assertThat(sketch.quantile(0)).isEqualTo(sorted[0]);
+        assertThat(sketch.quantile(1)).isEqualTo(sorted[sorted.length - 1]);
+        assertThat(sketch.count()).isEqualTo(values.length);
+    }
+
+    @Test
+    void binsAreAscendingAndCountEverything() {
+        var sketch = ProfitSketch.create();
+        for (long v : new long[] {-300_000, -100_000, 0, 0, 50_000, 1_000_000}) sketch.add(v);
+
+        var bins = sketch.bins();
+        assertThat(bins.stream().mapToLong(ProfitSketch.Bin::count).sum()).isEqualTo(6);
+        for (int i = 1; i < bins.size(); i++) {
+            assertThat(bins.get(i).value()).isGreaterThan(bins.get(i - 1).value());
+        }
+        assertThat(bins.get(0).value()).isGreaterThanOrEqualTo(-300_000);
+        assertThat(bins.get(bins.size() - 1).value()).isLessThanOrEqualTo(1_000_000);
+    }
+
+    @Test
+    void mergeEqualsSingleSketch() {
+        var random = new Random(2);
+        long[] a = randomProfits(random, 1_000);
+        long[] b = randomProfits(random, 700);
+
+        var left = ProfitSketch.create();
+        var right = ProfitSketch.create();
+        var whole = ProfitSketch.create();
+        for (long v : a) {
+            left.add(v);
+            whole.add(v);
+        }
+        for (long v : b) {
+            right.add(v);
+            whole.add(v);
+        }
+
+        left.merge(right).merge(ProfitSketch.create());
+
+        assertThat(left.count()).isEqualTo(whole.count());
+        assertThat(left.min()).isEqualTo(whole.min());
+        assertThat(left.max()).isEqualTo(whole.max());
+        assertThat(left.bins()).isEqualTo(whole.bins());
+        for (double q : QUANTILES) {
+            assertThat(left.quantile(q)).isEqualTo(whole.quantile(q));
+        }
+    }
+
+    @Test
+    void restoreFromStoredBinsEqualsOriginal() {
+        long[] values = randomProfits(new Random(3), 2_000);
+        var original = ProfitSketch.create();
+        var incremental = new HashMap<ProfitSketch.StoredBin, Long>();
+        for (long v : values) {
+            original.add(v);
+            // 세션 쓰기 때처럼 값 하나씩 버킷 위치를 찾아서 센다
+            var bin = original.locate(v);
+            incremental.merge(new ProfitSketch.StoredBin(bin.sign(), bin.index(), 0L), 1L, Long::sum);
+        }
+
+        var restored = ProfitSketch.restore(original.storedBins(), original.min(), original.max());
+        var fromIncrements = ProfitSketch.restore(
+                incremental.entrySet().stream()
+                        .map(e -> new ProfitSketch.StoredBin(e.getKey().sign(), e.getKey().index(), e.getValue()))
+                        .toList(),
+                original.min(),
+                original.max());
+
+        assertThat(restored.count()).isEqualTo(original.count());
+        assertThat(restored.bins()).isEqualTo(original.bins());
+        assertThat(fromIncrements.bins()).isEqualTo(original.bins());
+        for (double q : QUANTILES) {
+            assertThat(restored.quantile(q)).isEqualTo(original.quantile(q));
+        }
+    }
+
+    @Test
+    void restoreSkipsEmptyBins() {
+        var restored = ProfitSketch.restore(
+                List.of(new ProfitSketch.StoredBin(1, 10, 0L), new ProfitSketch.StoredBin(-1, 3, -1L)),
+                -5, 5);
+
+        assertThat(restored.isEmpty()).isTrue();
+        assertThat(restored.min()).isZero();
+    }
+
+    @Test
+    void mergeRejectsDifferentAccuracy() {
+        assertThatThrownBy(() -> ProfitSketch.create().merge(new ProfitSketch(0.05)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 대부분 바이인만큼 잃고 가끔 큰 금액을 따는 토너먼트 손익 분포
+    private static long[] randomProfits(Random random, int n) {
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            long buyIn = 10_000L * (1 + random.nextInt(30));
+            int roll = random.nextInt(10);
+            long prize = roll < 7 ? 0L : roll < 9 ? buyIn * (1 + random.nextInt(3)) : buyIn * (5 + random.nextInt(50));
+            values[i] = prize - buyIn;
+        }
+        return values;
+    }
+}
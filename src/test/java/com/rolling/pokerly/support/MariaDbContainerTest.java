@@ -0,0 +1,20 @@
+package com.rolling.pokerly.support;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MariaDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 실제 MariaDB(Flyway 마이그레이션 적용)가 필요한 테스트 공통 부모
+ *
+ * 쿼리 수 / EXPLAIN 처럼 H2 로는 확인할 수 없는 것만 여기서 검증한다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MariaDbContainerTest {
+
+    @Container
+    @ServiceConnection
+    protected static final MariaDBContainer<?> MARIADB = new MariaDBContainer<>("mariadb:11.4");
+}